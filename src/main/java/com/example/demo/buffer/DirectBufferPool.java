@@ -0,0 +1,186 @@
+package com.example.demo.buffer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 음성 데이터(PCM/MP3)용 direct ByteBuffer 풀
+ * - 요청마다 통째로 할당하던 큰 byte[] (G1 humongous 객체) 대신 힙 밖 버퍼를 재사용한다
+ * - 크기는 64KB 부터 2의 거듭제곱 단위로 나누고, 풀에 보관하는 전체 용량을 제한한다
+ * - max-buffer-bytes 보다 큰 요청은 풀을 거치지 않고 힙 버퍼로 처리 (fallback)
+ * - leak-detection 을 켜면 반환되지 않은 버퍼의 할당 위치를 기록한다 (테스트용)
+ *
+ * 지표 (/actuator/metrics/voice.buffer.pool.*)
+ * - voice.buffer.pool.acquire{result=hit|miss|fallback}
+ * - voice.buffer.pool.release{result=pooled|dropped}
+ * - voice.buffer.pool.pooled.bytes, voice.buffer.pool.leased.bytes, voice.buffer.pool.leased
+ */
+@Component
+public class DirectBufferPool {
+
+    private static final int MIN_SHIFT = 16; // 64KB
+
+    private final int maxBufferBytes;
+    private final long maxPooledBytes;
+    private final boolean leakDetection;
+
+    private final ConcurrentLinkedDeque<ByteBuffer>[] classes;
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final AtomicLong leasedBytes = new AtomicLong();
+    private final AtomicInteger leased = new AtomicInteger();
+
+    // leak-detection 사용 시 반환되지 않은 버퍼 → 할당 위치
+    private final Map<Lease, Throwable> outstanding = new ConcurrentHashMap<>();
+
+    private final Counter hit;
+    private final Counter miss;
+    private final Counter fallback;
+    private final Counter releasedPooled;
+    private final Counter releasedDropped;
+
+    @SuppressWarnings("unchecked")
+    public DirectBufferPool(MeterRegistry registry,
+                            @Value("${voice.buffer-pool.max-buffer-bytes:33554432}") int maxBufferBytes,
+                            @Value("${voice.buffer-pool.max-pooled-bytes:67108864}") long maxPooledBytes,
+                            @Value("${voice.buffer-pool.leak-detection:false}") boolean leakDetection) {
+        this.maxBufferBytes = maxBufferBytes;
+        this.maxPooledBytes = maxPooledBytes;
+        this.leakDetection = leakDetection;
+
+        int classCount = sizeClass(maxBufferBytes) + 1;
+        this.classes = new ConcurrentLinkedDeque[classCount];
+        for (int i = 0; i < classCount; i++) {
+            classes[i] = new ConcurrentLinkedDeque<>();
+        }
+
+        this.hit = acquireCounter(registry, "hit");
+        this.miss = acquireCounter(registry, "miss");
+        this.fallback = acquireCounter(registry, "fallback");
+        this.releasedPooled = Counter.builder("voice.buffer.pool.release").tag("result", "pooled").register(registry);
+        this.releasedDropped = Counter.builder("voice.buffer.pool.release").tag("result", "dropped").register(registry);
+        Gauge.builder("voice.buffer.pool.pooled.bytes", pooledBytes, AtomicLong::get).register(registry);
+        Gauge.builder("voice.buffer.pool.leased.bytes", leasedBytes, AtomicLong::get).register(registry);
+        Gauge.builder("voice.buffer.pool.leased", leased, AtomicInteger::get).register(registry);
+    }
+
+    private static Counter acquireCounter(MeterRegistry registry, String result) {
+        return Counter.builder("voice.buffer.pool.acquire").tag("result", result).register(registry);
+    }
+
+    /**
+     * capacity 바이트 이상을 담을 수 있는 버퍼 대여 (position 0, limit capacity)
+     * 반드시 close() 로 반환해야 한다 (try-with-resources)
+     */
+    public Lease acquire(int capacity) {
+        if (capacity > maxBufferBytes) {
+            fallback.increment();
+            return lease(ByteBuffer.allocate(capacity), capacity, -1);
+        }
+
+        int sizeClass = sizeClass(capacity);
+        ByteBuffer buffer = classes[sizeClass].pollFirst();
+        if (buffer != null) {
+            pooledBytes.addAndGet(-buffer.capacity());
+            hit.increment();
+        } else {
+            buffer = ByteBuffer.allocateDirect(1 << (MIN_SHIFT + sizeClass));
+            miss.increment();
+        }
+        return lease(buffer, capacity, sizeClass);
+    }
+
+    private Lease lease(ByteBuffer buffer, int capacity, int sizeClass) {
+        buffer.clear().limit(capacity);
+        Lease lease = new Lease(buffer, sizeClass);
+        leased.incrementAndGet();
+        leasedBytes.addAndGet(buffer.capacity());
+        if (leakDetection) {
+            outstanding.put(lease, new Throwable("버퍼 할당 위치"));
+        }
+        return lease;
+    }
+
+    private void release(Lease lease) {
+        leased.decrementAndGet();
+        leasedBytes.addAndGet(-lease.buffer.capacity());
+        if (leakDetection) {
+            outstanding.remove(lease);
+        }
+        if (lease.sizeClass < 0) {
+            return;
+        }
+
+        // 보관 한도를 넘으면 버리고 GC/Cleaner 가 해제하게 둔다
+        int size = lease.buffer.capacity();
+        if (pooledBytes.addAndGet(size) > maxPooledBytes) {
+            pooledBytes.addAndGet(-size);
+            releasedDropped.increment();
+            return;
+        }
+        lease.buffer.clear();
+        classes[lease.sizeClass].offerFirst(lease.buffer);
+        releasedPooled.increment();
+    }
+
+    // 반환되지 않은 버퍼 수
+    public int leasedCount() {
+        return leased.get();
+    }
+
+    public long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    // 반환되지 않은 버퍼의 할당 위치 (leak-detection 사용 시)
+    public List<Throwable> leaks() {
+        return new ArrayList<>(outstanding.values());
+    }
+
+    private static int sizeClass(int capacity) {
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+        return Math.max(0, shift - MIN_SHIFT);
+    }
+
+    /**
+     * 대여한 버퍼 - close() 후에는 buffer() 를 호출할 수 없다
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final ByteBuffer buffer;
+        private final int sizeClass;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(ByteBuffer buffer, int sizeClass) {
+            this.buffer = buffer;
+            this.sizeClass = sizeClass;
+        }
+
+        public ByteBuffer buffer() {
+            if (released.get()) {
+                throw new IllegalStateException("이미 반환된 버퍼입니다.");
+            }
+            return buffer;
+        }
+
+        // 중복 호출은 무시
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(this);
+            }
+        }
+    }
+}
@@ -11,8 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -26,14 +24,7 @@ public class ChatbotController {
     @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter stream(@RequestParam String prompt, @RequestParam String sessionId, @RequestParam(defaultValue = "1") Long members) throws JsonProcessingException {
         SseEmitter emitter = new SseEmitter();
-        List<Chatting> history = chatbotDao.selectChatting(sessionId);
-        Collections.reverse(history);
-        List<Map<String, String>> messages = new ArrayList<>();
-        for (Chatting c : history) {
-            String role = c.getRole().equals("bot") ? "assistant" : c.getRole();
-            messages.add(Map.of("role", role, "content", c.getContent()));
-        }
-        messages.add(Map.of("role", "user", "content", prompt));
+        List<Map<String, String>> messages = chatbotService.buildMessages(sessionId, prompt);
         chatbotService.streamChatting(messages, sessionId, members, chunk -> {
             try {
                 emitter.send(chunk);
@@ -0,0 +1,16 @@
+package com.example.demo.chatbot.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 챗봇(assistant) 응답이 chats 테이블에 저장된 직후 발행되는 이벤트
+ * 음성 모듈 등이 챗봇 서비스에 직접 의존하지 않고 후처리할 수 있도록 한다
+ */
+@Getter
+@AllArgsConstructor
+public class AssistantMessageSavedEvent {
+    private final long cid;          // 저장된 메시지 ID
+    private final String sessionId;  // 대화 세션 ID
+    private final String content;    // 응답 전문
+}
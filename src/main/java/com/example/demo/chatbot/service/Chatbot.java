@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.function.Consumer;
 
 public interface Chatbot {
+    public List<Map<String, String>> buildMessages(String sessionId, String prompt);
     public void streamChatting(List<Map<String, String>> messages, String sessionId, Long members, Consumer<String> consumer) throws JsonProcessingException;
     public List<Chatting> getChattingList(String sessionId);
     public ResponseEntity<String> storeChatting(Chatting chatting);
@@ -4,6 +4,7 @@ import com.example.demo.chatbot.dao.ChatbotDao;
 import com.example.demo.chatbot.dto.ChatCompletionChunk;
 import com.example.demo.chatbot.dto.Chatting;
 import com.example.demo.chatbot.dto.RagSource;
+import com.example.demo.chatbot.event.AssistantMessageSavedEvent;
 import com.example.demo.login.service.AuthenticationService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
 import org.springframework.util.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +34,7 @@ import java.util.function.Consumer;
 public class ChatbotService implements Chatbot{
     private final OkHttpClient client = new OkHttpClient();
     private final ChatbotDao chatbotDao;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${openai.key}")
     private String OPENAI_API_KEY;
@@ -38,6 +42,21 @@ public class ChatbotService implements Chatbot{
     private String MODEL;
 
     private final AuthenticationService authenticationService;
+
+    // 세션의 최근 대화 내역 + 새 질문으로 OpenAI 메시지 목록 구성
+    @Override
+    public List<Map<String, String>> buildMessages(String sessionId, String prompt) {
+        List<Chatting> history = chatbotDao.selectChatting(sessionId);
+        Collections.reverse(history);
+        List<Map<String, String>> messages = new ArrayList<>();
+        for (Chatting c : history) {
+            String role = c.getRole().equals("bot") ? "assistant" : c.getRole();
+            messages.add(Map.of("role", role, "content", c.getContent()));
+        }
+        messages.add(Map.of("role", "user", "content", prompt));
+        return messages;
+    }
+
     @Override
     public void streamChatting(List<Map<String, String>> messages, String sessionId, Long members, Consumer<String> consumer) throws JsonProcessingException {
         Long userId = authenticationService.getCurrentUserId();
@@ -163,8 +182,9 @@ public class ChatbotService implements Chatbot{
                         var choice = chunk.getChoices().get(0);
 
                         // 1) 델타가 오면 누적하고 즉시 클라이언트로 전송
+                        // 줄바꿈만 있는 델타도 문장 경계라 그대로 전달 (음성 대화의 문장 분할이 이를 기준으로 자른다)
                         String delta = choice.getDelta().getContent();
-                        if (delta != null && !delta.isBlank()) {
+                        if (delta != null && !delta.isEmpty()) {
                             aiBuilder.append(delta);
                             consumer.accept(json); // 중간 응답은 그대로
                         }
@@ -180,6 +200,8 @@ public class ChatbotService implements Chatbot{
                             try {
                                 chatbotDao.insertChatting(aiChat);
                                 cid = aiChat.getCid();
+                                // 저장 완료 알림 (TTS 사전 생성 등)
+                                eventPublisher.publishEvent(new AssistantMessageSavedEvent(cid, sessionId, aiChat.getContent()));
                             } catch (Exception e) {
                                 log.warn("AI 채팅 저장 실패: {}", e.getMessage());
                             }
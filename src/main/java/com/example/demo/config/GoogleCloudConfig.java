@@ -0,0 +1,119 @@
+package com.example.demo.config;
+
+import com.google.api.gax.core.BackgroundResource;
+import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.cloud.speech.v1.SpeechSettings;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageOptions;
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import com.google.cloud.texttospeech.v1.TextToSpeechSettings;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google Cloud (STT / TTS / Storage) 클라이언트 설정
+ * - 서비스 계정 키는 애플리케이션 시작 시 한 번만 읽는다
+ * - gRPC 채널은 싱글톤 클라이언트가 재사용하며 keep-alive 로 유휴 연결을 유지한다
+ * - 종료 시 진행 중인 호출이 끝날 때까지 기다린 뒤 채널을 닫는다
+ */
+@Slf4j
+@Configuration
+public class GoogleCloudConfig {
+
+    @Value("${google.credentials-path}")
+    private String credentialsPath;
+
+    @Value("${google.grpc.keep-alive-seconds:30}")
+    private long keepAliveSeconds;
+
+    @Value("${google.grpc.shutdown-timeout-seconds:10}")
+    private long shutdownTimeoutSeconds;
+
+    private final ResourceLoader resourceLoader;
+
+    // 종료 시 정리할 gRPC 클라이언트 목록
+    private final List<BackgroundResource> grpcClients = new CopyOnWriteArrayList<>();
+
+    public GoogleCloudConfig(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    @Bean
+    public GoogleCredentials googleCredentials() throws IOException {
+        try (InputStream credentialsStream = resourceLoader.getResource(credentialsPath).getInputStream()) {
+            return GoogleCredentials.fromStream(credentialsStream);
+        }
+    }
+
+    // 종료는 shutdownGrpcClients()에서 처리하므로 destroyMethod 추론을 끈다
+    @Bean(destroyMethod = "")
+    public SpeechClient speechClient(GoogleCredentials googleCredentials) throws IOException {
+        SpeechSettings settings = SpeechSettings.newBuilder()
+                .setCredentialsProvider(FixedCredentialsProvider.create(googleCredentials))
+                .setTransportChannelProvider(keepAliveChannel(SpeechSettings.defaultGrpcTransportProviderBuilder()))
+                .build();
+        SpeechClient client = SpeechClient.create(settings);
+        grpcClients.add(client);
+        return client;
+    }
+
+    @Bean(destroyMethod = "")
+    public TextToSpeechClient textToSpeechClient(GoogleCredentials googleCredentials) throws IOException {
+        TextToSpeechSettings settings = TextToSpeechSettings.newBuilder()
+                .setCredentialsProvider(FixedCredentialsProvider.create(googleCredentials))
+                .setTransportChannelProvider(keepAliveChannel(TextToSpeechSettings.defaultGrpcTransportProviderBuilder()))
+                .build();
+        TextToSpeechClient client = TextToSpeechClient.create(settings);
+        grpcClients.add(client);
+        return client;
+    }
+
+    // Storage는 HTTP 커넥션 풀을 내부에서 재사용하므로 인스턴스 하나를 공유한다
+    @Bean
+    public Storage googleStorage(GoogleCredentials googleCredentials) {
+        return StorageOptions.newBuilder()
+                .setCredentials(googleCredentials)
+                .build()
+                .getService();
+    }
+
+    private InstantiatingGrpcChannelProvider keepAliveChannel(InstantiatingGrpcChannelProvider.Builder builder) {
+        return builder
+                .setKeepAliveTime(org.threeten.bp.Duration.ofSeconds(keepAliveSeconds))
+                .setKeepAliveTimeout(org.threeten.bp.Duration.ofSeconds(10))
+                .setKeepAliveWithoutCalls(true)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdownGrpcClients() {
+        for (BackgroundResource client : grpcClients) {
+            client.shutdown();
+        }
+        for (BackgroundResource client : grpcClients) {
+            try {
+                if (!client.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                    log.warn("gRPC 클라이언트 종료 대기 시간 초과 - 강제 종료: {}", client.getClass().getSimpleName());
+                    client.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                client.shutdownNow();
+            }
+        }
+        log.info("Google Cloud gRPC 클라이언트 종료 완료");
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.config;
+
+import com.google.api.gax.core.BackgroundResource;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Google Cloud 클라이언트 상태 확인 (/actuator/health 의 googleCloud 항목)
+ * 과금되는 원격 호출 없이 공유 클라이언트의 채널 상태만 확인한다
+ */
+@Component("googleCloud")
+@RequiredArgsConstructor
+public class GoogleCloudHealthIndicator implements HealthIndicator {
+
+    private final SpeechClient speechClient;
+    private final TextToSpeechClient textToSpeechClient;
+
+    @Override
+    public Health health() {
+        boolean speechUp = isUp(speechClient);
+        boolean ttsUp = isUp(textToSpeechClient);
+
+        Health.Builder builder = (speechUp && ttsUp) ? Health.up() : Health.down();
+        return builder
+                .withDetail("speech", speechUp ? "UP" : "SHUTDOWN")
+                .withDetail("textToSpeech", ttsUp ? "UP" : "SHUTDOWN")
+                .build();
+    }
+
+    private boolean isUp(BackgroundResource client) {
+        return !client.isShutdown() && !client.isTerminated();
+    }
+}
@@ -45,6 +45,9 @@ public class SecurityConfig {
                         // WebSocket 관련
                         .requestMatchers("/ws/**").permitAll()
 
+                        // 로컬 저장소 서명 URL (서명/만료 시간으로 검증, storage.type=local 일 때만 존재)
+                        .requestMatchers(HttpMethod.GET, "/storage/local/**").permitAll()
+
                         // Actuator health check
                         .requestMatchers("/actuator/health").permitAll()
 
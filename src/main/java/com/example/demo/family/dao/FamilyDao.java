@@ -295,6 +295,11 @@ public interface FamilyDao {
      */
     int deletePointActivitiesByFid(@Param("fid") Long fid);
 
+    /**
+     * 특정 가족의 보관된 포인트 활동 기록 삭제
+     */
+    int deletePointActivitiesArchiveByFid(@Param("fid") Long fid);
+
     /**
      * 특정 가족의 보상 기록 삭제
      */
@@ -6,7 +6,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.example.demo.leaderboard.service.LeaderboardService;
 import com.example.demo.plant.dao.PlantDao;
+import com.example.demo.plant.dao.PlantLedgerDao;
+import com.example.demo.plant.dao.PointRollupDao;
+import com.example.demo.plant.service.DailyActivityIndex;
+import com.example.demo.plant.service.PlantStatusCache;
 import com.example.demo.plant.service.PlantService;
 import com.example.demo.plant.dto.PlantStatusResponseDto;
 
@@ -35,6 +40,21 @@ public class FamilyService {
     @Autowired
     private PlantService plantService;
 
+    @Autowired
+    private DailyActivityIndex dailyActivityIndex;
+
+    @Autowired
+    private PlantStatusCache plantStatusCache;
+
+    @Autowired
+    private PointRollupDao pointRollupDao;
+
+    @Autowired
+    private PlantLedgerDao plantLedgerDao;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
     // 가족 요금제 추천 서비스 의존성 추가
     @Autowired
     private FamilyPlanRecommendationService familyPlanRecommendationService;
@@ -230,6 +250,8 @@ public class FamilyService {
 
             // 5. 새로운 가족에 참여
             familyDao.updateUserFamilyId(uid, targetFamily.getFid());
+            // 구성원 수가 바뀌어 경험치 기준이 달라지므로 식물 상태 캐시 무효화
+            plantStatusCache.evict(targetFamily.getFid());
 
             return CreateFamilyResponse.success(targetFamily,
                     "가족 '" + targetFamily.getName() + "'에 성공적으로 참여했습니다.");
@@ -472,6 +494,7 @@ public class FamilyService {
         if (removed == 0) {
             throw new FamilyServiceException("가족 탈퇴 처리에 실패했습니다.");
         }
+        plantStatusCache.evict(fid);
 
         // 가족에 구성원이 없다면 관련 데이터를 모두 삭제한 후 가족 스페이스 삭제
         int remainingMembers = familyDao.getFamilyMemberCount(fid);
@@ -479,6 +502,8 @@ public class FamilyService {
             try {
                 // 1. 가족 관련 모든 데이터 삭제 (외래키 순서대로)
                 deleteAllFamilyRelatedData(fid);
+                // 삭제된 오늘 활동 기록을 인덱스에서도 제거
+                dailyActivityIndex.forget(uid);
 
                 // 2. 마지막으로 가족 스페이스 삭제
                 familyDao.deleteFamilySpace(fid);
@@ -498,13 +523,17 @@ public class FamilyService {
      */
     private void deleteAllFamilyRelatedData(Long fid) {
         try {
-            // 1. Point_activities 삭제 (Plants를 참조하므로 먼저 삭제)
+            // 1. Point_activities 삭제 (Plants를 참조하므로 먼저 삭제) - 보관 테이블로 옮겨진 내역 포함
             familyDao.deletePointActivitiesByFid(fid);
+            familyDao.deletePointActivitiesArchiveByFid(fid);
+            pointRollupDao.deleteFamilyRollups(fid);
+            leaderboardService.removeFamily(fid);
 
             // 2. reward_log 삭제 (Plants를 참조하므로 먼저 삭제)
             familyDao.deleteRewardLogByFid(fid);
 
-            // 3. Plants 삭제 (Family_space를 참조)
+            // 3. Plants 삭제 (Family_space를 참조) - 식물 스냅샷 먼저
+            plantLedgerDao.deleteSnapshotsByFid(fid);
             familyDao.deletePlantsByFid(fid);
 
             // 4. Family_cards_comment 삭제 (Family_cards를 참조)
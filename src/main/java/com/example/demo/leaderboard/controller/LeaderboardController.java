@@ -0,0 +1,49 @@
+package com.example.demo.leaderboard.controller;
+
+import com.example.demo.leaderboard.dto.LeaderboardResponse;
+import com.example.demo.leaderboard.service.LeaderboardService;
+import com.example.demo.login.service.AuthenticationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+@Tag(name = "Leaderboard", description = "가족 / 구성원 포인트 순위 API")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+    private final AuthenticationService authenticationService;
+
+    @GetMapping("/families")
+    @Operation(summary = "가족 순위", description = "누적 포인트 기준 상위 가족과 내 가족의 순위를 반환합니다. 동점은 같은 순위입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    public ResponseEntity<LeaderboardResponse> families(
+            @Parameter(description = "상위 몇 개를 받을지 (최대 100)")
+            @RequestParam(defaultValue = "10") int limit) {
+        Long uid = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(leaderboardService.families(uid, limit));
+    }
+
+    @GetMapping("/members")
+    @Operation(summary = "구성원 순위", description = "누적 포인트 기준 상위 사용자와 내 순위를 반환합니다. 동점은 같은 순위입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    public ResponseEntity<LeaderboardResponse> members(
+            @Parameter(description = "상위 몇 개를 받을지 (최대 100)")
+            @RequestParam(defaultValue = "10") int limit) {
+        Long uid = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(leaderboardService.members(uid, limit));
+    }
+}
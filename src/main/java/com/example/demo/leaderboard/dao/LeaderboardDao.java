@@ -0,0 +1,25 @@
+package com.example.demo.leaderboard.dao;
+
+import com.example.demo.leaderboard.dto.LeaderboardName;
+import com.example.demo.leaderboard.service.Leaderboard;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Mapper
+public interface LeaderboardDao {
+    // 저장된 스냅샷 (board, member_id, score) 한 행씩 전달
+    void scanSnapshots(ResultHandler<Map<String, Object>> handler);
+    // 스냅샷 기준일 이후의 (board, member_id, period_start, points) 한 행씩 전달
+    void scanPointsAfterSnapshot(ResultHandler<Map<String, Object>> handler);
+    // 스냅샷 저장 (rows 는 비어 있으면 안 됨)
+    void upsertSnapshots(@Param("board") String board, @Param("rows") List<Leaderboard.Snapshot> rows);
+    void deleteSnapshot(@Param("board") String board, @Param("memberId") Long memberId);
+    // 순위 표시용 이름 (ids 는 비어 있으면 안 됨)
+    List<LeaderboardName> selectFamilyNames(@Param("ids") Collection<Long> ids);
+    List<LeaderboardName> selectUserNames(@Param("ids") Collection<Long> ids);
+}
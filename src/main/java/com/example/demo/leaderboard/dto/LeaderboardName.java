@@ -0,0 +1,11 @@
+package com.example.demo.leaderboard.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class LeaderboardName {
+    private Long id;
+    private String name;
+}
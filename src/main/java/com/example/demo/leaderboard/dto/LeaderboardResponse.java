@@ -0,0 +1,27 @@
+package com.example.demo.leaderboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 순위판 응답 - 상위 N개와 내(내 가족) 순위
+ */
+@Getter
+@AllArgsConstructor
+public class LeaderboardResponse {
+    private String board;        // families | members
+    private int total;           // 순위에 오른 전체 수
+    private List<Entry> top;
+    private Entry me;            // 아직 적립 내역이 없으면 null
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private int rank;        // 동점은 같은 순위
+        private Long id;         // fid 또는 uid
+        private String name;
+        private long score;      // 누적 포인트
+    }
+}
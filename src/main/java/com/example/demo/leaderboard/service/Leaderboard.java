@@ -0,0 +1,126 @@
+package com.example.demo.leaderboard.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 점수 순위판 하나 (가족 또는 구성원)
+ * - 순위 구조는 RankedSkipList, id → 현재 점수는 HashMap 으로 관리한다
+ * - 스냅샷 저장을 위해 최근 며칠의 날짜별 적립분과 마지막 스냅샷 이후 바뀐 id 를 기억한다
+ * 모든 메서드는 이 객체로 동기화한다 (적립은 건당 O(log n) 이라 잠금 시간이 짧다)
+ */
+public class Leaderboard {
+
+    /** 순위 항목 (동점은 같은 순위) */
+    public record Ranked(int rank, long id, long score) {
+    }
+
+    /** DB 스냅샷 한 행 - throughDate 까지의 적립 합계 */
+    public record Snapshot(long id, long score, LocalDate throughDate) {
+    }
+
+    private final RankedSkipList ranking = new RankedSkipList();
+    private final Map<Long, Long> scores = new HashMap<>();
+    // 날짜 → (id → 그 날 적립분), 스냅샷 기준일 이후 날짜만 유지
+    private final TreeMap<LocalDate, Map<Long, Long>> recent = new TreeMap<>();
+    private final Set<Long> dirty = new HashSet<>();
+
+    public synchronized void add(long id, long points, LocalDate date) {
+        if (points == 0) {
+            return;
+        }
+        Long current = scores.get(id);
+        if (current != null) {
+            ranking.remove(id, current);
+        }
+        long updated = (current == null ? 0 : current) + points;
+        scores.put(id, updated);
+        ranking.insert(id, updated);
+        recent.computeIfAbsent(date, d -> new HashMap<>()).merge(id, points, Long::sum);
+        dirty.add(id);
+    }
+
+    // 재구성 시 스냅샷 값 적재 (날짜별 적립분으로 기록하지 않음)
+    public synchronized void restore(long id, long score) {
+        Long current = scores.put(id, score);
+        if (current != null) {
+            ranking.remove(id, current);
+        }
+        ranking.insert(id, score);
+    }
+
+    public synchronized void remove(long id) {
+        Long current = scores.remove(id);
+        if (current != null) {
+            ranking.remove(id, current);
+        }
+        for (Map<Long, Long> day : recent.values()) {
+            day.remove(id);
+        }
+        dirty.remove(id);
+    }
+
+    public synchronized int size() {
+        return ranking.size();
+    }
+
+    public synchronized List<Ranked> top(int limit) {
+        List<Ranked> result = new ArrayList<>();
+        int rank = 0;
+        long previous = Long.MIN_VALUE;
+        for (RankedSkipList.Node node : ranking.range(0, limit)) {
+            if (rank == 0 || node.score != previous) {
+                rank = result.size() + 1;
+                previous = node.score;
+            }
+            result.add(new Ranked(rank, node.id, node.score));
+        }
+        return result;
+    }
+
+    // 순위 (점수가 없으면 null)
+    public synchronized Ranked rankOf(long id) {
+        Long score = scores.get(id);
+        if (score == null) {
+            return null;
+        }
+        return new Ranked(ranking.countAbove(score) + 1, id, score);
+    }
+
+    /**
+     * 마지막 스냅샷 이후 바뀐 항목을 throughDate 기준 합계로 반환하고 변경 표시를 지운다
+     * throughDate 이후 적립분은 재구성 시 집계 테이블에서 다시 더한다
+     */
+    public synchronized List<Snapshot> drainSnapshot(LocalDate throughDate) {
+        recent.headMap(throughDate, true).clear();
+        List<Snapshot> rows = new ArrayList<>(dirty.size());
+        for (Long id : dirty) {
+            Long score = scores.get(id);
+            if (score == null) {
+                continue;
+            }
+            long after = 0;
+            for (Map<Long, Long> day : recent.values()) {
+                after += day.getOrDefault(id, 0L);
+            }
+            rows.add(new Snapshot(id, score - after, throughDate));
+        }
+        dirty.clear();
+        return rows;
+    }
+
+    // 스냅샷 저장 실패 시 다음 주기에 다시 저장
+    public synchronized void markDirty(List<Snapshot> rows) {
+        for (Snapshot row : rows) {
+            if (scores.containsKey(row.id())) {
+                dirty.add(row.id());
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.demo.leaderboard.service;
+
+import com.example.demo.leaderboard.dao.LeaderboardDao;
+import com.example.demo.leaderboard.dto.LeaderboardName;
+import com.example.demo.leaderboard.dto.LeaderboardResponse;
+import com.example.demo.plant.dao.PlantDao;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.example.demo.transaction.TransactionCallbacks.afterCommit;
+
+/**
+ * 가족 / 구성원 누적 포인트 순위판
+ * - 순위는 메모리의 RankedSkipList 로 계산 (상위 N, 내 순위 모두 O(log n), DB 정렬 없음)
+ * - 포인트 적립이 커밋되면 PointService 가 recordPoints 를 호출해 그 자리에서 갱신한다
+ * - 주기적으로 바뀐 항목만 leaderboard_snapshot 에 저장하고, 기동 시 스냅샷 + 이후 point_rollup 으로 재구성한다
+ *
+ * 서버 한 대 기준 (다른 서버의 적립은 재기동 시 반영). 여러 서버 운영 시 스냅샷은 한 서버에서만 저장한다
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    // leaderboard_snapshot.board / point_rollup.scope 코드
+    private static final String FAMILY = "F";
+    private static final String MEMBER = "U";
+    private static final int MAX_LIMIT = 100;
+    // 스냅샷은 이틀 전까지의 합계로 저장 (자정을 넘겨 커밋되는 적립이 빠지지 않도록 여유를 둔다)
+    private static final int SNAPSHOT_LAG_DAYS = 2;
+    // 기동 시 재구성이 실패하면 이 간격으로 다시 시도
+    private static final long REBUILD_RETRY_SECONDS = 30;
+
+    private final LeaderboardDao leaderboardDao;
+    private final PlantDao plantDao;
+
+    // 재구성은 새 객체에 채운 뒤 교체한다
+    private volatile Leaderboard families = new Leaderboard();
+    private volatile Leaderboard members = new Leaderboard();
+    // 재구성 성공 전에는 적립 반영 / 스냅샷 저장을 하지 않는다 (재구성이 DB에서 다시 읽음)
+    private volatile boolean ready;
+
+    @Value("${leaderboard.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Value("${leaderboard.snapshot.interval-seconds:300}")
+    private long snapshotIntervalSeconds;
+
+    private ScheduledExecutorService scheduler;
+
+    public LeaderboardService(LeaderboardDao leaderboardDao, PlantDao plantDao) {
+        this.leaderboardDao = leaderboardDao;
+        this.plantDao = plantDao;
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "leaderboard-snapshot");
+            t.setDaemon(true);
+            return t;
+        });
+        // DB 장애로 재구성이 실패해도 기동은 막지 않는다 (순위판만 비어 있고 백그라운드에서 재시도)
+        if (!rebuildQuietly()) {
+            scheduler.schedule(this::retryRebuild, REBUILD_RETRY_SECONDS, TimeUnit.SECONDS);
+        }
+        if (snapshotEnabled) {
+            scheduler.scheduleWithFixedDelay(this::snapshotQuietly,
+                    snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        if (snapshotEnabled) {
+            snapshotQuietly();
+        }
+    }
+
+    // 스냅샷 + 스냅샷 이후 날짜별 집계로 순위판 재구성
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        Leaderboard rebuiltFamilies = new Leaderboard();
+        Leaderboard rebuiltMembers = new Leaderboard();
+        leaderboardDao.scanSnapshots(context -> {
+            Map<String, Object> row = context.getResultObject();
+            (FAMILY.equals(row.get("board")) ? rebuiltFamilies : rebuiltMembers).restore(
+                    ((Number) row.get("member_id")).longValue(), ((Number) row.get("score")).longValue());
+        });
+        leaderboardDao.scanPointsAfterSnapshot(context -> {
+            Map<String, Object> row = context.getResultObject();
+            (FAMILY.equals(row.get("board")) ? rebuiltFamilies : rebuiltMembers).add(
+                    ((Number) row.get("member_id")).longValue(),
+                    ((Number) row.get("points")).longValue(),
+                    toLocalDate(row.get("period_start")));
+        });
+        families = rebuiltFamilies;
+        members = rebuiltMembers;
+        ready = true;
+        log.info("순위판 재구성 완료: 가족 {}, 구성원 {} ({} ms)",
+                rebuiltFamilies.size(), rebuiltMembers.size(), System.currentTimeMillis() - started);
+    }
+
+    private boolean rebuildQuietly() {
+        try {
+            rebuild();
+            return true;
+        } catch (Exception e) {
+            log.error("순위판 재구성 실패 - {}초 후 재시도: {}", REBUILD_RETRY_SECONDS, e.getMessage());
+            return false;
+        }
+    }
+
+    // 재시도 중 커밋된 적립은 재구성 결과에 이미 들어 있을 수 있어 따로 반영하지 않는다
+    private void retryRebuild() {
+        if (!rebuildQuietly()) {
+            scheduler.schedule(this::retryRebuild, REBUILD_RETRY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    // 포인트 적립 후 호출 (트랜잭션 안이면 커밋 이후 반영)
+    public void recordPoints(Long fid, Long uid, int points, LocalDate date) {
+        afterCommit(() -> {
+            if (!ready) {
+                return;
+            }
+            families.add(fid, points, date);
+            members.add(uid, points, date);
+        });
+    }
+
+    // 가족 삭제 (트랜잭션 안이면 스냅샷은 함께 삭제, 메모리는 커밋 이후 반영)
+    public void removeFamily(Long fid) {
+        leaderboardDao.deleteSnapshot(FAMILY, fid);
+        afterCommit(() -> families.remove(fid));
+    }
+
+    public LeaderboardResponse families(Long uid, int limit) {
+        Long fid = plantDao.getUserFid(uid);
+        return response("families", families, fid, limit, leaderboardDao::selectFamilyNames);
+    }
+
+    public LeaderboardResponse members(Long uid, int limit) {
+        return response("members", members, uid, limit, leaderboardDao::selectUserNames);
+    }
+
+    private LeaderboardResponse response(String name, Leaderboard board, Long myId, int limit,
+                                         Function<List<Long>, List<LeaderboardName>> nameLookup) {
+        List<Leaderboard.Ranked> top = board.top(Math.max(1, Math.min(limit, MAX_LIMIT)));
+        Leaderboard.Ranked mine = myId == null ? null : board.rankOf(myId);
+
+        // 표시용 이름은 화면에 나오는 항목만 한 번에 조회
+        List<Long> ids = new ArrayList<>(top.size() + 1);
+        top.forEach(r -> ids.add(r.id()));
+        if (mine != null) {
+            ids.add(mine.id());
+        }
+        Map<Long, String> names = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (LeaderboardName n : nameLookup.apply(ids)) {
+                names.put(n.getId(), n.getName());
+            }
+        }
+
+        List<LeaderboardResponse.Entry> entries = new ArrayList<>(top.size());
+        for (Leaderboard.Ranked r : top) {
+            entries.add(toEntry(r, names));
+        }
+        return new LeaderboardResponse(name, board.size(), entries, mine == null ? null : toEntry(mine, names));
+    }
+
+    private static LeaderboardResponse.Entry toEntry(Leaderboard.Ranked r, Map<Long, String> names) {
+        return new LeaderboardResponse.Entry(r.rank(), r.id(), names.get(r.id()), r.score());
+    }
+
+    // 마지막 스냅샷 이후 바뀐 항목 저장
+    void snapshot() {
+        if (!ready) {
+            return;
+        }
+        LocalDate throughDate = LocalDate.now().minusDays(SNAPSHOT_LAG_DAYS);
+        save(FAMILY, families, throughDate);
+        save(MEMBER, members, throughDate);
+    }
+
+    private void save(String code, Leaderboard board, LocalDate throughDate) {
+        List<Leaderboard.Snapshot> rows = board.drainSnapshot(throughDate);
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            for (int from = 0; from < rows.size(); from += 500) {
+                leaderboardDao.upsertSnapshots(code, rows.subList(from, Math.min(rows.size(), from + 500)));
+            }
+        } catch (RuntimeException e) {
+            board.markDirty(rows);
+            throw e;
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            log.warn("순위판 스냅샷 저장 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
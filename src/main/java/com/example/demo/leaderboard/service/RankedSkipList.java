@@ -0,0 +1,159 @@
+package com.example.demo.leaderboard.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 스킵 리스트 (점수 내림차순, 같은 점수는 id 오름차순)
+ * - 각 링크에 건너뛰는 노드 수(span)를 함께 저장해 삽입/삭제/순위/N번째 조회가 모두 O(log n)
+ * - 동기화하지 않으므로 호출하는 쪽(Leaderboard)에서 잠금을 잡는다
+ */
+class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double P = 0.25;
+
+    static final class Node {
+        final long id;
+        final long score;
+        final Node[] next;
+        final int[] span;
+
+        Node(long id, long score, int level) {
+            this.id = id;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    private final Node head = new Node(0, 0, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(long id, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && precedes(x.next[i], id, score)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(id, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    boolean remove(long id, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && precedes(x.next[i], id, score)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        Node target = x.next[0];
+        if (target == null || target.id != id || target.score != score) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    // 점수가 score 보다 높은 항목 수 (동점은 같은 순위 → 순위 = countAbove + 1)
+    int countAbove(long score) {
+        int count = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].score > score) {
+                count += x.span[i];
+                x = x.next[i];
+            }
+        }
+        return count;
+    }
+
+    // 앞에서부터 offset 개를 건너뛴 뒤 최대 limit 개
+    List<Node> range(int offset, int limit) {
+        List<Node> result = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+        Node x = nodeAt(offset + 1);
+        while (x != null && result.size() < limit) {
+            result.add(x);
+            x = x.next[0];
+        }
+        return result;
+    }
+
+    // 1부터 시작하는 위치의 노드, 없으면 null
+    private Node nodeAt(int position) {
+        if (position < 1 || position > size) {
+            return null;
+        }
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= position) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == position) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private static boolean precedes(Node node, long id, long score) {
+        return node.score > score || (node.score == score && node.id < id);
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextDouble() < P) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
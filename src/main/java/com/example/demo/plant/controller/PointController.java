@@ -2,17 +2,21 @@ package com.example.demo.plant.controller;
 
 import com.example.demo.login.service.AuthenticationService;
 import com.example.demo.plant.dto.AddPointRequestDto;
+import com.example.demo.plant.dto.PointStatsResponse;
 import com.example.demo.plant.service.PointService;
+import com.example.demo.plant.service.PointStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -22,6 +26,7 @@ import java.util.List;
 public class PointController {
 
     private final PointService pointService;
+    private final PointStatsService pointStatsService;
     private final AuthenticationService authenticationService;
 
     @PostMapping(
@@ -68,4 +73,23 @@ public class PointController {
         List<Long> uids = pointService.getWateredMembers(fid);
         return ResponseEntity.ok(uids);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/stats")
+    @Operation(summary = "포인트 통계", description = "가족 또는 본인의 일별/주별 활동 유형별 포인트와 횟수를 반환합니다. 기간을 생략하면 일별 최근 7일, 주별 최근 4주입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 조건 또는 가족 미소속")
+    })
+    public ResponseEntity<PointStatsResponse> getStats(
+            @Parameter(description = "집계 대상 (family, user)")
+            @RequestParam(defaultValue = "family") String scope,
+            @Parameter(description = "집계 단위 (daily, weekly)")
+            @RequestParam(defaultValue = "daily") String period,
+            @Parameter(description = "시작일 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long uid = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(pointStatsService.getStats(uid, scope, period, from, to));
+    }
+}
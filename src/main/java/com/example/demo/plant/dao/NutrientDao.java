@@ -7,5 +7,6 @@ import org.apache.ibatis.annotations.Param;
 public interface NutrientDao {
     Integer getNutrientStock(@Param("fid") Long fid);
     Long getFamilyIdByUid(@Param("uid") Long uid);
-    void decrementNutrientStock(@Param("fid") Long fid);// 추가
+    // 재고가 있을 때만 1개 차감, 차감된 행 수 반환
+    int consumeNutrient(@Param("uid") Long uid);
 }
\ No newline at end of file
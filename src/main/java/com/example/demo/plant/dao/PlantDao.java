@@ -1,6 +1,6 @@
 package com.example.demo.plant.dao;
 
-import com.example.demo.plant.dto.PlantStatusResponseDto;
+import com.example.demo.plant.dto.PlantStatusSnapshot;
 import com.example.demo.plant.dto.RewardHistoryDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -12,8 +12,8 @@ public interface PlantDao {
 
     // 새 식물 레코드 생성
     void insertPlant(@Param("fid") Long fid, @Param("kid") int kid);
-    // 가장 최근 생성된 식물 상태 조회 (레벨, 경험치 등 // 내림차순으로 하나 선택)
-    PlantStatusResponseDto selectLatestPlantByFid(@Param("fid") Long fid);
+    // 가장 최근 생성된 식물 상태 + 구성원 수 조회 (식물이 없으면 null)
+    PlantStatusSnapshot selectPlantStatusSnapshot(@Param("fid") Long fid);
     // 해당 가족의 구성원 수 확인
     int selectFamilyMemberCount(@Param("fid") Long fid);
     // 아직 완료되지 않은 식물이 존재하는지 확인
@@ -30,6 +30,8 @@ public interface PlantDao {
     Long getUserFid(@Param("uid") Long uid);
     // 가장 마지막 식물 id 확인
     Long getLatestPlantId(@Param("fid") Long fid);
+    // 식물 행 잠금 (트랜잭션 종료까지) 후 잠근 시점의 레벨
+    int lockPlantLevel(@Param("pid") Long pid);
     // 완료 된 식물
     boolean isPlantCompleted(@Param("pid") Long pid);
     // 이미 보상을 받았는 지 확인
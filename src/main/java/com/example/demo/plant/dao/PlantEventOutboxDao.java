@@ -0,0 +1,25 @@
+package com.example.demo.plant.dao;
+
+import com.example.demo.plant.dto.PlantEventOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface PlantEventOutboxDao {
+    void insertEvents(@Param("fid") Long fid, @Param("nodeId") String nodeId, @Param("payload") String payload);
+
+    Long selectMaxId();
+
+    // afterId 초과 throughId 이하 중 다른 서버가 남긴 구독 가족의 이벤트 (id 순)
+    List<PlantEventOutbox> selectEvents(@Param("afterId") long afterId,
+                                        @Param("throughId") long throughId,
+                                        @Param("nodeId") String nodeId,
+                                        @Param("fids") Collection<Long> fids,
+                                        @Param("limit") int limit);
+
+    // 보관 시간이 지난 행 삭제
+    int deleteOlderThan(@Param("seconds") int seconds);
+}
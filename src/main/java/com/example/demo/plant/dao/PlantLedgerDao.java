@@ -0,0 +1,29 @@
+package com.example.demo.plant.dao;
+
+import com.example.demo.plant.dto.PlantLedgerEvent;
+import com.example.demo.plant.dto.PlantSnapshot;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.List;
+
+@Mapper
+public interface PlantLedgerDao {
+    // 스냅샷 저장 (같은 version 이면 덮어씀)
+    void upsertSnapshot(@Param("pid") Long pid, @Param("version") long version,
+                        @Param("level") int level, @Param("exp") int experience);
+    // 가장 최근 스냅샷 (없으면 null)
+    PlantSnapshot selectLatestSnapshot(@Param("pid") Long pid);
+    // afterVersion 이후 이벤트 (보관 테이블 포함, 순서대로) - 처음부터 재생하려면 -1
+    List<PlantLedgerEvent> selectEventsAfter(@Param("pid") Long pid, @Param("afterVersion") long afterVersion);
+    // 전체 이벤트를 식물 순 → 이벤트 순으로 한 행씩 전달 (전체 재생용)
+    void scanAllEvents(ResultHandler<PlantLedgerEvent> handler);
+    // 식물 행 잠금 후 현재 version 조회 (완료된 식물은 null)
+    Long selectVersionForUpdate(@Param("pid") Long pid);
+    // 재생 결과 반영 - 조회 이후 다른 적립이 없었을 때만 (변경된 행 수 반환)
+    int updateProjection(@Param("pid") Long pid, @Param("expectedVersion") long expectedVersion,
+                         @Param("level") int level, @Param("exp") int experience);
+    // 가족 삭제 시 스냅샷 삭제
+    int deleteSnapshotsByFid(@Param("fid") Long fid);
+}
@@ -0,0 +1,18 @@
+package com.example.demo.plant.dao;
+
+import com.example.demo.plant.dto.ActivityPointRule;
+import com.example.demo.plant.dto.LevelThresholdRule;
+import com.example.demo.plant.dto.RewardWeightRule;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface PlantRuleDao {
+    // 활동 유형별 포인트
+    List<ActivityPointRule> selectActivityPoints();
+    // 구성원 수 / 레벨별 경험치 기준
+    List<LevelThresholdRule> selectLevelThresholds();
+    // 보상 추첨 가중치
+    List<RewardWeightRule> selectRewardWeights();
+}
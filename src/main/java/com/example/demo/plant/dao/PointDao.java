@@ -1,7 +1,10 @@
 package com.example.demo.plant.dao;
 
+import com.example.demo.plant.dto.PlantSnapshot;
+import com.example.demo.plant.dto.PointAccrualContext;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.sql.Date;
 import java.util.List;
@@ -9,34 +12,27 @@ import java.util.Map;
 
 @Mapper
 public interface PointDao {
-    // 사용자가 오늘 특정 활동 했는지
-    boolean checkActivityExists(@Param("uid") Long uid, @Param("type") String type);
-    //해당 사용자의 가족 공간 ID 조회
-    Long getFamilyIdByUid(@Param("uid") Long uid);
-    // 활동 수행 내역
-    void insertActivity(Map<String, Object> activity);
+    // 사용자가 그 날 특정 활동 했는지 (date 는 적립 시 activity_date 와 같은 서버 기준 날짜)
+    boolean checkActivityExists(@Param("uid") Long uid, @Param("type") String type, @Param("date") Date date);
+    // 특정 날짜의 (uid, activity_type) 전체를 한 행씩 전달 (오늘 활동 인덱스 적재용)
+    void scanActivityKeysOn(@Param("date") Date date, ResultHandler<Map<String, Object>> handler);
+
+    // 적립 정보 조회 (가족, 최신 식물 id, 구성원 수, 이름/프로필) - 잠그지 않는다
+    PointAccrualContext selectAccrualContext(@Param("uid") Long uid);
+    // 식물 행 잠금 (트랜잭션 종료까지) 후 최신 version / 레벨 / 경험치
+    PlantSnapshot lockPlantProgress(@Param("pid") Long pid);
+    // 오늘 같은 활동이 없을 때만 활동 내역 저장 (저장된 행 수 반환, 0이면 이미 완료)
+    int insertActivityIfAbsent(Map<String, Object> activity);
+    // 레벨/경험치 반영
+    void updatePlantProgress(@Param("pid") Long pid, @Param("level") int level, @Param("exp") int experience);
 
-    // 현재 경험치 조회
-    int getCurrentExperience(@Param("pid") Long pid);
     // 식물 id 로 현재 식물 레벨 조회
     int getPlantLevel(@Param("pid") Long pid);
-    // 경험치 업데이트
-    void updateExperience(@Param("pid") Long pid, @Param("exp") int experience);
-    // 해당 식물 레벨 1개 올리도록 설정
-    void levelUp(@Param("pid") Long pid);
-
-    // 가족 공간의 구성원 수 조회
-    int getFamilyMemberCount(@Param("fid") Long fid);
-    // 가족 공간의 식물 조회
-    Long getPlantIdByFid(@Param("fid") Long fid);
 
     // 물주기 확인 백업 api
     // 오늘 날짜 기준으로, 해당 가족(fid)에 속한 유저 중 'water' 활동을 한 유저
     List<Long> getTodayWateredUids(@Param("fid") Long fid, @Param("date") Date date);
 
-    String getUserName(@Param("uid") Long uid);
-    String getUserProfile(@Param("uid") Long uid);
-
     // 오늘 물 준 가족 구성원 수
     int countWateredMembersToday(@Param("fid") Long fid, @Param("date") Date date);
     // 영양제 +1 처리
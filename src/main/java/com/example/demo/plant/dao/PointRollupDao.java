@@ -0,0 +1,27 @@
+package com.example.demo.plant.dao;
+
+import com.example.demo.plant.dto.PointRollupRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface PointRollupDao {
+    // 활동 1건을 가족/사용자별 일/주 집계에 누적 (활동 저장과 같은 트랜잭션에서 호출)
+    void accumulate(@Param("uid") Long uid, @Param("fid") Long fid, @Param("type") String activityType,
+                    @Param("points") int points, @Param("date") LocalDate date, @Param("weekStart") LocalDate weekStart);
+    // 기간별 집계 조회 (scope: F/U, period: D/W)
+    List<PointRollupRow> selectRollups(@Param("scope") String scope, @Param("scopeId") Long scopeId,
+                                       @Param("period") String period,
+                                       @Param("from") LocalDate from, @Param("to") LocalDate to);
+    // 가족 집계 삭제
+    int deleteFamilyRollups(@Param("fid") Long fid);
+
+    // 가장 오래된 원본 활동 날짜 (없으면 null)
+    LocalDate selectOldestActivityDate();
+    // 하루치 원본 활동 보관 / 삭제
+    int archiveActivitiesOn(@Param("date") LocalDate date);
+    int deleteActivitiesOn(@Param("date") LocalDate date);
+}
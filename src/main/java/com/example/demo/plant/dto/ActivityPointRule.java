@@ -0,0 +1,14 @@
+package com.example.demo.plant.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * activity_point_rule 한 행 - 활동 유형별 적립 포인트
+ */
+@Getter
+@Setter
+public class ActivityPointRule {
+    private String activityType;
+    private int points;
+}
@@ -0,0 +1,15 @@
+package com.example.demo.plant.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * plant_level_rule 한 행 - (구성원 수, 레벨) 별 레벨업 경험치
+ */
+@Getter
+@Setter
+public class LevelThresholdRule {
+    private int memberCount;
+    private int level;
+    private int expThreshold;
+}
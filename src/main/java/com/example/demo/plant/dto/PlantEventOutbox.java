@@ -0,0 +1,15 @@
+package com.example.demo.plant.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * plant_event_outbox 한 행 - 다른 서버에 전달할 가족 이벤트 묶음 (payload: PlantEventData JSON 배열)
+ */
+@Getter
+@Setter
+public class PlantEventOutbox {
+    private Long id;
+    private Long fid;
+    private String payload;
+}
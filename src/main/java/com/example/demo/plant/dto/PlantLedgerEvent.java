@@ -0,0 +1,21 @@
+package com.example.demo.plant.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 식물 성장 이벤트 (Point_activities 한 행) 재생용
+ * - 전체 재생 시에는 조회 시점의 식물 행(fid, version, level, 경험치)도 함께 채운다
+ */
+@Getter
+@Setter
+public class PlantLedgerEvent {
+    private Long pid;
+    private Long plantVersion;    // 이전 행은 null
+    private int points;
+    private int memberCount;
+    private Long fid;
+    private long currentVersion;
+    private int currentLevel;
+    private int currentExp;
+}
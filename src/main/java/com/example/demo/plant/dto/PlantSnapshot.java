@@ -0,0 +1,16 @@
+package com.example.demo.plant.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * plant_snapshot 한 행 - plantVersion 까지의 이벤트를 적용한 식물 상태
+ */
+@Getter
+@Setter
+public class PlantSnapshot {
+    private Long pid;
+    private long plantVersion;
+    private int level;
+    private int experiencePoint;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.plant.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 식물 상태 캐시를 채우기 위해 한 번에 조회한 최신 식물 정보
+ * - version 은 식물 행이 바뀔 때마다 증가하며 캐시의 갱신 순서 비교에 사용한다
+ */
+@Getter
+@Setter
+public class PlantStatusSnapshot {
+    private Long pid;
+    private long version;
+    private int level;
+    private int experiencePoint;
+    private boolean completed;
+    private String plantType;
+    private int memberCount;
+}
@@ -0,0 +1,29 @@
+package com.example.demo.plant.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * 포인트 적립에 필요한 정보를 한 번에 조회한 결과
+ * - 잠그지 않는 읽기 (구성원 수 / uid 는 조회 시점 값). 식물 진행 상태는 식물 행을 잠그며 따로 읽는다
+ */
+@Getter
+@Setter
+public class PointAccrualContext {
+    private Long fid;
+    private Long pid;             // 식물이 없으면 null
+    private int memberCount;
+    private String memberUids;    // 구성원 uid 오름차순 쉼표 목록
+    private String name;
+    private String profileImage;
+
+    // 구성원 uid 배열 (오름차순)
+    public long[] sortedMemberUids() {
+        if (memberUids == null || memberUids.isEmpty()) {
+            return new long[0];
+        }
+        return Arrays.stream(memberUids.split(",")).mapToLong(Long::parseLong).toArray();
+    }
+}
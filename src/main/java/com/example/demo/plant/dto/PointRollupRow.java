@@ -0,0 +1,18 @@
+package com.example.demo.plant.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * point_rollup 한 행 (기간 시작일 + 활동 유형별 포인트 합계 / 횟수)
+ */
+@Getter
+@Setter
+public class PointRollupRow {
+    private LocalDate periodStart;
+    private String activityType;
+    private int points;
+    private int activityCount;
+}
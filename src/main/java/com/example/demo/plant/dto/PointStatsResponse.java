@@ -0,0 +1,33 @@
+package com.example.demo.plant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 통계 응답 (GET /points/stats)
+ */
+@Getter
+@AllArgsConstructor
+public class PointStatsResponse {
+    private String scope;        // family | user
+    private String period;       // daily | weekly
+    private LocalDate from;
+    private LocalDate to;
+    private int totalPoints;
+    private int totalActivities;
+    private List<Bucket> buckets; // 활동이 있는 기간만, 시작일 순
+
+    @Getter
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDate periodStart;        // 일: 해당 날짜, 주: 월요일
+        private int points;
+        private int activityCount;
+        private Map<String, Integer> pointsByType;
+        private Map<String, Integer> countByType;
+    }
+}
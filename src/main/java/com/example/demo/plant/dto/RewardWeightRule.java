@@ -0,0 +1,14 @@
+package com.example.demo.plant.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * rewards 한 행의 추첨 가중치
+ */
+@Getter
+@Setter
+public class RewardWeightRule {
+    private int rewardId;
+    private int weight;
+}
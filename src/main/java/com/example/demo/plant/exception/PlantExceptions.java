@@ -53,4 +53,11 @@ public class PlantExceptions {
             super(message);
         }
     }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public static class InvalidStatsRequestException extends IllegalArgumentException {
+        public InvalidStatsRequestException(String message) {
+            super(message);
+        }
+    }
 }
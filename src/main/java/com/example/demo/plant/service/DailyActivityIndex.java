@@ -0,0 +1,174 @@
+package com.example.demo.plant.service;
+
+import com.example.demo.plant.dao.PointDao;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 오늘 수행한 활동 (1일 1회 제한) 메모리 인덱스
+ * - 활동 유형마다 uid 를 비트 위치로 쓰는 비트셋 → 사용자 100만 명 기준 유형당 약 128KB
+ * - 비트셋은 65,536 uid 단위 페이지로 나눠 실제 사용하는 구간만 할당한다
+ * - 관리하는 활동 유형은 현재 식물 규칙(PlantRules)의 활동 유형 (규칙이 교체되면 함께 바뀐다)
+ * - 기동 시와 날짜가 바뀔 때 DB의 오늘 활동으로 채우고, 이후에는 적립(커밋) 시 그 적립의 활동 날짜로 갱신한다
+ *
+ * authoritative = false 이면 (여러 서버가 같은 DB를 쓰는 경우) "했음"만 메모리로 답하고
+ * "안 했음"은 DB 로 확인하도록 null 을 반환한다
+ */
+@Slf4j
+@Component
+public class DailyActivityIndex {
+
+    private static final int PAGE_SHIFT = 16;                 // 페이지당 65,536 uid
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+    private static final int PAGE_LONGS = (1 << PAGE_SHIFT) / 64;
+    private static final long WARM_RETRY_MILLIS = 60_000;
+
+    private final PointDao pointDao;
+    private final PlantRuleService plantRuleService;
+
+    @Value("${point.daily-index.authoritative:true}")
+    private boolean authoritative;
+
+    private volatile Day current;
+
+    public DailyActivityIndex(PointDao pointDao, PlantRuleService plantRuleService) {
+        this.pointDao = pointDao;
+        this.plantRuleService = plantRuleService;
+    }
+
+    @PostConstruct
+    public void init() {
+        today();
+    }
+
+    /**
+     * 오늘 해당 활동을 했는지
+     * @return 메모리로 판단할 수 없으면 null (DB 확인 필요)
+     */
+    public Boolean isDone(Long uid, String type) {
+        if (uid == null || uid < 0 || !plantRuleService.current().hasActivity(type)) {
+            return null;
+        }
+        Day day = today();
+        if (day.contains(type, uid)) {
+            return true;
+        }
+        return authoritative && day.warmed ? false : null;
+    }
+
+    /**
+     * 활동 저장(커밋) 후 호출
+     * @param activityDate 저장한 활동의 activity_date - 커밋 전에 날짜가 바뀌었으면 새 날의 인덱스에 남기지 않는다
+     */
+    public void record(Long uid, String type, LocalDate activityDate) {
+        if (uid == null || uid < 0 || !plantRuleService.current().hasActivity(type)) {
+            return;
+        }
+        Day day = today();
+        if (day.date.equals(activityDate)) {
+            day.set(type, uid, true);
+        }
+    }
+
+    // 활동 기록이 삭제된 사용자 (가족 스페이스 삭제 등)
+    public void forget(Long uid) {
+        if (uid == null || uid < 0) {
+            return;
+        }
+        Day day = today();
+        for (String type : day.pages.keySet()) {
+            day.set(type, uid, false);
+        }
+    }
+
+    // 날짜가 바뀌었으면 새 인덱스로 교체, DB 적재에 실패한 상태면 일정 간격으로 재시도
+    private Day today() {
+        LocalDate date = LocalDate.now();
+        Day day = current;
+        if (day != null && day.date.equals(date)
+                && (day.warmed || System.currentTimeMillis() - day.warmAttemptedAt < WARM_RETRY_MILLIS)) {
+            return day;
+        }
+        synchronized (this) {
+            day = current;
+            if (day == null || !day.date.equals(date)) {
+                day = new Day(date);
+                warm(day);
+                current = day;
+            } else if (!day.warmed && System.currentTimeMillis() - day.warmAttemptedAt >= WARM_RETRY_MILLIS) {
+                warm(day);
+            }
+            return day;
+        }
+    }
+
+    private void warm(Day day) {
+        day.warmAttemptedAt = System.currentTimeMillis();
+        try {
+            long[] count = {0};
+            pointDao.scanActivityKeysOn(Date.valueOf(day.date), ctx -> {
+                Map<String, Object> row = ctx.getResultObject();
+                day.set((String) row.get("activity_type"), ((Number) row.get("uid")).longValue(), true);
+                count[0]++;
+            });
+            day.warmed = true;
+            log.info("오늘 활동 인덱스 적재 완료: {} ({}건)", day.date, count[0]);
+        } catch (Exception e) {
+            log.warn("오늘 활동 인덱스 적재 실패 - DB 조회로 대체: {}", e.getMessage());
+        }
+    }
+
+    private static final class Day {
+
+        private final LocalDate date;
+        // 활동 유형 → (페이지 번호 → 비트 페이지)
+        private final Map<String, Map<Integer, AtomicLongArray>> pages = new ConcurrentHashMap<>();
+        private volatile boolean warmed;
+        private volatile long warmAttemptedAt;
+
+        private Day(LocalDate date) {
+            this.date = date;
+        }
+
+        private boolean contains(String type, long uid) {
+            Map<Integer, AtomicLongArray> typePages = pages.get(type);
+            AtomicLongArray page = typePages == null ? null : typePages.get((int) (uid >>> PAGE_SHIFT));
+            if (page == null) {
+                return false;
+            }
+            int bit = (int) (uid & PAGE_MASK);
+            return (page.get(bit >>> 6) & (1L << bit)) != 0;
+        }
+
+        private void set(String type, long uid, boolean value) {
+            int pageIndex = (int) (uid >>> PAGE_SHIFT);
+            Map<Integer, AtomicLongArray> typePages = value
+                    ? pages.computeIfAbsent(type, k -> new ConcurrentHashMap<>())
+                    : pages.get(type);
+            if (typePages == null) {
+                return;
+            }
+            AtomicLongArray page = value
+                    ? typePages.computeIfAbsent(pageIndex, k -> new AtomicLongArray(PAGE_LONGS))
+                    : typePages.get(pageIndex);
+            if (page == null) {
+                return;
+            }
+            int bit = (int) (uid & PAGE_MASK);
+            long mask = 1L << bit;
+            if (value) {
+                page.accumulateAndGet(bit >>> 6, mask, (a, b) -> a | b);
+            } else {
+                page.accumulateAndGet(bit >>> 6, ~mask, (a, b) -> a & b);
+            }
+        }
+    }
+}
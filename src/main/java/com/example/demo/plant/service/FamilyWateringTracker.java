@@ -0,0 +1,132 @@
+package com.example.demo.plant.service;
+
+import com.example.demo.plant.dao.PointDao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가족별 오늘 물주기 현황 (가족 전원이 물을 주면 영양제 1개 지급)
+ * - 구성원 uid 를 정렬한 순서를 슬롯으로 쓰는 비트마스크 (최대 64명)
+ * - 가족별 첫 물주기 때만 오늘 물 준 사람을 DB에서 읽고, 이후에는 메모리로 판단
+ * - 구성원 목록은 적립 조회(잠금 상태)에서 받은 값과 비교해, 같은 날 탈퇴/가입으로 구성원이 바뀌면 다시 적재
+ * - 마스크가 가득 찬 순간 compare-and-set 으로 한 번만 지급, 날짜가 바뀌면 지난 날짜 상태 제거
+ *
+ * point.daily-index.authoritative = false (여러 서버 운영) 이면 매번 DB 집계로 판단한다
+ */
+@Slf4j
+@Component
+public class FamilyWateringTracker {
+
+    private static final int MAX_MEMBERS = 64;
+
+    private final PointDao pointDao;
+
+    @Value("${point.daily-index.authoritative:true}")
+    private boolean authoritative;
+
+    private final ConcurrentHashMap<Long, FamilyWatering> families = new ConcurrentHashMap<>();
+    private volatile LocalDate day = LocalDate.now();
+
+    public FamilyWateringTracker(PointDao pointDao) {
+        this.pointDao = pointDao;
+    }
+
+    /**
+     * 물주기 활동 저장 직후 (같은 트랜잭션 안에서) 호출
+     * @param members 현재 가족 구성원 uid (오름차순)
+     * @return 이번 물주기로 가족 전원이 물을 줘서 영양제를 지급해야 하면 true
+     */
+    public boolean recordWater(Long fid, Long uid, long[] members) {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(day)) {
+            day = today;
+            // 지난 날짜 상태만 조건부로 제거 (다른 스레드가 방금 만든 오늘 상태는 지우지 않는다)
+            families.values().removeIf(family -> !family.date.equals(today));
+        }
+
+        if (!authoritative || members.length > MAX_MEMBERS) {
+            return pointDao.countWateredMembersToday(fid, Date.valueOf(today)) == members.length;
+        }
+
+        FamilyWatering family = families.compute(fid, (key, existing) ->
+                existing != null && existing.isValid(today, members) ? existing : load(fid, uid, members, today));
+        return family.water(uid);
+    }
+
+    // 트랜잭션 롤백 시 되돌리기
+    public void rollback(Long fid, Long uid, boolean granted) {
+        FamilyWatering family = families.get(fid);
+        if (family != null) {
+            family.undo(uid, granted);
+        }
+    }
+
+    // 구성원 목록과 오늘 물 준 사람(이번 요청 제외)으로 상태 생성 (탈퇴한 사람의 물주기는 슬롯이 없어 빠진다)
+    private FamilyWatering load(Long fid, Long uid, long[] members, LocalDate today) {
+        FamilyWatering family = new FamilyWatering(today, members);
+
+        List<Long> watered = pointDao.getTodayWateredUids(fid, Date.valueOf(today));
+        long mask = 0;
+        for (Long w : watered) {
+            if (!w.equals(uid)) {
+                mask |= family.bit(w);
+            }
+        }
+        family.mask.set(mask);
+        // 이번 요청 전에 이미 전원이 물을 줬다면 지급된 것으로 본다
+        family.granted.set(mask == family.full);
+        log.debug("물주기 현황 적재: fid={}, members={}, mask={}", fid, members.length, Long.toBinaryString(mask));
+        return family;
+    }
+
+    private static final class FamilyWatering {
+
+        private final LocalDate date;
+        private final long[] members;
+        private final long full;
+        private final AtomicLong mask = new AtomicLong();
+        private final AtomicBoolean granted = new AtomicBoolean();
+
+        private FamilyWatering(LocalDate date, long[] members) {
+            this.date = date;
+            this.members = members;
+            this.full = members.length == MAX_MEMBERS ? -1L : (1L << members.length) - 1;
+        }
+
+        // 날짜와 구성원 목록이 같으면 그대로 사용 (인원만 같고 사람이 바뀐 경우는 다시 적재)
+        private boolean isValid(LocalDate today, long[] currentMembers) {
+            return date.equals(today) && Arrays.equals(members, currentMembers);
+        }
+
+        private int slot(long uid) {
+            return Arrays.binarySearch(members, uid);
+        }
+
+        private long bit(long uid) {
+            int slot = slot(uid);
+            return slot < 0 ? 0 : 1L << slot;
+        }
+
+        private boolean water(long uid) {
+            long bit = bit(uid);
+            long previous = mask.getAndAccumulate(bit, (a, b) -> a | b);
+            return previous != full && (previous | bit) == full && granted.compareAndSet(false, true);
+        }
+
+        private void undo(long uid, boolean wasGranted) {
+            mask.getAndAccumulate(~bit(uid), (a, b) -> a & b);
+            if (wasGranted) {
+                granted.set(false);
+            }
+        }
+    }
+}
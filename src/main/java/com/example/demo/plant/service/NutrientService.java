@@ -27,21 +27,18 @@ public class NutrientService {
         return stock;
     }
     // 영양제 사용시 1개 차감
+    // 재고 확인과 차감을 조건부 UPDATE 한 번으로 처리 → 동시에 사용해도 재고가 음수가 되지 않는다
     public void useNutrient(Long uid) {
-        Long fid = nutrientDao.getFamilyIdByUid(uid);
-        log.debug("🎯 [Nutrient] fid: {}", fid);
-        if (fid == null) {
-            throw new NutrientStockNotFoundException("가족 정보가 존재하지 않습니다.");
+        if (nutrientDao.consumeNutrient(uid) == 1) {
+            log.info("✅ 영양제 1개 차감 완료");
+            return;
         }
 
-        Integer stock = nutrientDao.getNutrientStock(fid);
-        if (stock == null || stock <= 0) {
-            log.debug("🎯 [Nutrient] stock: {}", stock);
-            throw new NutrientStockNotFoundException("사용 가능한 영양제가 없습니다.");
+        // 실패한 경우에만 원인 확인
+        if (nutrientDao.getFamilyIdByUid(uid) == null) {
+            throw new NutrientStockNotFoundException("가족 정보가 존재하지 않습니다.");
         }
-
-        nutrientDao.decrementNutrientStock(fid);
-        log.info("✅ 영양제 1개 차감 완료");
+        throw new NutrientStockNotFoundException("사용 가능한 영양제가 없습니다.");
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.example.demo.plant.service;
+
+import com.example.demo.plant.dao.PlantLedgerDao;
+import com.example.demo.plant.dto.PlantLedgerEvent;
+import com.example.demo.plant.dto.PlantSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 식물 성장 이벤트 로그 (Point_activities + Point_activities_archive)
+ * - 적립마다 이벤트가 plant_version 순서로 쌓이고, Plants.level / experience_point 는 그 재생 결과(투영)다
+ * - N번째 이벤트마다, 그리고 레벨업 시 plant_snapshot 에 상태를 남긴다 → 현재 상태 = 최신 스냅샷 + 이후 이벤트
+ * - 경험치 기준(PlantRules)을 바꾼 뒤 기존 식물까지 맞추려면 rebuildAll 로 전체 이벤트를 한 번 스트리밍해 모든 식물을 다시 계산한다
+ */
+@Slf4j
+@Service
+public class PlantLedgerService {
+
+    private final PlantLedgerDao plantLedgerDao;
+    private final PlantStatusCache plantStatusCache;
+    private final PlantRuleService plantRuleService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${plant.ledger.snapshot-every:50}")
+    private int snapshotEvery;
+
+    @Value("${plant.ledger.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    public PlantLedgerService(PlantLedgerDao plantLedgerDao, PlantStatusCache plantStatusCache,
+                              PlantRuleService plantRuleService, PlatformTransactionManager transactionManager) {
+        this.plantLedgerDao = plantLedgerDao;
+        this.plantStatusCache = plantStatusCache;
+        this.plantRuleService = plantRuleService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 전체 재생 결과 */
+    public record RebuildResult(long plants, long events, long corrected, long retried, long millis) {
+    }
+
+    // 적립과 같은 트랜잭션에서 호출 - version 은 이 적립 이벤트의 plant_version
+    public void snapshotIfDue(Long pid, long version, PlantProgression.State state, boolean levelUp) {
+        if (levelUp || version % snapshotEvery == 0) {
+            plantLedgerDao.upsertSnapshot(pid, version, state.level(), state.experiencePoint());
+        }
+    }
+
+    // 이벤트 로그 기준 현재 상태 (최신 스냅샷 + 이후 이벤트)
+    public PlantProgression.State replay(Long pid) {
+        PlantRules rules = plantRuleService.current();
+        PlantSnapshot snapshot = plantLedgerDao.selectLatestSnapshot(pid);
+        if (snapshot == null) {
+            return replayFrom(pid, -1, PlantProgression.State.INITIAL, rules);
+        }
+        return replayFrom(pid, snapshot.getPlantVersion(),
+                new PlantProgression.State(snapshot.getLevel(), snapshot.getExperiencePoint()), rules);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * 미완료 식물 전체를 이벤트 로그로부터 다시 계산해 Plants 와 스냅샷을 맞춘다
+     * 적립을 멈추지 않아도 되도록, 조회 이후 적립이 있었던 식물은 잠금 후 그 뒤 이벤트만 다시 재생한다
+     */
+    public RebuildResult rebuildAll() {
+        long started = System.currentTimeMillis();
+        long[] counts = new long[4]; // plants, events, corrected, retried
+        PlantRules rules = plantRuleService.current(); // 재생 도중 규칙이 바뀌어도 한 규칙으로 끝까지
+
+        PlantReplayer<PlantLedgerEvent> replayer = new PlantReplayer<>(rules, result -> {
+            counts[0]++;
+            counts[1] += result.events();
+            apply(result, rules, counts);
+        });
+        plantLedgerDao.scanAllEvents(context -> {
+            PlantLedgerEvent event = context.getResultObject();
+            replayer.accept(event.getPid(), event, event.getPlantVersion(), event.getPoints(), event.getMemberCount());
+        });
+        replayer.finish();
+
+        RebuildResult result = new RebuildResult(counts[0], counts[1], counts[2], counts[3],
+                System.currentTimeMillis() - started);
+        log.info("식물 이벤트 전체 재생 완료: {}", result);
+        return result;
+    }
+
+    private void apply(PlantReplayer.Result<PlantLedgerEvent> result, PlantRules rules, long[] counts) {
+        PlantLedgerEvent plant = result.context();
+        Long pid = result.pid();
+        PlantProgression.State state = result.state();
+
+        // 새 규칙으로 계산한 상태를 마지막 이벤트 기준 스냅샷으로 남긴다 (이전 규칙의 스냅샷보다 최신)
+        plantLedgerDao.upsertSnapshot(pid, result.lastVersion(), state.level(), state.experiencePoint());
+        if (state.level() == plant.getCurrentLevel() && state.experiencePoint() == plant.getCurrentExp()) {
+            return;
+        }
+
+        if (plantLedgerDao.updateProjection(pid, plant.getCurrentVersion(), state.level(), state.experiencePoint()) == 0) {
+            // 조회 이후 적립이 있었음 → 잠근 상태에서 방금 만든 스냅샷 이후 이벤트만 다시 적용
+            counts[3]++;
+            transactionTemplate.executeWithoutResult(status -> {
+                Long version = plantLedgerDao.selectVersionForUpdate(pid);
+                if (version == null) {
+                    return; // 그 사이 완료 처리됨
+                }
+                PlantProgression.State latest = replayFrom(pid, result.lastVersion(), state, rules);
+                plantLedgerDao.upsertSnapshot(pid, version, latest.level(), latest.experiencePoint());
+                plantLedgerDao.updateProjection(pid, version, latest.level(), latest.experiencePoint());
+            });
+        }
+        counts[2]++;
+        plantStatusCache.evict(plant.getFid());
+    }
+
+    private PlantProgression.State replayFrom(Long pid, long afterVersion, PlantProgression.State base,
+                                              PlantRules rules) {
+        PlantProgression.State state = base;
+        for (PlantLedgerEvent event : plantLedgerDao.selectEventsAfter(pid, afterVersion)) {
+            state = state.apply(event.getPoints(), PlantRules.clampMembers(event.getMemberCount()), rules);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.plant.service;
+
+/**
+ * 식물 성장 규칙 (적립 1건 적용)
+ * 실시간 적립(PointService)과 이벤트 재생(PlantLedgerService)이 같은 규칙을 쓰도록 한 곳에 둔다
+ * 경험치 기준은 PlantRules 에서 읽는다. 기준을 바꾼 뒤 기존 식물까지 새 기준으로 맞추려면
+ * plant.ledger.rebuild-on-startup 으로 전체 재생한다 (바꾸지 않으면 이후 적립부터 적용)
+ */
+public final class PlantProgression {
+
+    // 최종 레벨 (이 레벨에서는 보상 수령만 가능, 더 이상 레벨업하지 않음)
+    public static final int MAX_LEVEL = 5;
+
+    private PlantProgression() {
+    }
+
+    /** 식물의 레벨 / 경험치 */
+    public record State(int level, int experiencePoint) {
+
+        // 새 식물
+        public static final State INITIAL = new State(1, 0);
+
+        // 적립 1건 적용 - 기준 경험치에 도달하면 레벨업 후 경험치 초기화
+        public State apply(int points, int memberCount, PlantRules rules) {
+            int updatedExp = experiencePoint + points;
+            if (level < MAX_LEVEL && updatedExp >= rules.threshold(memberCount, level)) {
+                return new State(level + 1, 0);
+            }
+            return new State(level, updatedExp);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.plant.service;
+
+import java.util.function.Consumer;
+
+/**
+ * 식물 순 → 이벤트 순으로 정렬된 성장 이벤트를 받아 식물별 최종 상태를 계산한다
+ * 한 번에 식물 하나의 상태만 들고 있으므로 이벤트 수와 관계없이 메모리를 거의 쓰지 않는다
+ *
+ * @param <C> 식물마다 첫 이벤트와 함께 받아 결과에 그대로 돌려주는 부가 정보
+ */
+public class PlantReplayer<C> {
+
+    /** 식물 하나의 재생 결과 - lastVersion 은 마지막으로 적용한 이벤트의 plant_version (없으면 0) */
+    public record Result<C>(long pid, C context, PlantProgression.State state, long lastVersion, long events) {
+    }
+
+    private final PlantRules rules;
+    private final Consumer<Result<C>> sink;
+
+    private boolean active;
+    private long pid;
+    private C context;
+    private PlantProgression.State state;
+    private long lastVersion;
+    private long events;
+
+    public PlantReplayer(PlantRules rules, Consumer<Result<C>> sink) {
+        this.rules = rules;
+        this.sink = sink;
+    }
+
+    public void accept(long pid, C context, Long version, int points, int memberCount) {
+        if (!active || pid != this.pid) {
+            finish();
+            this.active = true;
+            this.pid = pid;
+            this.context = context;
+            this.state = PlantProgression.State.INITIAL;
+            this.lastVersion = 0;
+            this.events = 0;
+        }
+        state = state.apply(points, PlantRules.clampMembers(memberCount), rules);
+        if (version != null) {
+            lastVersion = version;
+        }
+        events++;
+    }
+
+    // 마지막 식물의 결과 전달 (이벤트를 모두 넘긴 뒤 호출)
+    public void finish() {
+        if (active) {
+            active = false;
+            sink.accept(new Result<>(pid, context, state, lastVersion, events));
+        }
+    }
+}
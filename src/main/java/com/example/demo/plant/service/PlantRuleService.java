@@ -0,0 +1,130 @@
+package com.example.demo.plant.service;
+
+import com.example.demo.plant.dao.PlantRuleDao;
+import com.example.demo.plant.dto.ActivityPointRule;
+import com.example.demo.plant.dto.LevelThresholdRule;
+import com.example.demo.plant.dto.RewardWeightRule;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 식물 규칙 (활동 포인트, 경험치 기준, 보상 가중치) 로딩 및 교체
+ * - 규칙 테이블을 읽어 PlantRules 로 컴파일한 뒤 참조 하나만 바꿔 끼운다 (읽는 쪽은 잠금 없음)
+ * - reload-seconds 주기로 다시 읽어 바뀐 경우에만 교체하므로 재시작 없이 규칙을 바꿀 수 있다
+ * - 잘못된 규칙(기준 누락, 가중치 없음 등)은 적용하지 않고 이전 규칙을 유지한다
+ */
+@Slf4j
+@Service
+public class PlantRuleService {
+
+    private final PlantRuleDao plantRuleDao;
+    private final PlantStatusCache plantStatusCache;
+
+    // 0 이면 기동 시 한 번만 읽음
+    @Value("${plant.rules.reload-seconds:60}")
+    private long reloadSeconds;
+
+    private volatile PlantRules current = PlantRules.DEFAULTS;
+
+    private ScheduledExecutorService scheduler;
+
+    public PlantRuleService(PlantRuleDao plantRuleDao, PlantStatusCache plantStatusCache) {
+        this.plantRuleDao = plantRuleDao;
+        this.plantStatusCache = plantStatusCache;
+    }
+
+    @PostConstruct
+    public void init() {
+        reloadQuietly();
+        if (reloadSeconds <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "plant-rules-reload");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::reloadQuietly, reloadSeconds, reloadSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // 현재 규칙 - 한 작업 안에서는 받은 객체를 계속 쓴다
+    public PlantRules current() {
+        return current;
+    }
+
+    /**
+     * 규칙 테이블을 다시 읽어 바뀌었으면 교체
+     * @return 교체했으면 true
+     */
+    public boolean reload() {
+        PlantRules loaded = load();
+        PlantRules previous = current;
+        if (loaded.sameAs(previous)) {
+            return false;
+        }
+        current = loaded;
+        if (!loaded.sameThresholds(previous)) {
+            // 캐시된 식물 상태의 경험치 기준이 바뀜
+            plantStatusCache.evictAll();
+        }
+        log.info("식물 규칙 교체: {}", loaded);
+        return true;
+    }
+
+    private PlantRules load() {
+        Map<String, Integer> points = new HashMap<>();
+        for (ActivityPointRule rule : plantRuleDao.selectActivityPoints()) {
+            points.put(rule.getActivityType(), rule.getPoints());
+        }
+
+        List<LevelThresholdRule> levels = plantRuleDao.selectLevelThresholds();
+        int[][] thresholds = null;
+        if (!levels.isEmpty()) {
+            thresholds = new int[PlantRules.MAX_MEMBERS - PlantRules.MIN_MEMBERS + 1][PlantProgression.MAX_LEVEL - 1];
+            for (LevelThresholdRule rule : levels) {
+                int m = rule.getMemberCount() - PlantRules.MIN_MEMBERS;
+                int l = rule.getLevel() - 1;
+                if (m < 0 || m >= thresholds.length || l < 0 || l >= thresholds[m].length) {
+                    throw new IllegalArgumentException("지원하지 않는 경험치 기준: 구성원 "
+                            + rule.getMemberCount() + "명, 레벨 " + rule.getLevel());
+                }
+                thresholds[m][l] = rule.getExpThreshold();
+            }
+        }
+
+        Map<Integer, Integer> weights = new HashMap<>();
+        for (RewardWeightRule rule : plantRuleDao.selectRewardWeights()) {
+            weights.put(rule.getRewardId(), rule.getWeight());
+        }
+
+        return PlantRules.compile(
+                points.isEmpty() ? PlantRules.DEFAULT_POINTS : points,
+                thresholds == null ? PlantRules.DEFAULT_THRESHOLDS : thresholds,
+                weights.isEmpty() ? PlantRules.DEFAULT_REWARD_WEIGHTS : weights);
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("식물 규칙 로딩 실패 - 이전 규칙 유지: {}", e.getMessage());
+        }
+    }
+}
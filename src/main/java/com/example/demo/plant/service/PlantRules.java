@@ -0,0 +1,201 @@
+package com.example.demo.plant.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * 활동 포인트 / 레벨 경험치 기준 / 보상 가중치를 조회용 배열로 컴파일한 규칙 묶음 (불변)
+ * - 활동 포인트: 정렬된 활동 유형 배열 + 이진 탐색 → int 배열
+ * - 경험치 기준: (구성원 수, 레벨) 을 한 줄로 펼친 int 배열
+ * - 보상: 가중치 별칭 테이블 (alias method) 로 O(1) 추첨
+ * 새 규칙은 PlantRuleService 가 통째로 교체하므로, 한 요청 안에서는 같은 객체를 계속 쓰면 된다
+ */
+public final class PlantRules {
+
+    public static final int MIN_MEMBERS = 2;
+    public static final int MAX_MEMBERS = 5;
+    // 기준이 필요한 레벨 수 (1 ~ MAX_LEVEL-1)
+    private static final int LEVELS = PlantProgression.MAX_LEVEL - 1;
+
+    // 코드 기본값 (규칙 테이블이 비어 있거나 아직 만들어지지 않은 경우)
+    static final Map<String, Integer> DEFAULT_POINTS = Map.of(
+            "attendance", 5, "water", 5, "nutrient", 10, "emotion", 10,
+            "quiz", 10, "lastleaf", 10, "register", 10, "survey", 5);
+
+    // 2~5명 멤버에 대한 레벨 1~4 경험치 테이블 (compile 이 복사하므로 수정하지 않는다)
+    static final int[][] DEFAULT_THRESHOLDS = {
+            {150, 200, 250, 300}, // memberCount = 2
+            {200, 250, 300, 350}, // memberCount = 3
+            {250, 300, 350, 400}, // memberCount = 4
+            {300, 350, 400, 450}  // memberCount = 5
+    };
+
+    // 기존과 같이 1~4번 보상 균등
+    static final Map<Integer, Integer> DEFAULT_REWARD_WEIGHTS = Map.of(1, 1, 2, 1, 3, 1, 4, 1);
+
+    public static final PlantRules DEFAULTS = compile(DEFAULT_POINTS, DEFAULT_THRESHOLDS, DEFAULT_REWARD_WEIGHTS);
+
+    private final String[] activityTypes;
+    private final int[] activityPoints;
+    private final int[] thresholds;
+    private final int[] rewardIds;
+    private final double[] rewardProbability;
+    private final int[] rewardAlias;
+
+    private PlantRules(String[] activityTypes, int[] activityPoints, int[] thresholds,
+                       int[] rewardIds, double[] rewardProbability, int[] rewardAlias) {
+        this.activityTypes = activityTypes;
+        this.activityPoints = activityPoints;
+        this.thresholds = thresholds;
+        this.rewardIds = rewardIds;
+        this.rewardProbability = rewardProbability;
+        this.rewardAlias = rewardAlias;
+    }
+
+    /**
+     * 규칙 검증 후 컴파일
+     * @param thresholds [구성원 수 - 2][레벨 - 1] 경험치 기준 (2~5명, 레벨 1~4 모두 필요)
+     * @param rewardWeights 보상 ID → 가중치 (0 이하는 추첨 제외)
+     */
+    public static PlantRules compile(Map<String, Integer> points, int[][] thresholds, Map<Integer, Integer> rewardWeights) {
+        TreeMap<String, Integer> sorted = new TreeMap<>(points);
+        String[] types = sorted.keySet().toArray(new String[0]);
+        int[] values = new int[types.length];
+        for (int i = 0; i < types.length; i++) {
+            values[i] = sorted.get(types[i]);
+            if (values[i] < 0) {
+                throw new IllegalArgumentException("활동 포인트는 0 이상이어야 합니다: " + types[i]);
+            }
+        }
+
+        if (thresholds.length != MAX_MEMBERS - MIN_MEMBERS + 1) {
+            throw new IllegalArgumentException("경험치 기준은 구성원 " + MIN_MEMBERS + "~" + MAX_MEMBERS + "명 모두 필요합니다.");
+        }
+        int[] flat = new int[thresholds.length * LEVELS];
+        for (int m = 0; m < thresholds.length; m++) {
+            if (thresholds[m] == null || thresholds[m].length != LEVELS) {
+                throw new IllegalArgumentException("경험치 기준 누락: 구성원 " + (m + MIN_MEMBERS) + "명");
+            }
+            for (int l = 0; l < LEVELS; l++) {
+                if (thresholds[m][l] <= 0) {
+                    throw new IllegalArgumentException("경험치 기준은 1 이상이어야 합니다: 구성원 "
+                            + (m + MIN_MEMBERS) + "명, 레벨 " + (l + 1));
+                }
+                flat[m * LEVELS + l] = thresholds[m][l];
+            }
+        }
+
+        int[] ids = rewardWeights.entrySet().stream()
+                .filter(e -> e.getValue() != null && e.getValue() > 0)
+                .mapToInt(Map.Entry::getKey).sorted().toArray();
+        if (ids.length == 0) {
+            throw new IllegalArgumentException("가중치가 있는 보상이 하나 이상 필요합니다.");
+        }
+        double[] probability = new double[ids.length];
+        int[] alias = new int[ids.length];
+        buildAlias(ids, rewardWeights, probability, alias);
+
+        return new PlantRules(types, values, flat, ids, probability, alias);
+    }
+
+    // Vose 의 별칭 테이블: 칸마다 (자기 자신일 확률, 아니면 대신 뽑을 칸)
+    private static void buildAlias(int[] ids, Map<Integer, Integer> weights, double[] probability, int[] alias) {
+        int n = ids.length;
+        long total = 0;
+        for (int id : ids) {
+            total += weights.get(id);
+        }
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = (double) weights.get(ids[i]) * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int s = small[--smallSize];
+            int l = large[--largeSize];
+            probability[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = scaled[l] + scaled[s] - 1.0;
+            if (scaled[l] < 1.0) {
+                small[smallSize++] = l;
+            } else {
+                large[largeSize++] = l;
+            }
+        }
+        // 남은 칸은 부동소수 오차만 있으므로 항상 자기 자신
+        while (largeSize > 0) {
+            int l = large[--largeSize];
+            probability[l] = 1.0;
+            alias[l] = l;
+        }
+        while (smallSize > 0) {
+            int s = small[--smallSize];
+            probability[s] = 1.0;
+            alias[s] = s;
+        }
+    }
+
+    // 활동 유형별 포인트 (규칙에 없는 활동은 0)
+    public int points(String activityType) {
+        int i = Arrays.binarySearch(activityTypes, activityType);
+        return i >= 0 ? activityPoints[i] : 0;
+    }
+
+    // 규칙에 있는 활동 유형인지
+    public boolean hasActivity(String activityType) {
+        return activityType != null && Arrays.binarySearch(activityTypes, activityType) >= 0;
+    }
+
+    public int threshold(int memberCount, int level) {
+        if (level == PlantProgression.MAX_LEVEL) {
+            return 0;
+        }
+
+        // ✅ 유효성 검사 (레벨: 1~4, 인원: 2~5)
+        if (level < 1 || level > LEVELS || memberCount < MIN_MEMBERS || memberCount > MAX_MEMBERS) {
+            throw new IllegalArgumentException("지원하지 않는 상태입니다.");
+        }
+        return thresholds[(memberCount - MIN_MEMBERS) * LEVELS + level - 1];
+    }
+
+    // 보상 ID 추첨 (가중치 비례)
+    public int drawReward(RandomGenerator random) {
+        int i = random.nextInt(rewardIds.length);
+        return random.nextDouble() < rewardProbability[i] ? rewardIds[i] : rewardIds[rewardAlias[i]];
+    }
+
+    // 구성원 수가 기준표 범위를 벗어난 이전 이벤트 (탈퇴 등으로 현재 인원이 1명인 가족)
+    public static int clampMembers(int memberCount) {
+        return Math.max(MIN_MEMBERS, Math.min(MAX_MEMBERS, memberCount));
+    }
+
+    // 같은 규칙인지 (다시 읽은 규칙이 바뀌지 않았으면 교체하지 않음)
+    public boolean sameAs(PlantRules other) {
+        return Arrays.equals(activityTypes, other.activityTypes)
+                && Arrays.equals(activityPoints, other.activityPoints)
+                && Arrays.equals(thresholds, other.thresholds)
+                && Arrays.equals(rewardIds, other.rewardIds)
+                && Arrays.equals(rewardProbability, other.rewardProbability)
+                && Arrays.equals(rewardAlias, other.rewardAlias);
+    }
+
+    // 경험치 기준만 같은지 (다르면 캐시된 기준을 버린다)
+    public boolean sameThresholds(PlantRules other) {
+        return Arrays.equals(thresholds, other.thresholds);
+    }
+
+    @Override
+    public String toString() {
+        return "PlantRules{activities=" + activityTypes.length + ", rewards=" + rewardIds.length + "}";
+    }
+}
@@ -2,12 +2,16 @@ package com.example.demo.plant.service;
 
 import com.example.demo.plant.dao.PlantDao;
 import com.example.demo.plant.dto.PlantStatusResponseDto;
+import com.example.demo.plant.dto.PlantStatusSnapshot;
 import com.example.demo.plant.dto.RewardHistoryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 import static com.example.demo.plant.exception.PlantExceptions.*;
 
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
@@ -15,11 +19,16 @@ public class PlantService {
 
     private final PlantDao plantDao;
     private final PointService pointService;
+    private final PlantStatusCache plantStatusCache;
+    private final PlantRuleService plantRuleService;
     // 1. 새로운 식물 반환
+    // 실패할 수 있는 계산은 모두 저장 전에 끝내고, 저장 이후 실패하면 식물 생성도 롤백한다
+    @Transactional
     public void createPlant(Long uid, String plantType) {
         Long fid = plantDao.getUserFid(uid);
 
-        if (plantDao.selectFamilyMemberCount(fid) < 2) {
+        int memberCount = plantDao.selectFamilyMemberCount(fid);
+        if (memberCount < 2) {
             throw new NotEnoughFamilyMembersException("가족 구성원은 최소 2명 이상이어야 합니다.");
         }
 
@@ -28,36 +37,47 @@ public class PlantService {
         }
 
         int kid = plantDao.getPlantKindId(plantType);
+        int expThreshold = pointService.getExpThreshold(memberCount, 1);
         plantDao.insertPlant(fid, kid);
+
+        // 새 식물(레벨 1, 경험치 0)을 캐시에 바로 반영 (커밋 후)
+        Long pid = plantDao.getLatestPlantId(fid);
+        plantStatusCache.created(fid, pid, expThreshold, plantType);
     }
 
     // 2. 식물 조회 값에 대한 반환 // dto 참고
+    // 캐시에 있으면 DB 조회 없이 반환, 없으면 한 번의 쿼리로 읽어 캐시에 적재
     public PlantStatusResponseDto getLatestPlant(Long fid) {
-        PlantStatusResponseDto dto = plantDao.selectLatestPlantByFid(fid);
-
-        Long pid = plantDao.getLatestPlantId(fid);
-        int memberCount = plantDao.selectFamilyMemberCount(fid);
+        PlantStatusResponseDto cached = plantStatusCache.get(fid);
+        if (cached != null) {
+            return cached;
+        }
 
-        int level = dto.getLevel();
-        int threshold = pointService.getExpThreshold(memberCount, level);
+        long ticket = plantStatusCache.beginLoad();
+        PlantStatusSnapshot snapshot = plantDao.selectPlantStatusSnapshot(fid);
+        if (snapshot == null) {
+            throw new PlantNotFoundException("아직 생성된 식물이 없습니다.");
+        }
 
-        dto.setExpThreshold(threshold);
-        return dto;
+        int threshold = pointService.getExpThreshold(snapshot.getMemberCount(), snapshot.getLevel());
+        return plantStatusCache.load(fid, ticket, snapshot, threshold);
     }
 
     //완료된 식물에 대해 어떤 보상을 줄지 결정하는 로직
     private int calculateRewardId(Long fid, Long pid) {
-        // 예: 단순 랜덤 (후에 레벨, 종류, 활동 횟수 기반으로 확장 가능)
-        List<Integer> rewardIds = List.of(1, 2, 3, 4);
-        return rewardIds.get((int) (Math.random() * rewardIds.size()));
+        // rewards.weight 비례 추첨 (후에 레벨, 종류, 활동 횟수 기반으로 확장 가능)
+        return plantRuleService.current().drawReward(ThreadLocalRandom.current());
     }
     // 3. 완료된 식물에 대한 보상
+    // 같은 식물의 동시 수령은 식물 행 잠금으로 직렬화 (수령 여부 확인 → 기록 사이에 끼어들지 못하게)
+    // READ COMMITTED: REPEATABLE READ 에서는 잠금 전 첫 조회 시점의 스냅샷으로 수령 여부를 읽어
+    // 잠금을 기다리는 동안 앞선 요청이 커밋한 수령 기록을 놓친다 (같은 식물 이중 수령)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public RewardHistoryDto claimReward(Long uid) {
         Long fid = plantDao.getUserFid(uid);
         Long pid = plantDao.getLatestPlantId(fid);
-
-        // ✅ 현재 식물 레벨 조회
-        int level = pointService.getPlantLevel(pid);
+        // ✅ 식물 행 잠금 + 현재 식물 레벨 조회 (앞서 읽은 스냅샷이 아닌 최신 값)
+        int level = plantDao.lockPlantLevel(pid);
 
         // ✅ 레벨 5 미만이면 보상 수령 불가
         if (level < 5) {
@@ -77,6 +97,7 @@ public class PlantService {
 
         // ✅ 이 시점에서 식물을 완료 처리
         plantDao.markPlantCompleted(pid);
+        plantStatusCache.completed(fid, pid);
 
         // ✅ 보상 정보 반환
         return plantDao.getRewardInfoById(rewardId);
@@ -0,0 +1,160 @@
+package com.example.demo.plant.service;
+
+import com.example.demo.plant.dto.PlantStatusResponseDto;
+import com.example.demo.plant.dto.PlantStatusSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.demo.transaction.TransactionCallbacks.afterCommit;
+
+/**
+ * 가족별 최신 식물 상태 캐시 (GET /plants/{fid}, 가족 대시보드 폴링용)
+ * - 포인트 적립/레벨업, 식물 생성, 보상 수령 시 DB 재조회 없이 그 자리에서 갱신한다
+ * - 같은 식물은 (pid, version) 으로 순서를 비교해 오래된 상태가 최신 상태를 덮어쓰지 않는다
+ * - 캐시에 없는 가족을 바꾼 쓰기는 표식을 남겨, 그 전에 시작된 DB 조회 결과가 들어오지 못하게 한다
+ * - 쓰기는 트랜잭션 커밋 이후에만 반영한다 (롤백된 상태가 캐시에 남지 않도록)
+ */
+@Component
+public class PlantStatusCache {
+
+    @Value("${plant.status-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final ConcurrentHashMap<Long, Entry> families = new ConcurrentHashMap<>();
+
+    // 조회 시작 / 무효화 순서 비교용 논리 시계
+    private final AtomicLong clock = new AtomicLong();
+
+    // 캐시에 담는 식물 상태 (불변)
+    private record PlantState(Long pid, long version, int level, int experiencePoint,
+                              int expThreshold, boolean completed, String plantType, long cachedAt) {
+
+        boolean isNewerThan(PlantState other) {
+            int byPid = Long.compare(pid, other.pid);
+            return byPid != 0 ? byPid > 0 : version > other.version;
+        }
+
+        PlantStatusResponseDto toDto() {
+            PlantStatusResponseDto dto = new PlantStatusResponseDto();
+            dto.setLevel(level);
+            dto.setExperiencePoint(experiencePoint);
+            dto.setExpThreshold(expThreshold);
+            dto.setCompleted(completed);
+            dto.setPlantType(plantType);
+            return dto;
+        }
+    }
+
+    // state 가 null 이면 무효화 표식 (stamp 이전에 시작된 조회 결과는 받지 않음)
+    private record Entry(PlantState state, long stamp) {
+    }
+
+    // 캐시된 상태 (호출자가 수정해도 되는 복사본), 없거나 만료되면 null
+    public PlantStatusResponseDto get(Long fid) {
+        Entry entry = families.get(fid);
+        if (entry == null || entry.state() == null || isExpired(entry.state())) {
+            return null;
+        }
+        return entry.state().toDto();
+    }
+
+    // DB 조회 직전에 호출 - 반환값을 load()에 그대로 넘긴다
+    public long beginLoad() {
+        return clock.incrementAndGet();
+    }
+
+    // DB에서 읽은 상태 저장 후 응답용 복사본 반환 (조회 중에 더 새로운 쓰기가 있었다면 캐시에는 넣지 않는다)
+    public PlantStatusResponseDto load(Long fid, long ticket, PlantStatusSnapshot snapshot, int expThreshold) {
+        PlantState loaded = new PlantState(snapshot.getPid(), snapshot.getVersion(), snapshot.getLevel(),
+                snapshot.getExperiencePoint(), expThreshold, snapshot.isCompleted(), snapshot.getPlantType(),
+                System.currentTimeMillis());
+        families.compute(fid, (key, current) -> {
+            if (current == null) {
+                return new Entry(loaded, ticket);
+            }
+            if (current.state() == null) {
+                return current.stamp() > ticket ? current : new Entry(loaded, ticket);
+            }
+            // 만료된 상태는 더 새롭더라도 믿지 않는다 (캐시를 거치지 않은 변경이 있을 수 있음)
+            return loaded.isNewerThan(current.state()) || sameVersion(loaded, current.state())
+                    || isExpired(current.state())
+                    ? new Entry(keepCompleted(loaded, current.state()), ticket)
+                    : current;
+        });
+        return loaded.toDto();
+    }
+
+    // 새 식물 생성
+    public void created(Long fid, Long pid, int expThreshold, String plantType) {
+        afterCommit(() -> {
+            PlantState created = new PlantState(pid, 0, 1, 0,
+                    expThreshold, false, plantType, System.currentTimeMillis());
+            families.compute(fid, (key, current) ->
+                    current == null || current.state() == null || created.isNewerThan(current.state())
+                            ? new Entry(created, clock.incrementAndGet())
+                            : current);
+        });
+    }
+
+    // 포인트 적립 / 레벨업 (version 은 이 쓰기로 증가한 식물 행의 version)
+    public void progressed(Long fid, Long pid, long version, int level, int experiencePoint, int expThreshold) {
+        afterCommit(() -> families.compute(fid, (key, current) -> {
+            if (current == null || current.state() == null || !pid.equals(current.state().pid())) {
+                return invalidated();
+            }
+            PlantState state = current.state();
+            if (state.version() >= version) {
+                return current;
+            }
+            return new Entry(new PlantState(pid, version, level, experiencePoint, expThreshold,
+                    state.completed(), state.plantType(), System.currentTimeMillis()), current.stamp());
+        }));
+    }
+
+    // 보상 수령으로 완료 처리 (완료는 되돌려지지 않으므로 version 비교 없이 반영)
+    public void completed(Long fid, Long pid) {
+        afterCommit(() -> families.compute(fid, (key, current) -> {
+            if (current == null || current.state() == null || !pid.equals(current.state().pid())) {
+                return invalidated();
+            }
+            PlantState state = current.state();
+            return new Entry(new PlantState(pid, state.version(), state.level(),
+                    state.experiencePoint(), state.expThreshold(), true, state.plantType(), state.cachedAt()),
+                    current.stamp());
+        }));
+    }
+
+    // 구성원 변경, 가족 삭제 등 캐시를 거치지 않는 변경
+    public void evict(Long fid) {
+        afterCommit(() -> families.put(fid, invalidated()));
+    }
+
+    // 경험치 기준 변경 등 모든 가족에 영향을 주는 변경 (진행 중인 조회 결과도 받지 않음)
+    public void evictAll() {
+        families.replaceAll((key, current) -> invalidated());
+    }
+
+    private Entry invalidated() {
+        return new Entry(null, clock.incrementAndGet());
+    }
+
+    private boolean isExpired(PlantState state) {
+        return System.currentTimeMillis() - state.cachedAt() > ttlSeconds * 1000;
+    }
+
+    private static boolean sameVersion(PlantState a, PlantState b) {
+        return a.pid().equals(b.pid()) && a.version() == b.version();
+    }
+
+    // 같은 식물이 이미 완료로 캐시되어 있으면 완료 상태 유지
+    private static PlantState keepCompleted(PlantState loaded, PlantState current) {
+        if (loaded.completed() || !current.completed() || !loaded.pid().equals(current.pid())) {
+            return loaded;
+        }
+        return new PlantState(loaded.pid(), loaded.version(), loaded.level(), loaded.experiencePoint(),
+                loaded.expThreshold(), true, loaded.plantType(), loaded.cachedAt());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.plant.service;
+
+import com.example.demo.plant.dao.PointRollupDao;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보관 기간이 지난 원본 포인트 활동을 매일 밤 Point_activities_archive 로 옮기는 작업
+ * - 통계는 point_rollup 에서 읽으므로 원본을 옮겨도 결과가 바뀌지 않는다
+ * - 하루치씩 (복사 + 삭제) 한 트랜잭션으로 처리해 잠금 범위를 작게 유지한다
+ * - 여러 서버가 같은 DB를 쓰면 한 서버에서만 enabled 로 둔다
+ */
+@Slf4j
+@Component
+public class PointActivityCompactor {
+
+    private final PointRollupDao pointRollupDao;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${point.compaction.enabled:true}")
+    private boolean enabled;
+
+    // 오늘 포함 이 일수 안의 원본은 남긴다 (1일 1회 확인, 물주기 현황이 원본을 읽음)
+    @Value("${point.compaction.retain-days:90}")
+    private int retainDays;
+
+    @Value("${point.compaction.run-at:04:00}")
+    private String runAt;
+
+    private ScheduledExecutorService scheduler;
+
+    public PointActivityCompactor(PointRollupDao pointRollupDao, PlatformTransactionManager transactionManager) {
+        this.pointRollupDao = pointRollupDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.info("포인트 활동 정리 작업 비활성화");
+            return;
+        }
+        if (retainDays < 1) {
+            throw new IllegalStateException("point.compaction.retain-days 는 1 이상이어야 합니다.");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "point-compaction");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduleNext();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 원본 활동을 오래된 날짜부터 하루씩 옮긴다
+     * @return 옮긴 행 수
+     */
+    public int compact() {
+        LocalDate cutoff = LocalDate.now().minusDays(retainDays - 1L);
+        int moved = 0;
+        LocalDate oldest;
+        while (!Thread.currentThread().isInterrupted()
+                && (oldest = pointRollupDao.selectOldestActivityDate()) != null
+                && oldest.isBefore(cutoff)) {
+            LocalDate day = oldest;
+            Integer rows = transactionTemplate.execute(status -> {
+                int archived = pointRollupDao.archiveActivitiesOn(day);
+                int deleted = pointRollupDao.deleteActivitiesOn(day);
+                if (archived != deleted) {
+                    // 복사와 삭제 사이에 행이 바뀜 - 이번 날짜는 되돌리고 다음 실행에서 다시 시도
+                    status.setRollbackOnly();
+                    log.warn("포인트 활동 보관 건수 불일치 - 건너뜀: date={}, archived={}, deleted={}", day, archived, deleted);
+                    return -1;
+                }
+                return deleted;
+            });
+            if (rows == null || rows < 0) {
+                break;
+            }
+            moved += rows;
+        }
+        return moved;
+    }
+
+    private void scheduleNext() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = LocalDate.now().atTime(LocalTime.parse(runAt));
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        scheduler.schedule(this::runAndReschedule, Duration.between(now, next).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void runAndReschedule() {
+        try {
+            long started = System.currentTimeMillis();
+            int moved = compact();
+            log.info("포인트 활동 정리 완료: {}건 보관 ({} ms)", moved, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("포인트 활동 정리 실패: {}", e.getMessage(), e);
+        } finally {
+            if (!scheduler.isShutdown()) {
+                scheduleNext();
+            }
+        }
+    }
+}
@@ -1,17 +1,19 @@
 package com.example.demo.plant.service;
 
+import com.example.demo.leaderboard.service.LeaderboardService;
 import com.example.demo.login.service.AuthenticationService;
 import com.example.demo.plant.dao.PointDao;
-import com.example.demo.plant.websocket.PlantWebSocketHandler;
+import com.example.demo.plant.dto.PlantSnapshot;
+import com.example.demo.plant.dto.PointAccrualContext;
+import com.example.demo.plant.websocket.PlantEventBroadcaster;
 import com.example.demo.plant.websocket.dto.PlantEventData;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.socket.TextMessage;
-import org.springframework.web.socket.WebSocketSession;
 import static com.example.demo.plant.exception.PlantExceptions.*;
+import static com.example.demo.transaction.TransactionCallbacks.afterCommit;
+import static com.example.demo.transaction.TransactionCallbacks.onRollback;
 
 import java.sql.Date;
 import java.time.LocalDate;
@@ -27,137 +29,131 @@ public class PointService {
     private final PointDao pointDao;
     private final AuthenticationService authService;
     private final NutrientService nutrientService;
-
-    // 활동 적용 시 자동완료를 위한 메서드
+    private final DailyActivityIndex dailyActivityIndex;
+    private final FamilyWateringTracker familyWateringTracker;
+    private final PlantStatusCache plantStatusCache;
+    private final PointStatsService pointStatsService;
+    private final LeaderboardService leaderboardService;
+    private final PlantLedgerService plantLedgerService;
+    private final PlantRuleService plantRuleService;
+    private final PlantEventBroadcaster plantEventBroadcaster;
+
+    // 활동 적용 시 자동완료를 위한 메서드 (메모리 인덱스로 판단할 수 없을 때만 DB 조회)
     public boolean checkActivityExists(Long uid, String type) {
-        return pointDao.checkActivityExists(uid, type);
+        Boolean done = dailyActivityIndex.isDone(uid, type);
+        return done != null ? done : pointDao.checkActivityExists(uid, type, Date.valueOf(LocalDate.now()));
     }
 
-    // 활동 유형별로 부여할 포인트 값을 매핑
-    private final Map<String, Integer> activityPointMap = Map.of(
-            "attendance", 5,
-            "water", 5,
-            "nutrient", 10,
-            "emotion", 10,
-            "quiz", 10,
-            "lastleaf", 10,
-            "register", 10,
-            "survey", 5
-    );
-
     //활동에 따른 포인트 적립 및 경험치 처리
+    // Point_activities 가 식물 성장의 원본 이벤트 로그, Plants.level/experience_point 는 그 결과를 담은 투영
+    // 적립 정보 조회(잠금 없음) → 식물 행 잠금 읽기 → 중복 없을 때만 활동 저장 → 레벨/경험치 한 번에 반영
+    // 미리 잡는 잠금은 최신 식물 행 하나 (PK) 뿐이고, 그 뒤 Family_space 행 (영양제 차감 / 지급) 순서로만 잠근다
+    // 같은 가족의 동시 적립은 식물 행 잠금으로 직렬화되어 경험치가 유실되지 않는다
+    // 하루 1회 제한은 유니크 키 + INSERT IGNORE (존재 확인 쿼리의 간격 잠금 없음)
     @Transactional
     public void addPoint(Long uid, String activityType) {
-        // 영양제 사용시 영양제 1개 차감
-        if (activityType.equals("nutrient")) {
-            nutrientService.useNutrient(uid);
-        }
-
-        // 활동 1일 1회 제한
-        if (pointDao.checkActivityExists(uid, activityType)) {
+        // 오늘 이미 한 활동이면 DB 접근 없이 중단
+        if (Boolean.TRUE.equals(dailyActivityIndex.isDone(uid, activityType))) {
             throw new PointAlreadyAddedException("오늘 이미 이 활동을 완료했습니다.");
         }
 
-        //사용자 ID → 가족 ID, 식물 ID 조회
-        Long fid = pointDao.getFamilyIdByUid(uid);
-        Long pid = pointDao.getPlantIdByFid(fid);
+        // 가족, 최신 식물 id, 구성원 수, 사용자 정보 한 번에 조회 (잠금 없음)
+        PointAccrualContext ctx = pointDao.selectAccrualContext(uid);
 
         // 식물이 없거나 가족 구성원이 1명뿐일 경우 포인트 적립 중단
-        if (pid == null) {
+        if (ctx == null || ctx.getPid() == null) {
             throw new PlantNotFoundException("새싹이 아직 생성되지 않아 포인트 적립이 불가능합니다.");
         }
-        int memberCount = pointDao.getFamilyMemberCount(fid);
+        Long fid = ctx.getFid();
+        Long pid = ctx.getPid();
+        int memberCount = ctx.getMemberCount();
         if (memberCount < 2) {
             throw new NotEnoughFamilyMembersException("가족 구성원이 2명 이상일 때만 포인트 적립이 가능합니다.");
         }
+        // 식물 행 잠금 + 최신 진행 상태 (같은 가족의 다른 적립이 커밋할 때까지 대기)
+        PlantSnapshot plant = pointDao.lockPlantProgress(pid);
 
-        //활동 타입에 해당하는 포인트 추출
-        int point = activityPointMap.getOrDefault(activityType, 0);
+        // 영양제 사용시 영양제 1개 차감
+        // 식물 행을 잠근 뒤에 차감 (물주기 보상 지급과 같은 순서로 잠가 교착을 피한다)
+        if (activityType.equals("nutrient")) {
+            nutrientService.useNutrient(uid);
+        }
 
-        //활동 내역 저장 (Point_activities 테이블)
+        //활동 타입에 해당하는 포인트 추출
+        // 활동 유형별 포인트 / 경험치 기준 (규칙이 교체되어도 이 적립은 한 규칙으로 계산)
+        PlantRules rules = plantRuleService.current();
+        int point = rules.points(activityType);
+
+        //활동 내역 저장 (Point_activities 테이블) - 활동 1일 1회 제한
+        // 식물 성장 이벤트 로그: 이 적립으로 바뀔 식물 version 과 당시 구성원 수를 함께 남겨 재생할 수 있게 한다
+        LocalDate today = LocalDate.now();
+        long plantVersion = plant.getPlantVersion() + 1;
         Map<String, Object> activity = new HashMap<>();
         activity.put("uid", uid);
         activity.put("fid", fid);
         activity.put("pid", pid);
         activity.put("activity_type", activityType);
         activity.put("points_earned", point);
-        activity.put("activity_date", LocalDate.now());
+        activity.put("activity_date", today);
         activity.put("description", activityType + " 활동");
+        activity.put("plant_version", plantVersion);
+        activity.put("member_count", memberCount);
 
-        pointDao.insertActivity(activity);
-
-        //기존 경험치 조회 + 누적
-        int currentExp = pointDao.getCurrentExperience(pid);
-        int updatedExp = currentExp + point;
-        pointDao.updateExperience(pid, updatedExp);
-
-        // 현재 식물 레벨 및 가족 구성원 수 기반으로 레벨업 조건 계산
-        int level = pointDao.getPlantLevel(pid);
-        int required = getExpThreshold(memberCount, level);
-        boolean isLevelUp = false;
-
-        // 레벨업 조건 만족 시 → 레벨업 처리 및 경험치 초기화
-        if (updatedExp >= required) {
-            pointDao.levelUp(pid);
-            pointDao.updateExperience(pid, 0); // 경험치 리셋
-            isLevelUp = true;
+        if (pointDao.insertActivityIfAbsent(activity) == 0) {
+            dailyActivityIndex.record(uid, activityType, today);
+            throw new PointAlreadyAddedException("오늘 이미 이 활동을 완료했습니다.");
         }
+        // 커밋된 뒤에만 인덱스에 반영 (롤백되면 다시 할 수 있어야 함)
+        // 자정 직후에 커밋되어도 저장한 activity_date 기준으로 남긴다
+        afterCommit(() -> dailyActivityIndex.record(uid, activityType, today));
+        // 가족/사용자별 일·주 집계 누적
+        pointStatsService.accumulate(uid, fid, activityType, point, today);
+        // 가족/구성원 순위판 (커밋 후 반영)
+        leaderboardService.recordPoints(fid, uid, point, today);
+
+        // 잠금 상태에서 읽은 값 기준으로 경험치 누적 + 레벨업 조건 계산 (이벤트 재생과 같은 규칙)
+        int level = plant.getLevel();
+        int required = rules.threshold(memberCount, level);
+        PlantProgression.State next = new PlantProgression.State(level, plant.getExperiencePoint())
+                .apply(point, memberCount, rules);
+        boolean isLevelUp = next.level() > level;
 
-        // ✅ 모든 활동에 대해 WebSocket 실시간 반영
-        try {
-            String name = pointDao.getUserName(uid);
-            String avatarUrl = pointDao.getUserProfile(uid);
-
-            PlantEventData event = new PlantEventData();
-            event.setType(activityType);
-            event.setFid(fid);
-            event.setUid(uid);
-            event.setName(name);
-            event.setAvatarUrl(avatarUrl);
-            event.setLevel(level + (isLevelUp ? 1 : 0));
-            event.setExperiencePoint(isLevelUp ? 0 : updatedExp);
-            event.setExpThreshold(required);
-            event.setLevelUp(isLevelUp);
-
-            String json = new ObjectMapper().writeValueAsString(event);
-            for (WebSocketSession s : PlantWebSocketHandler.sessions) {
-                if (s.isOpen()) {
-                    s.sendMessage(new TextMessage(json));
-                }
-            }
-
-            // ✅ water일 경우 영양제 추가 확인
-            if (activityType.equals("water")) {
-                Date today = Date.valueOf(LocalDate.now());
-                int watered = pointDao.countWateredMembersToday(fid, today);
-                if (memberCount == watered) {
-                    pointDao.incrementNutrient(fid);
-                }
+        // 레벨업 조건 만족 시 → 레벨업 처리 및 경험치 초기화
+        int newLevel = next.level();
+        int newExp = next.experiencePoint();
+        pointDao.updatePlantProgress(pid, newLevel, newExp);
+        plantLedgerService.snapshotIfDue(pid, plantVersion, next, isLevelUp);
+
+        // 식물 상태 캐시 갱신 (행 잠금 중 증가시킨 version 기준, 커밋 후 반영)
+        int newThreshold = isLevelUp ? rules.threshold(memberCount, newLevel) : required;
+        plantStatusCache.progressed(fid, pid, plantVersion, newLevel, newExp, newThreshold);
+
+        // ✅ water일 경우 영양제 추가 확인 (가족 전원이 오늘 물을 준 순간 1회 지급)
+        if (activityType.equals("water")) {
+            boolean grant = familyWateringTracker.recordWater(fid, uid, ctx.sortedMemberUids());
+            if (grant) {
+                pointDao.incrementNutrient(fid);
             }
-
-        } catch (Exception e) {
-            log.warn("WebSocket 브로드캐스트 에러: {}", e.getMessage());
+            onRollback(() -> familyWateringTracker.rollback(fid, uid, grant));
         }
+
+        // ✅ 모든 활동에 대해 WebSocket 실시간 반영 (커밋 후, 식물 행 잠금을 잡은 채로 보내지 않음)
+        PlantEventData event = new PlantEventData();
+        event.setType(activityType);
+        event.setFid(fid);
+        event.setUid(uid);
+        event.setName(ctx.getName());
+        event.setAvatarUrl(ctx.getProfileImage());
+        event.setLevel(newLevel);
+        event.setExperiencePoint(newExp);
+        event.setExpThreshold(required);
+        event.setLevelUp(isLevelUp);
+        event.setServerOrigin(true);
+        afterCommit(() -> plantEventBroadcaster.broadcast(event));
     }
 
     public int getExpThreshold(int memberCount, int level) {
-        if (level == 5) {
-            return 0;
-        }
-
-        // ✅ 유효성 검사 (레벨: 1~4, 인원: 2~5)
-        if (level < 1 || level > 4 || memberCount < 2 || memberCount > 5) {
-            throw new IllegalArgumentException("지원하지 않는 상태입니다.");
-        }
-        // 2~5명 멤버에 대한 레벨 1~4 경험치 테이블
-        int[][] table = {
-                {150, 200, 250, 300}, // memberCount = 2
-                {200, 250, 300, 350}, // memberCount = 3
-                {250, 300, 350, 400}, // memberCount = 4
-                {300, 350, 400, 450}  // memberCount = 5
-        };
-
-        return table[memberCount - 2][level - 1];
+        return plantRuleService.current().threshold(memberCount, level);
     }
 
     // 오늘 기준으로 해당 가족(fid)에서 'water' 활동을 한 uid 목록 반환
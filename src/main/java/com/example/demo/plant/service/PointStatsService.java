@@ -0,0 +1,111 @@
+package com.example.demo.plant.service;
+
+import com.example.demo.plant.dao.PlantDao;
+import com.example.demo.plant.dao.PointRollupDao;
+import com.example.demo.plant.dto.PointRollupRow;
+import com.example.demo.plant.dto.PointStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.demo.plant.exception.PlantExceptions.*;
+
+/**
+ * 포인트 통계 (point_rollup 집계 테이블 기반)
+ * - 활동 저장 시 PointService 가 가족/사용자별 일/주 집계를 함께 누적한다
+ * - 원본 Point_activities 는 보관 기간이 지나면 PointActivityCompactor 가 옮기므로 통계는 항상 집계에서 읽는다
+ */
+@Service
+@RequiredArgsConstructor
+public class PointStatsService {
+
+    // 한 번에 조회할 수 있는 최대 기간
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final PointRollupDao pointRollupDao;
+    private final PlantDao plantDao;
+
+    // 활동 저장 직후 호출 (같은 트랜잭션 → 롤백 시 집계도 함께 취소)
+    public void accumulate(Long uid, Long fid, String activityType, int points, LocalDate date) {
+        pointRollupDao.accumulate(uid, fid, activityType, points, date, weekStart(date));
+    }
+
+    public PointStatsResponse getStats(Long uid, String scope, String period, LocalDate from, LocalDate to) {
+        boolean family = switch (scope) {
+            case "family" -> true;
+            case "user" -> false;
+            default -> throw new InvalidStatsRequestException("scope 는 family 또는 user 만 가능합니다.");
+        };
+        boolean weekly = switch (period) {
+            case "daily" -> false;
+            case "weekly" -> true;
+            default -> throw new InvalidStatsRequestException("period 는 daily 또는 weekly 만 가능합니다.");
+        };
+
+        // 기본 기간: 일별 최근 7일, 주별 최근 4주
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : (weekly ? weekStart(end).minusWeeks(3) : end.minusDays(6));
+        if (start.isAfter(end)) {
+            throw new InvalidStatsRequestException("시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new InvalidStatsRequestException("최대 " + MAX_RANGE_DAYS + "일까지 조회할 수 있습니다.");
+        }
+        if (weekly) {
+            start = weekStart(start);
+        }
+
+        Long scopeId = uid;
+        if (family) {
+            scopeId = plantDao.getUserFid(uid);
+            if (scopeId == null) {
+                throw new InvalidStatsRequestException("가족에 속해 있지 않습니다.");
+            }
+        }
+
+        List<PointRollupRow> rows = pointRollupDao.selectRollups(
+                family ? "F" : "U", scopeId, weekly ? "W" : "D", start, end);
+        return toResponse(scope, period, start, end, rows);
+    }
+
+    // 행(기간 x 활동 유형)을 기간별 묶음으로 변환 (rows 는 기간 시작일 순)
+    private PointStatsResponse toResponse(String scope, String period, LocalDate from, LocalDate to,
+                                          List<PointRollupRow> rows) {
+        List<PointStatsResponse.Bucket> buckets = new ArrayList<>();
+        int totalPoints = 0;
+        int totalActivities = 0;
+
+        int i = 0;
+        while (i < rows.size()) {
+            LocalDate periodStart = rows.get(i).getPeriodStart();
+            Map<String, Integer> pointsByType = new LinkedHashMap<>();
+            Map<String, Integer> countByType = new LinkedHashMap<>();
+            int points = 0;
+            int count = 0;
+            for (; i < rows.size() && rows.get(i).getPeriodStart().equals(periodStart); i++) {
+                PointRollupRow row = rows.get(i);
+                pointsByType.put(row.getActivityType(), row.getPoints());
+                countByType.put(row.getActivityType(), row.getActivityCount());
+                points += row.getPoints();
+                count += row.getActivityCount();
+            }
+            buckets.add(new PointStatsResponse.Bucket(periodStart, points, count, pointsByType, countByType));
+            totalPoints += points;
+            totalActivities += count;
+        }
+        return new PointStatsResponse(scope, period, from, to, totalPoints, totalActivities, buckets);
+    }
+
+    // 주 단위 집계 기준일 (월요일)
+    static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
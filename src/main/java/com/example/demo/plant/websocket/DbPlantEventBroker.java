@@ -0,0 +1,203 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.dao.PlantEventOutboxDao;
+import com.example.demo.plant.dto.PlantEventOutbox;
+import com.example.demo.plant.websocket.dto.PlantEventData;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 여러 대용 - 같은 DB 의 plant_event_outbox 를 통해 이벤트를 주고받는다
+ * - publish: 이 서버 구독자에게는 바로 전달하고, 다른 서버용으로 한 행 기록 (전용 스레드에서 autocommit)
+ * - 주기마다 이 서버가 구독한 가족의 다른 서버 행만 id 순으로 읽는다 (PK 범위 조회)
+ *   AUTO_INCREMENT id 는 커밋 순서와 달라 작은 id 가 늦게 보일 수 있으므로, 최근 trailing-ms 동안 읽은 범위는
+ *   다시 읽고 이미 전달한 id 는 건너뛴다. 그보다 오래 늦게 커밋된 행은 전달되지 않는다
+ *   구독 가족이 없으면 읽지 않고 위치만 옮긴다
+ * - 보관 시간이 지난 행은 어느 서버든 주기적으로 지운다 (중복 삭제는 무해)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "plant.websocket.broker", havingValue = "db")
+public class DbPlantEventBroker implements PlantEventBroker {
+
+    private static final long PURGE_INTERVAL_SECONDS = 60;
+
+    private final PlantEventOutboxDao plantEventOutboxDao;
+    private final ObjectWriter eventsWriter;
+    private final ObjectReader eventsReader;
+
+    // 이 서버 구분용 (자기가 남긴 행은 다시 읽지 않는다)
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> subscriptions = ConcurrentHashMap.newKeySet();
+    private volatile Listener listener;
+
+    @Value("${plant.websocket.outbox.poll-ms:200}")
+    private long pollMs;
+
+    @Value("${plant.websocket.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${plant.websocket.outbox.retention-seconds:300}")
+    private int retentionSeconds;
+
+    @Value("${plant.websocket.outbox.trailing-ms:2000}")
+    private long trailingMs;
+
+    private ScheduledExecutorService scheduler;
+    // 이하 scheduler 스레드에서만 접근
+    // 이 id 이하는 trailing-ms 이전에 읽어 다시 읽지 않는다
+    private long lastId;
+    // 최근 조회 시각(ms)과 그때의 읽기 상한 id - trailing-ms 가 지나면 lastId 로 넘어간다
+    private final ArrayDeque<long[]> readMarks = new ArrayDeque<>();
+    // lastId 이후 중 이미 전달한 id
+    private final Set<Long> delivered = new HashSet<>();
+
+    public DbPlantEventBroker(PlantEventOutboxDao plantEventOutboxDao, ObjectMapper objectMapper) {
+        this.plantEventOutboxDao = plantEventOutboxDao;
+        TypeReference<List<PlantEventData>> type = new TypeReference<>() {
+        };
+        this.eventsWriter = objectMapper.writerFor(type);
+        this.eventsReader = objectMapper.readerFor(type);
+    }
+
+    @PostConstruct
+    public void init() {
+        // 기동 전 이벤트는 보내지 않는다
+        Long maxId = plantEventOutboxDao.selectMaxId();
+        lastId = maxId == null ? 0 : maxId;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "plant-event-outbox");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, pollMs, pollMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly,
+                PURGE_INTERVAL_SECONDS, PURGE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        log.info("식물 이벤트 DB 중계 시작: node={}, 시작 id={}", nodeId, lastId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Override
+    public void listen(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void publish(Long fid, List<PlantEventData> events) {
+        Listener target = listener;
+        if (target != null && subscriptions.contains(fid)) {
+            target.onEvents(fid, events);
+        }
+        // afterCommit 콜백 안에서 호출될 수 있어 호출 스레드의 트랜잭션 자원을 쓰지 않도록 전용 스레드에서 기록
+        String payload;
+        try {
+            payload = eventsWriter.writeValueAsString(events);
+        } catch (Exception e) {
+            log.warn("식물 이벤트 직렬화 실패 - fid={}: {}", fid, e.getMessage());
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                try {
+                    plantEventOutboxDao.insertEvents(fid, nodeId, payload);
+                } catch (Exception e) {
+                    log.warn("식물 이벤트 중계 기록 실패 - 다른 서버에 전달되지 않음: fid={}, {}", fid, e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            log.warn("식물 이벤트 중계 기록 생략 (종료 중): fid={}", fid);
+        }
+    }
+
+    @Override
+    public void subscribe(Long fid) {
+        subscriptions.add(fid);
+    }
+
+    @Override
+    public void unsubscribe(Long fid) {
+        subscriptions.remove(fid);
+    }
+
+    // 다른 서버가 남긴 구독 가족 이벤트 전달
+    void poll() {
+        long now = System.nanoTime() / 1_000_000;
+        while (!readMarks.isEmpty() && readMarks.peekFirst()[0] <= now - trailingMs) {
+            lastId = Math.max(lastId, readMarks.pollFirst()[1]);
+        }
+        delivered.removeIf(id -> id <= lastId);
+
+        Long maxId = plantEventOutboxDao.selectMaxId();
+        if (maxId == null || maxId <= lastId) {
+            return;
+        }
+        readMarks.addLast(new long[]{now, maxId});
+        Set<Long> fids = Set.copyOf(subscriptions);
+        Listener target = listener;
+        if (fids.isEmpty() || target == null) {
+            return;
+        }
+        long afterId = lastId;
+        while (afterId < maxId) {
+            List<PlantEventOutbox> rows = plantEventOutboxDao.selectEvents(afterId, maxId, nodeId, fids, batchSize);
+            for (PlantEventOutbox row : rows) {
+                if (delivered.add(row.getId())) {
+                    deliver(target, row);
+                }
+            }
+            afterId = rows.size() < batchSize ? maxId : rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    private void deliver(Listener target, PlantEventOutbox row) {
+        if (!subscriptions.contains(row.getFid())) {
+            return;
+        }
+        try {
+            List<PlantEventData> events = eventsReader.readValue(row.getPayload());
+            target.onEvents(row.getFid(), events);
+        } catch (Exception e) {
+            log.warn("식물 이벤트 중계 전달 실패 - id={}: {}", row.getId(), e.getMessage());
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (Exception e) {
+            log.warn("식물 이벤트 중계 조회 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            plantEventOutboxDao.deleteOlderThan(retentionSeconds);
+        } catch (Exception e) {
+            log.warn("식물 이벤트 중계 정리 실패: {}", e.getMessage());
+        }
+    }
+}
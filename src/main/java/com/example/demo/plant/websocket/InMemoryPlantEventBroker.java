@@ -0,0 +1,43 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버 한 대 / 테스트용 - 이 서버의 구독 가족에게만 바로 전달
+ */
+@Component
+@ConditionalOnProperty(name = "plant.websocket.broker", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPlantEventBroker implements PlantEventBroker {
+
+    private final Set<Long> subscriptions = ConcurrentHashMap.newKeySet();
+    private volatile Listener listener;
+
+    @Override
+    public void listen(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void publish(Long fid, List<PlantEventData> events) {
+        Listener target = listener;
+        if (target != null && subscriptions.contains(fid)) {
+            target.onEvents(fid, events);
+        }
+    }
+
+    @Override
+    public void subscribe(Long fid) {
+        subscriptions.add(fid);
+    }
+
+    @Override
+    public void unsubscribe(Long fid) {
+        subscriptions.remove(fid);
+    }
+}
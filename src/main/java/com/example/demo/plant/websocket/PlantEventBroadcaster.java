@@ -0,0 +1,188 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * 식물 이벤트 실시간 전송
+ * - 하위 프로토콜 plant.bin.v1 을 협상한 연결은 바이너리 프레임 (PlantEventEncoder), 그 외에는 기존 JSON 텍스트
+ * - JSON 은 미리 만든 ObjectWriter 로 이벤트당 한 번만 직렬화해 모든 JSON 연결이 같은 메시지를 쓴다
+ * - 연결마다 ConcurrentWebSocketSessionDecorator 로 감싸 여러 스레드가 동시에 보내도 안전하고,
+ *   느린 클라이언트는 버퍼 / 시간 한도를 넘으면 끊는다
+ * - 같은 가족의 이벤트는 짧은 시간 모아 합쳐 보낸다 (PlantEventCoalescer, window-ms 0 이면 즉시 전송)
+ * - 연결은 가족 방 단위로 묶고, 이벤트는 PlantEventBroker 를 거쳐 그 가족 연결이 있는 서버에만 전달된다
+ */
+@Slf4j
+@Component
+public class PlantEventBroadcaster {
+
+    public static final String BINARY_PROTOCOL = "plant.bin.v1";
+    public static final String JSON_PROTOCOL = "plant.json.v1";
+
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int BUFFER_SIZE_LIMIT = 64 * 1024;
+
+    private final ObjectWriter eventWriter;
+    private final PlantEventBroker plantEventBroker;
+    private final ConcurrentHashMap<String, PlantEventConnection> connections = new ConcurrentHashMap<>();
+    // 가족 → 그 가족의 연결 (session id 기준)
+    private final ConcurrentHashMap<Long, Map<String, PlantEventConnection>> rooms = new ConcurrentHashMap<>();
+
+    // 마지막 이벤트 후 이 시간 동안 같은 가족 이벤트가 더 없으면 전송
+    @Value("${plant.websocket.coalesce.window-ms:200}")
+    private long coalesceWindowMs;
+
+    // 이벤트가 계속 들어와도 첫 이벤트 후 이 시간 안에는 전송
+    @Value("${plant.websocket.coalesce.max-delay-ms:1000}")
+    private long coalesceMaxDelayMs;
+
+    private ScheduledExecutorService scheduler;
+    private PlantEventCoalescer coalescer;
+
+    public PlantEventBroadcaster(ObjectMapper objectMapper, PlantEventBroker plantEventBroker) {
+        this.eventWriter = objectMapper.writerFor(PlantEventData.class);
+        this.plantEventBroker = plantEventBroker;
+    }
+
+    @PostConstruct
+    public void init() {
+        plantEventBroker.listen(this::deliver);
+        if (coalesceWindowMs <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "plant-event-coalesce");
+            t.setDaemon(true);
+            return t;
+        });
+        coalescer = new PlantEventCoalescer(coalesceWindowMs, coalesceMaxDelayMs, scheduler, this::publish);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        coalescer.flushAll();
+    }
+
+    // fid 가 없으면 (가족 미가입) 받을 이벤트가 없다 - 가족 가입 후 다시 연결
+    public void register(WebSocketSession session, Long fid) {
+        boolean binary = BINARY_PROTOCOL.equals(session.getAcceptedProtocol());
+        WebSocketSession concurrent =
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, BUFFER_SIZE_LIMIT);
+        PlantEventConnection connection = new PlantEventConnection(concurrent, binary, fid);
+        connections.put(session.getId(), connection);
+        if (fid == null) {
+            return;
+        }
+        // 이 서버의 첫 연결이면 구독
+        rooms.compute(fid, (key, room) -> {
+            if (room == null) {
+                room = new ConcurrentHashMap<>();
+                plantEventBroker.subscribe(key);
+            }
+            room.put(session.getId(), connection);
+            return room;
+        });
+    }
+
+    public void unregister(WebSocketSession session) {
+        remove(session.getId());
+    }
+
+    private void remove(String sessionId) {
+        PlantEventConnection connection = connections.remove(sessionId);
+        if (connection == null || connection.fid() == null) {
+            return;
+        }
+        // 마지막 연결이 끊기면 구독 해제
+        rooms.computeIfPresent(connection.fid(), (key, room) -> {
+            room.remove(sessionId);
+            if (!room.isEmpty()) {
+                return room;
+            }
+            plantEventBroker.unsubscribe(key);
+            return null;
+        });
+    }
+
+    // 가족 방으로 전송 (fid 가 없는 이벤트는 보낼 곳이 없다)
+    public void broadcast(PlantEventData event) {
+        Long fid = event.getFid();
+        if (fid == null) {
+            log.debug("가족 정보 없는 식물 이벤트 무시: type={}, uid={}", event.getType(), event.getUid());
+            return;
+        }
+        if (coalescer != null) {
+            coalescer.submit(fid, event);
+            return;
+        }
+        publish(List.of(event));
+    }
+
+    // 같은 가족 이벤트 묶음을 중계 (다른 서버 포함)
+    private void publish(List<PlantEventData> events) {
+        plantEventBroker.publish(events.get(0).getFid(), events);
+    }
+
+    // 중계로 받은 이벤트를 이 서버의 가족 연결에 순서대로 전송 (연결마다 한 번에)
+    private void deliver(Long fid, List<PlantEventData> events) {
+        Map<String, PlantEventConnection> room = rooms.get(fid);
+        if (room == null) {
+            return;
+        }
+        List<Supplier<TextMessage>> json = new ArrayList<>(events.size());
+        for (PlantEventData event : events) {
+            json.add(lazyJson(event));
+        }
+        room.forEach((id, connection) -> {
+            if (!connection.isOpen()) {
+                remove(id);
+                return;
+            }
+            try {
+                connection.send(events, json);
+            } catch (Exception e) {
+                log.warn("WebSocket 전송 실패 - session={}: {}", id, e.getMessage());
+            }
+        });
+    }
+
+    // JSON 연결이 하나도 없으면 직렬화하지 않는다
+    private Supplier<TextMessage> lazyJson(PlantEventData event) {
+        TextMessage[] message = new TextMessage[1];
+        return () -> {
+            synchronized (message) {
+                if (message[0] == null) {
+                    try {
+                        message[0] = new TextMessage(eventWriter.writeValueAsString(event));
+                    } catch (JsonProcessingException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return message[0];
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+
+import java.util.List;
+
+/**
+ * 가족 방 이벤트 중계 추상화 (메모리, DB outbox)
+ * - publish 한 이벤트는 이 서버와 다른 서버 중 그 가족을 구독한 곳의 Listener 로 전달된다
+ * - 서버는 자기에게 연결이 있는 가족만 구독한다 (PlantEventBroadcaster 가 첫 연결 / 마지막 연결 종료 시 호출)
+ */
+public interface PlantEventBroker {
+
+    // 구독 가족의 이벤트 수신자 (기동 시 한 번 등록)
+    void listen(Listener listener);
+
+    // 같은 가족의 이벤트 묶음 전달 (순서 유지)
+    void publish(Long fid, List<PlantEventData> events);
+
+    void subscribe(Long fid);
+
+    void unsubscribe(Long fid);
+
+    interface Listener {
+        void onEvents(Long fid, List<PlantEventData> events);
+    }
+}
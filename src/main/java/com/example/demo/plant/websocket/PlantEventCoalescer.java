@@ -0,0 +1,139 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 가족별 식물 이벤트 모아 보내기 (디바운스)
+ * - 마지막 이벤트 후 window 동안 새 이벤트가 없으면 보낸다. 계속 들어와도 첫 이벤트 후 maxDelay 안에는 보낸다
+ * - 보낼 때 레벨업과 구성원 활동은 들어온 순서대로 남기고, 경험치/레벨 같은 상태는 가장 최근 서버 이벤트 값 하나로 합친다
+ *   (남긴 활동 이벤트에 최근 상태를 실어, 클라이언트가 중간 상태를 여러 번 그리지 않게 한다)
+ * - 상태는 서버 이벤트에서만 가져온다. 클라이언트 중계 이벤트는 레벨/경험치가 비어 있어 상태를 덮어쓰면 안 된다
+ */
+class PlantEventCoalescer {
+
+    private final long windowMs;
+    private final long maxDelayMs;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<List<PlantEventData>> sink;
+
+    private final ConcurrentHashMap<Long, Pending> families = new ConcurrentHashMap<>();
+
+    // 아직 보내지 않은 가족 하나의 이벤트 (families.compute 안에서만 수정)
+    private static final class Pending {
+        final long firstAt;
+        final List<PlantEventData> events = new ArrayList<>();
+        ScheduledFuture<?> flush;
+
+        Pending(long firstAt) {
+            this.firstAt = firstAt;
+        }
+    }
+
+    PlantEventCoalescer(long windowMs, long maxDelayMs, ScheduledExecutorService scheduler,
+                        Consumer<List<PlantEventData>> sink) {
+        this.windowMs = windowMs;
+        this.maxDelayMs = Math.max(windowMs, maxDelayMs);
+        this.scheduler = scheduler;
+        this.sink = sink;
+    }
+
+    void submit(Long fid, PlantEventData event) {
+        long now = System.nanoTime() / 1_000_000;
+        families.compute(fid, (key, pending) -> {
+            Pending p = pending != null ? pending : new Pending(now);
+            p.events.add(event);
+            if (p.flush != null) {
+                p.flush.cancel(false);
+            }
+            long delay = Math.min(now + windowMs, p.firstAt + maxDelayMs) - now;
+            p.flush = scheduler.schedule(() -> flush(key, p), Math.max(0, delay), TimeUnit.MILLISECONDS);
+            return p;
+        });
+    }
+
+    // 종료 시 남은 이벤트 전송
+    void flushAll() {
+        families.forEach(this::flush);
+    }
+
+    private void flush(Long fid, Pending pending) {
+        // 이미 보냈거나 (취소가 늦은 예약) 다른 스레드가 보내는 중
+        if (!families.remove(fid, pending)) {
+            return;
+        }
+        sink.accept(merge(pending.events));
+    }
+
+    /**
+     * 한 가족의 이벤트 목록을 합친다 (들어온 순서)
+     * - 서버 레벨업 이벤트는 모두 남기고, 그 레벨업 시점의 레벨/경험치/기준을 그대로 둔다
+     * - 구성원 활동 (uid + type) 은 처음 들어온 자리에 하나만 남기고, 상태는 가장 최근 서버 이벤트 값으로 맞춘다
+     * - 마지막 레벨업 뒤의 최근 상태가 남긴 이벤트에 실리지 않았으면 상태만 담은 이벤트를 끝에 붙인다
+     * - 남길 것이 없으면 최근 상태 하나만 보낸다 (서버 이벤트가 없으면 마지막 이벤트)
+     */
+    static List<PlantEventData> merge(List<PlantEventData> events) {
+        int stateAt = -1;
+        for (int i = events.size() - 1; i >= 0; i--) {
+            if (events.get(i).isServerOrigin()) {
+                stateAt = i;
+                break;
+            }
+        }
+        PlantEventData state = stateAt >= 0 ? events.get(stateAt) : null;
+
+        List<PlantEventData> merged = new ArrayList<>(events.size());
+        Set<String> activities = new HashSet<>();
+        // 최근 상태가 마지막으로 남긴 이벤트에 실려 있는지
+        boolean stateDelivered = false;
+        for (PlantEventData event : events) {
+            if (event.isLevelUp() && event.isServerOrigin()) {
+                merged.add(event);
+                stateDelivered = event == state;
+                continue;
+            }
+            boolean activity = event.getUid() != null && event.getType() != null;
+            if (event.isLevelUp() || (activity && activities.add(event.getUid() + ":" + event.getType()))) {
+                merged.add(state == null ? event : withState(event, state));
+                stateDelivered = state != null;
+            }
+        }
+        if (merged.isEmpty()) {
+            merged.add(state != null ? state : events.get(events.size() - 1));
+        } else if (state != null && !stateDelivered) {
+            PlantEventData stateOnly = new PlantEventData();
+            stateOnly.setFid(state.getFid());
+            stateOnly.setServerOrigin(true);
+            merged.add(withState(stateOnly, state));
+        }
+        return merged;
+    }
+
+    // 원본은 그대로 두고 상태만 바꾼 복사본
+    private static PlantEventData withState(PlantEventData event, PlantEventData state) {
+        if (event == state) {
+            return event;
+        }
+        PlantEventData copy = new PlantEventData();
+        copy.setType(event.getType());
+        copy.setFid(event.getFid());
+        copy.setUid(event.getUid());
+        copy.setName(event.getName());
+        copy.setAvatarUrl(event.getAvatarUrl());
+        copy.setLevelUp(event.isLevelUp());
+        copy.setServerOrigin(event.isServerOrigin());
+        copy.setLevel(state.getLevel());
+        copy.setExperiencePoint(state.getExperiencePoint());
+        copy.setExpThreshold(state.getExpThreshold());
+        return copy;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 식물 이벤트를 받는 연결 하나 - 협상된 하위 프로토콜에 맞춰 JSON 텍스트 또는 바이너리 프레임으로 보낸다
+ * 인코딩과 전송을 한 번에 잠가, 정의 프레임이 그것을 쓰는 이벤트보다 늦게 도착하지 않게 한다
+ */
+class PlantEventConnection {
+
+    private final WebSocketSession session;
+    private final PlantEventEncoder encoder; // JSON 연결이면 null
+    private final Long fid; // 가족 미가입이면 null
+
+    PlantEventConnection(WebSocketSession session, boolean binary, Long fid) {
+        this.session = session;
+        this.encoder = binary ? new PlantEventEncoder() : null;
+        this.fid = fid;
+    }
+
+    Long fid() {
+        return fid;
+    }
+
+    boolean isOpen() {
+        return session.isOpen();
+    }
+
+    // 이벤트를 순서대로 전송 - json 은 JSON 으로 보낼 때만 호출 (한 번 만든 메시지를 여러 연결이 같이 쓴다)
+    synchronized void send(List<PlantEventData> events, List<Supplier<TextMessage>> json) throws IOException {
+        for (int i = 0; i < events.size(); i++) {
+            send(events.get(i), json.get(i));
+        }
+    }
+
+    private void send(PlantEventData event, Supplier<TextMessage> json) throws IOException {
+        if (encoder != null) {
+            List<ByteBuffer> frames = encoder.encode(event);
+            if (frames != null) {
+                for (ByteBuffer frame : frames) {
+                    session.sendMessage(new BinaryMessage(frame));
+                }
+                return;
+            }
+        }
+        session.sendMessage(json.get());
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바이너리 하위 프로토콜(plant.bin.v1) 프레임 인코더 - 연결마다 하나, 동기화는 호출하는 쪽에서
+ * 모든 정수는 big-endian, 문자열은 u16 길이 + UTF-8 (null 은 빈 문자열)
+ *
+ *   TYPE  (0x03) code:u8, type:str                             활동 유형을 코드로 등록
+ *   USER  (0x01) uid:i64, name:str, avatarUrl:str              사용자 이름/프로필 등록 (바뀌면 다시 보냄)
+ *   EVENT (0x02) code:u8, fid:i64, uid:i64, level:u8,
+ *                experiencePoint:i32, expThreshold:i32, flags:u8 (bit0 = levelUp)   고정 28바이트
+ *
+ * 정의 프레임은 그 정의를 쓰는 EVENT 보다 항상 먼저 보내므로, 클라이언트는 받은 순서대로 표만 채우면 된다
+ */
+class PlantEventEncoder {
+
+    static final byte USER = 0x01;
+    static final byte EVENT = 0x02;
+    static final byte TYPE = 0x03;
+    static final int EVENT_FRAME_BYTES = 28;
+
+    private static final int MAX_TYPES = 255;
+    // 연결 하나가 기억하는 사용자 수 상한 (넘으면 비우고 다시 등록)
+    private static final int MAX_USERS = 4096;
+
+    private record UserInfo(String name, String avatarUrl) {
+    }
+
+    private final Map<String, Integer> types = new HashMap<>();
+    private final Map<Long, UserInfo> users = new HashMap<>();
+
+    /**
+     * 이벤트 하나를 보낼 프레임 목록 (필요한 정의 프레임 먼저)
+     * @return 활동 유형 코드가 모자라면 null (이 이벤트는 JSON 텍스트로 보낸다)
+     */
+    List<ByteBuffer> encode(PlantEventData event) {
+        List<ByteBuffer> frames = new ArrayList<>(3);
+
+        String type = nullToEmpty(event.getType());
+        Integer code = types.get(type);
+        if (code == null) {
+            if (types.size() >= MAX_TYPES) {
+                return null;
+            }
+            code = types.size() + 1;
+            types.put(type, code);
+            frames.add(typeFrame(code, type));
+        }
+
+        if (event.getUid() != null) {
+            UserInfo info = new UserInfo(nullToEmpty(event.getName()), nullToEmpty(event.getAvatarUrl()));
+            if (users.size() >= MAX_USERS && !users.containsKey(event.getUid())) {
+                users.clear();
+            }
+            if (!info.equals(users.put(event.getUid(), info))) {
+                frames.add(userFrame(event.getUid(), info));
+            }
+        }
+
+        frames.add(eventFrame(code, event));
+        return frames;
+    }
+
+    private static ByteBuffer typeFrame(int code, String type) {
+        byte[] name = utf8(type);
+        ByteBuffer frame = ByteBuffer.allocate(1 + 1 + 2 + name.length);
+        frame.put(TYPE).put((byte) code);
+        putString(frame, name);
+        return frame.flip();
+    }
+
+    private static ByteBuffer userFrame(long uid, UserInfo info) {
+        byte[] name = utf8(info.name());
+        byte[] avatar = utf8(info.avatarUrl());
+        ByteBuffer frame = ByteBuffer.allocate(1 + 8 + 2 + name.length + 2 + avatar.length);
+        frame.put(USER).putLong(uid);
+        putString(frame, name);
+        putString(frame, avatar);
+        return frame.flip();
+    }
+
+    private static ByteBuffer eventFrame(int code, PlantEventData event) {
+        ByteBuffer frame = ByteBuffer.allocate(EVENT_FRAME_BYTES);
+        frame.put(EVENT)
+                .put((byte) code)
+                .putLong(event.getFid() == null ? 0 : event.getFid())
+                .putLong(event.getUid() == null ? 0 : event.getUid())
+                .put((byte) event.getLevel())
+                .putInt(event.getExperiencePoint())
+                .putInt(event.getExpThreshold())
+                .put((byte) (event.isLevelUp() ? 1 : 0));
+        return frame.flip();
+    }
+
+    private static void putString(ByteBuffer frame, byte[] value) {
+        frame.putShort((short) value.length).put(value);
+    }
+
+    // u16 길이에 맞게 자름 (이름/URL 이 64KB 를 넘는 경우는 없지만 프레임이 깨지지 않도록)
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= 0xFFFF) {
+            return bytes;
+        }
+        byte[] truncated = new byte[0xFFFF];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        return truncated;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
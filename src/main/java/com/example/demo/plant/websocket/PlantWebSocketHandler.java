@@ -1,26 +1,41 @@
 package com.example.demo.plant.websocket;
 
+import com.example.demo.login.dao.UserDao;
+import com.example.demo.login.dto.User;
 import com.example.demo.plant.websocket.dto.PlantEventData;
 import com.example.demo.provider.JwtProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.List;
 
+// 클라이언트가 Sec-WebSocket-Protocol 로 plant.bin.v1 을 요청하면 서버 → 클라이언트 이벤트는 바이너리로 보낸다
+// 클라이언트 → 서버 이벤트는 어느 프로토콜이든 JSON 텍스트
 @Slf4j
 @Component
-public class PlantWebSocketHandler extends TextWebSocketHandler {
+public class PlantWebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
 
-    public static final Set<WebSocketSession> sessions = new CopyOnWriteArraySet<>();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader eventReader;
     private final JwtProvider jwtProvider;
+    private final UserDao userDao;
+    private final PlantEventBroadcaster plantEventBroadcaster;
 
-    public PlantWebSocketHandler(JwtProvider jwtProvider) {
+    public PlantWebSocketHandler(JwtProvider jwtProvider, UserDao userDao, PlantEventBroadcaster plantEventBroadcaster,
+                                 ObjectMapper objectMapper) {
         this.jwtProvider = jwtProvider;
+        this.userDao = userDao;
+        this.plantEventBroadcaster = plantEventBroadcaster;
+        this.eventReader = objectMapper.readerFor(PlantEventData.class);
+    }
+
+    // 선호 순서 (요청 목록에 없으면 프로토콜 없이 JSON)
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(PlantEventBroadcaster.BINARY_PROTOCOL, PlantEventBroadcaster.JSON_PROTOCOL);
     }
 
     @Override
@@ -39,14 +54,17 @@ public class PlantWebSocketHandler extends TextWebSocketHandler {
         }
 
         String email = jwtProvider.getEmail(token);
+        User user = userDao.findByEmail(email);
+        Long fid = user == null ? null : user.getFid();
         session.getAttributes().put("userEmail", email);
-        sessions.add(session);
-        log.info("WebSocket 연결 성공 - 사용자: {}", email);
+        session.getAttributes().put("fid", fid);
+        plantEventBroadcaster.register(session, fid);
+        log.info("WebSocket 연결 성공 - 사용자: {}, 가족: {}, 프로토콜: {}", email, fid, session.getAcceptedProtocol());
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-        sessions.remove(session);
+        plantEventBroadcaster.unregister(session);
         log.info("WebSocket 연결 종료: {}", session.getId());
     }
 
@@ -55,14 +73,11 @@ public class PlantWebSocketHandler extends TextWebSocketHandler {
         String payload = message.getPayload();
         log.info("식물 이벤트 수신: {}", payload);
 
-        PlantEventData data = objectMapper.readValue(payload, PlantEventData.class);
+        PlantEventData data = eventReader.readValue(payload);
         log.info("받은 이벤트: type={}, fid={}, uid={}, name={}", data.getType(), data.getFid(), data.getUid(), data.getName());
 
-        String broadcast = objectMapper.writeValueAsString(data);
-        for (WebSocketSession s : sessions) {
-            if (s.isOpen()) {
-                s.sendMessage(new TextMessage(broadcast));
-            }
-        }
+        // 보낸 사람의 가족 방으로만 중계
+        data.setFid((Long) session.getAttributes().get("fid"));
+        plantEventBroadcaster.broadcast(data);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.demo.plant.websocket.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
 @Data
@@ -13,4 +14,7 @@ public class PlantEventData {
     private int experiencePoint;
     private int expThreshold;
     private boolean isLevelUp;
-}
\ No newline at end of file
+    // 서버가 적립 후 만든 이벤트 (레벨/경험치가 DB 기준). 클라이언트가 보낸 중계 이벤트는 false (JSON 으로 받지 않음)
+    @JsonIgnore
+    private boolean serverOrigin;
+}
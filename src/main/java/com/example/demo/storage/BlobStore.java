@@ -0,0 +1,48 @@
+package com.example.demo.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 음성/TTS 파일 저장소 추상화 (GCS, 로컬 파일 시스템)
+ * - key: 버킷/루트 기준 상대 경로 (예: tts/{hash}.mp3)
+ * - url: DB에 저장하는 위치 (GCS 는 gs://bucket/key, 로컬은 local://key)
+ */
+public interface BlobStore {
+
+    // key 에 해당하는 저장 위치 URL
+    String url(String key);
+
+    // 작은 데이터 업로드 후 URL 반환
+    String put(String key, byte[] data, String contentType);
+
+    // 파일 업로드 후 URL 반환 (본문 전체를 힙에 올리지 않는다)
+    String put(String key, Path file, String contentType) throws IOException;
+
+    // 스트리밍 쓰기 채널 - close() 시점에 객체가 완성된다
+    WritableByteChannel openWriter(String key, String contentType) throws IOException;
+
+    byte[] get(String url);
+
+    // 메타데이터만 조회 (본문은 copyRange 호출 시 스트리밍)
+    BlobObject open(String url);
+
+    // 클라이언트가 저장소에서 직접 받을 수 있는 만료 시간이 있는 GET URL
+    String signedUrl(String url, Duration ttl);
+
+    /**
+     * 저장된 객체 핸들 - 크기/ETag 제공 및 지정 구간을 출력 스트림으로 복사
+     */
+    interface BlobObject {
+
+        long size();
+
+        String etag();
+
+        // [start, end] (end 포함) 구간을 out 으로 복사
+        void copyRange(long start, long end, OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.demo.storage;
+
+import com.example.demo.buffer.DirectBufferPool;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Google Cloud Storage 저장소
+ * - threshold 이상인 파일은 여러 조각으로 나눠 병렬 업로드 후 compose 로 합친다
+ * - 예전에 저장된 https://storage.googleapis.com/ 형식 URL 도 읽을 수 있다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "gcs", matchIfMissing = true)
+public class GcsBlobStore implements BlobStore {
+
+    private static final String GS_PREFIX = "gs://";
+    private static final String HTTPS_PREFIX = "https://storage.googleapis.com/";
+
+    // 스트리밍 복사 시 요청당 사용하는 고정 버퍼 크기
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // compose 한 번에 합칠 수 있는 최대 조각 수
+    private static final int MAX_COMPOSE_SOURCES = 32;
+
+    private final Storage storage;
+    private final DirectBufferPool bufferPool;
+
+    @Value("${google.bucket-name}")
+    private String bucketName;
+
+    @Value("${storage.composite.threshold-bytes:8388608}")
+    private long compositeThresholdBytes;
+
+    @Value("${storage.composite.part-bytes:4194304}")
+    private long compositePartBytes;
+
+    @Value("${storage.composite.threads:4}")
+    private int compositeThreads;
+
+    private ThreadPoolExecutor uploadExecutor;
+
+    public GcsBlobStore(Storage storage, DirectBufferPool bufferPool) {
+        this.storage = storage;
+        this.bufferPool = bufferPool;
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        uploadExecutor = new ThreadPoolExecutor(
+                compositeThreads, compositeThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_COMPOSE_SOURCES * 2),
+                r -> {
+                    Thread t = new Thread(r, "gcs-part-upload-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                // 대기열이 차면 호출 스레드에서 직접 업로드
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        uploadExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdownNow();
+    }
+
+    @Override
+    public String url(String key) {
+        return GS_PREFIX + bucketName + "/" + key;
+    }
+
+    @Override
+    public String put(String key, byte[] data, String contentType) {
+        try {
+            storage.create(blobInfo(key, contentType), data);
+            return url(key);
+        } catch (Exception e) {
+            throw new RuntimeException("GCS 업로드 실패", e);
+        }
+    }
+
+    @Override
+    public String put(String key, Path file, String contentType) throws IOException {
+        long size = Files.size(file);
+        if (size >= compositeThresholdBytes) {
+            compositeUpload(key, file, size, contentType);
+        } else {
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+                 WriteChannel writer = storage.writer(blobInfo(key, contentType))) {
+                copy(in, 0, size, writer);
+            }
+        }
+        return url(key);
+    }
+
+    @Override
+    public WritableByteChannel openWriter(String key, String contentType) {
+        return storage.writer(blobInfo(key, contentType));
+    }
+
+    @Override
+    public byte[] get(String url) {
+        try {
+            return getBlob(url).getContent();
+        } catch (Exception e) {
+            throw new RuntimeException("GCS 다운로드 실패", e);
+        }
+    }
+
+    @Override
+    public BlobObject open(String url) {
+        Blob blob;
+        try {
+            blob = getBlob(url);
+        } catch (Exception e) {
+            throw new RuntimeException("GCS 객체 조회 실패", e);
+        }
+        return new BlobObject() {
+            @Override
+            public long size() {
+                return blob.getSize();
+            }
+
+            @Override
+            public String etag() {
+                return blob.getEtag();
+            }
+
+            // 풀에서 빌린 고정 크기 버퍼로 복사 → 요청당 힙 할당 없음
+            @Override
+            public void copyRange(long start, long end, OutputStream out) throws IOException {
+                long remaining = end - start + 1;
+                WritableByteChannel target = Channels.newChannel(out);
+
+                try (DirectBufferPool.Lease lease = bufferPool.acquire(COPY_BUFFER_SIZE);
+                     ReadChannel reader = blob.reader()) {
+                    ByteBuffer buffer = lease.buffer();
+                    reader.seek(start);
+                    reader.limit(end + 1);
+                    while (remaining > 0) {
+                        buffer.clear();
+                        buffer.limit((int) Math.min(COPY_BUFFER_SIZE, remaining));
+                        int read = reader.read(buffer);
+                        if (read < 0) {
+                            break;
+                        }
+                        buffer.flip();
+                        while (buffer.hasRemaining()) {
+                            target.write(buffer);
+                        }
+                        remaining -= read;
+                    }
+                }
+                out.flush();
+            }
+        };
+    }
+
+    // V4 서명 URL (서비스 계정 키로 서명하므로 원격 호출 없음)
+    @Override
+    public String signedUrl(String url, Duration ttl) {
+        BlobInfo info = BlobInfo.newBuilder(blobId(url)).build();
+        return storage.signUrl(info, ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.withV4Signature(),
+                Storage.SignUrlOption.httpMethod(HttpMethod.GET)).toString();
+    }
+
+    /*
+    병렬 조각 업로드
+    조각을 {key}.parts/{n} 으로 동시에 올린 뒤 compose 로 합치고 조각은 삭제한다
+     */
+    private void compositeUpload(String key, Path file, long size, String contentType) throws IOException {
+        // compose 한도(32개)를 넘지 않도록 조각 크기 조정
+        long partSize = Math.max(compositePartBytes, (size + MAX_COMPOSE_SOURCES - 1) / MAX_COMPOSE_SOURCES);
+        int partCount = (int) ((size + partSize - 1) / partSize);
+
+        List<String> partNames = new ArrayList<>(partCount);
+        List<Future<?>> futures = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            String partName = key + ".parts/" + i;
+            long position = i * partSize;
+            long length = Math.min(partSize, size - position);
+            partNames.add(partName);
+            futures.add(uploadExecutor.submit(() -> {
+                try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+                     WriteChannel writer = storage.writer(BlobInfo.newBuilder(BlobId.of(bucketName, partName)).build())) {
+                    copy(in, position, length, writer);
+                }
+                return null;
+            }));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            storage.compose(Storage.ComposeRequest.newBuilder()
+                    .addSource(partNames)
+                    .setTarget(blobInfo(key, contentType))
+                    .build());
+            log.debug("GCS 병렬 업로드 완료: {} ({} bytes, {}개 조각)", key, size, partCount);
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("GCS 병렬 업로드 중단", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IOException("GCS 조각 업로드 실패", e.getCause());
+        } finally {
+            deleteParts(partNames);
+        }
+    }
+
+    private void deleteParts(List<String> partNames) {
+        List<BlobId> ids = new ArrayList<>(partNames.size());
+        for (String name : partNames) {
+            ids.add(BlobId.of(bucketName, name));
+        }
+        try {
+            storage.delete(ids);
+        } catch (Exception e) {
+            log.warn("GCS 업로드 조각 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private void copy(FileChannel in, long position, long length, WritableByteChannel out) throws IOException {
+        try (DirectBufferPool.Lease lease = bufferPool.acquire(COPY_BUFFER_SIZE)) {
+            ByteBuffer buffer = lease.buffer();
+            long end = position + length;
+            while (position < end) {
+                buffer.clear();
+                buffer.limit((int) Math.min(COPY_BUFFER_SIZE, end - position));
+                int read = in.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                position += read;
+            }
+        }
+    }
+
+    private BlobInfo blobInfo(String key, String contentType) {
+        return BlobInfo.newBuilder(BlobId.of(bucketName, key)).setContentType(contentType).build();
+    }
+
+    private Blob getBlob(String url) {
+        BlobId blobId = blobId(url);
+        Blob blob = storage.get(blobId);
+        if (blob == null) {
+            throw new RuntimeException("GCS 객체를 찾을 수 없습니다: " + blobId.getName());
+        }
+        return blob;
+    }
+
+    // gs://bucket/key, https://storage.googleapis.com/bucket/key 모두 지원
+    private BlobId blobId(String url) {
+        String path;
+        if (url.startsWith(GS_PREFIX)) {
+            path = url.substring(GS_PREFIX.length());
+        } else if (url.startsWith(HTTPS_PREFIX)) {
+            path = url.substring(HTTPS_PREFIX.length());
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 GCS URL 형식입니다: " + url);
+        }
+
+        String[] parts = path.split("/", 2);
+        return BlobId.of(parts[0], parts[1]);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로컬 저장소 서명 URL 제공 (GCS 서명 URL 대용 - 로컬 실행/테스트 전용)
+ * 인증 헤더 없이 서명과 만료 시간만 확인한다
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalBlobController {
+
+    private final LocalBlobStore localBlobStore;
+
+    @GetMapping(LocalBlobStore.SIGNED_PATH + "**")
+    public ResponseEntity<StreamingResponseBody> download(
+            HttpServletRequest request,
+            @RequestParam long expires,
+            @RequestParam String signature) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        // 서명 URL 의 key 는 퍼센트 인코딩되어 있다 - 서명은 원래 key 로 만들었으므로 디코딩한 뒤 확인
+        String key = UriUtils.decode(path.substring(LocalBlobStore.SIGNED_PATH.length()), StandardCharsets.UTF_8);
+
+        // 서명은 맞는데 객체가 없으면 BlobNotFoundException → 404
+
+        BlobStore.BlobObject object = localBlobStore.openSigned(key, expires, signature);
+        if (object == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        long length = object.size();
+        return ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .contentLength(length)
+                .eTag("\"" + object.etag() + "\"")
+                .body(out -> object.copyRange(0, length - 1, out));
+    }
+}
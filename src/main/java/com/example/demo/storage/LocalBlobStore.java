@@ -0,0 +1,245 @@
+package com.example.demo.storage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import static com.example.demo.storage.exception.StorageExceptions.BlobNotFoundException;
+
+/**
+ * 로컬 파일 시스템 저장소 (GCS 없이 음성/TTS 경로를 실행하거나 벤치마크할 때 사용)
+ * - 읽기는 메모리 매핑(mmap)으로 커널 페이지 캐시를 그대로 사용
+ * - 쓰기는 임시 파일에 쓴 뒤 원자적 이동 → 쓰다 만 파일이 보이지 않는다
+ * - 서명 URL 은 LocalBlobController 가 HMAC 서명과 만료 시간을 확인한 뒤 제공 (GCS 서명 URL 대용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+    private static final String LOCAL_PREFIX = "local://";
+
+    // LocalBlobController 가 서명 URL 을 제공하는 경로
+    public static final String SIGNED_PATH = "/storage/local/";
+
+    @Value("${storage.local-dir:${java.io.tmpdir}/blob-store}")
+    private String localDir;
+
+    // 비어 있으면 기동 시 임의 키 생성 (재시작하면 이전 서명 URL 은 무효)
+    @Value("${storage.local-signing-key:}")
+    private String signingKey;
+
+    private Path root;
+    private byte[] signingSecret;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Files.createDirectories(Paths.get(localDir)).toAbsolutePath().normalize();
+        if (signingKey == null || signingKey.isBlank()) {
+            signingSecret = new byte[32];
+            new SecureRandom().nextBytes(signingSecret);
+        } else {
+            signingSecret = signingKey.getBytes(StandardCharsets.UTF_8);
+        }
+        log.info("로컬 저장소 사용: {}", root);
+    }
+
+    @Override
+    public String url(String key) {
+        return LOCAL_PREFIX + key;
+    }
+
+    @Override
+    public String put(String key, byte[] data, String contentType) {
+        try (WritableByteChannel writer = openWriter(key, contentType)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                writer.write(buffer);
+            }
+            return url(key);
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 저장소 업로드 실패", e);
+        }
+    }
+
+    @Override
+    public String put(String key, Path file, String contentType) throws IOException {
+        Path target = resolveForWrite(key);
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+        try {
+            Files.copy(file, tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return url(key);
+    }
+
+    @Override
+    public WritableByteChannel openWriter(String key, String contentType) throws IOException {
+        Path target = resolveForWrite(key);
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+        FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE);
+
+        return new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                return channel.write(src);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return channel.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (!channel.isOpen()) {
+                    return;
+                }
+                try {
+                    channel.close();
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+        };
+    }
+
+    @Override
+    public byte[] get(String url) {
+        try (FileChannel channel = FileChannel.open(existing(url), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] content = new byte[mapped.remaining()];
+            mapped.get(content);
+            return content;
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 저장소 읽기 실패", e);
+        }
+    }
+
+    @Override
+    public BlobObject open(String url) {
+        Path file = existing(url);
+        long size;
+        long modified;
+        try {
+            size = Files.size(file);
+            modified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 저장소 조회 실패", e);
+        }
+        String etag = Long.toHexString(size) + "-" + Long.toHexString(modified);
+
+        return new BlobObject() {
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public String etag() {
+                return etag;
+            }
+
+            // 요청 구간만 매핑해서 그대로 출력 (힙으로 복사하지 않음)
+            @Override
+            public void copyRange(long start, long end, OutputStream out) throws IOException {
+                WritableByteChannel target = Channels.newChannel(out);
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start + 1);
+                    while (mapped.hasRemaining()) {
+                        target.write(mapped);
+                    }
+                }
+                out.flush();
+            }
+        };
+    }
+
+    // /storage/local/{퍼센트 인코딩된 key}?expires={epoch초}&signature={HMAC-SHA256}
+    @Override
+    public String signedUrl(String url, Duration ttl) {
+        String key = key(url);
+        existing(url);
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        return SIGNED_PATH + UriUtils.encodePath(key, StandardCharsets.UTF_8) + "?expires=" + expires + "&signature=" + sign(key, expires);
+    }
+
+    // 서명이 맞고 만료되지 않았으면 해당 객체 핸들, 아니면 null
+    public BlobObject openSigned(String key, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return null;
+        }
+        byte[] expected = sign(key, expires).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII))) {
+            return null;
+        }
+        return open(url(key));
+    }
+
+    private String sign(String key, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingSecret, "HmacSHA256"));
+            mac.update((key + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(mac.doFinal());
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("HmacSHA256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String key(String url) {
+        if (!url.startsWith(LOCAL_PREFIX)) {
+            throw new IllegalArgumentException("지원하지 않는 로컬 저장소 URL 형식입니다: " + url);
+        }
+        return url.substring(LOCAL_PREFIX.length());
+    }
+
+    private Path existing(String url) {
+        Path file = resolve(key(url));
+        if (!Files.isRegularFile(file)) {
+            throw new BlobNotFoundException("로컬 저장소 객체를 찾을 수 없습니다: " + url);
+        }
+        return file;
+    }
+
+    // 루트 밖 경로(../)는 허용하지 않는다
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 저장소 key 입니다: " + key);
+        }
+        return path;
+    }
+
+    // 쓰기 전에만 상위 디렉터리를 만든다 (읽기/조회는 디렉터리를 남기지 않음)
+    private Path resolveForWrite(String key) throws IOException {
+        Path path = resolve(key);
+        Files.createDirectories(path.getParent());
+        return path;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.storage.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+public class StorageExceptions {
+
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public static class BlobNotFoundException extends RuntimeException {
+        public BlobNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션의 결과에 맞춰 메모리 상태를 바꾸는 콜백 등록
+ * - 메모리 캐시 / 순위판 / 브로드캐스트는 DB 커밋이 확정된 뒤에만 반영해야 롤백된 값이 남지 않는다
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 커밋 이후 실행 (트랜잭션 밖이면 바로 실행)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 롤백된 경우에만 실행 (트랜잭션 밖이면 실행하지 않음)
+    public static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
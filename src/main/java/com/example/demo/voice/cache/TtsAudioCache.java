@@ -0,0 +1,221 @@
+package com.example.demo.voice.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * TTS 결과(MP3) 로컬 캐시
+ * - 키: 정규화된 텍스트 + 목소리 + 인코딩의 SHA-256 (content hash)
+ * - 1차: 작은 음성만 담는 메모리 LRU (바이트 용량 제한)
+ * - 2차: 용량 제한이 있는 로컬 디스크 ({hash}.mp3, 오래 안 쓴 파일부터 삭제)
+ * 영구 저장소(GCS)는 VoiceServiceImpl 에서 tts_log.content_hash 를 통해 조회한다
+ */
+@Slf4j
+@Component
+public class TtsAudioCache {
+
+    @Value("${voice.tts-cache.memory-max-bytes:16777216}")
+    private long memoryMaxBytes;
+
+    @Value("${voice.tts-cache.memory-max-entry-bytes:262144}")
+    private long memoryMaxEntryBytes;
+
+    @Value("${voice.tts-cache.disk-dir:${java.io.tmpdir}/tts-cache}")
+    private String diskDir;
+
+    @Value("${voice.tts-cache.disk-max-bytes:268435456}")
+    private long diskMaxBytes;
+
+    // accessOrder = true → 조회 순서 기반 LRU
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes = 0;
+
+    private Path diskRoot;
+    private final AtomicLong diskBytes = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        try {
+            diskRoot = Files.createDirectories(Paths.get(diskDir));
+            try (Stream<Path> files = Files.list(diskRoot)) {
+                files.filter(p -> p.toString().endsWith(".mp3"))
+                        .forEach(p -> diskBytes.addAndGet(p.toFile().length()));
+            }
+            log.info("TTS 디스크 캐시 사용: {} ({} bytes)", diskRoot, diskBytes.get());
+            evictDiskIfNeeded();
+        } catch (IOException e) {
+            log.warn("TTS 디스크 캐시 초기화 실패 - 메모리 캐시만 사용: {}", e.getMessage());
+            diskRoot = null;
+        }
+    }
+
+    /**
+     * 텍스트 + 목소리 설정으로 content hash 생성
+     * 공백/유니코드 정규화 후 해시하므로 표기만 다른 같은 문장은 같은 키가 된다
+     */
+    public static String contentHash(String text, String voiceSignature) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC)
+                .strip()
+                .replaceAll("\\s+", " ");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(voiceSignature.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 메모리 → 디스크 순으로 조회, 없으면 null
+    public byte[] get(String contentHash) {
+        byte[] cached = getFromMemory(contentHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        Path file = getDiskFile(contentHash);
+        if (file == null) {
+            return null;
+        }
+        try {
+            byte[] audio = Files.readAllBytes(file);
+            putMemory(contentHash, audio);
+            return audio;
+        } catch (IOException e) {
+            log.warn("TTS 디스크 캐시 읽기 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 메모리 캐시에만 있는지 확인 (디스크는 읽지 않음)
+    public byte[] getFromMemory(String contentHash) {
+        synchronized (memory) {
+            return memory.get(contentHash);
+        }
+    }
+
+    // 디스크 캐시 파일 경로, 없으면 null
+    public Path getDiskFile(String contentHash) {
+        Path file = diskPath(contentHash);
+        if (file == null || !Files.exists(file)) {
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // 삭제와 경합 - 캐시 미스로 처리
+            return null;
+        }
+        return file;
+    }
+
+    // 디스크 캐시 파일을 읽기용으로 열어 반환 (스트리밍 응답용), 없으면 null - 호출한 쪽이 닫는다
+    // 열린 채널은 이후 캐시 정리로 파일이 삭제되어도 끝까지 읽을 수 있다
+    public FileChannel openDiskFile(String contentHash) {
+        Path file = getDiskFile(contentHash);
+        if (file == null) {
+            return null;
+        }
+        try {
+            return FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            // 조회 직후 삭제됨 - 캐시 미스로 처리
+            return null;
+        }
+    }
+
+    public void put(String contentHash, byte[] audio) {
+        putMemory(contentHash, audio);
+        putDisk(contentHash, audio);
+    }
+
+    private void putMemory(String contentHash, byte[] audio) {
+        if (audio.length > memoryMaxEntryBytes) {
+            return;
+        }
+        synchronized (memory) {
+            byte[] previous = memory.put(contentHash, audio);
+            memoryBytes += audio.length - (previous == null ? 0 : previous.length);
+
+            Iterator<Map.Entry<String, byte[]>> it = memory.entrySet().iterator();
+            while (memoryBytes > memoryMaxBytes && it.hasNext()) {
+                memoryBytes -= it.next().getValue().length;
+                it.remove();
+            }
+        }
+    }
+
+    private void putDisk(String contentHash, byte[] audio) {
+        Path file = diskPath(contentHash);
+        if (file == null || Files.exists(file)) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            // 임시 파일에 쓴 뒤 하드 링크로 게시 → 다른 스레드가 쓰다 만 파일을 읽지 않도록
+            // (rename 은 이미 있는 파일을 조용히 덮어써 같은 음성을 두 번 세게 된다. link 는 있으면 실패)
+            tmp = Files.createTempFile(diskRoot, contentHash, ".part");
+            Files.write(tmp, audio);
+            Files.createLink(file, tmp);
+            diskBytes.addAndGet(audio.length);
+            evictDiskIfNeeded();
+        } catch (FileAlreadyExistsException e) {
+            // 다른 요청이 먼저 저장함
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("TTS 디스크 캐시 저장 실패: {}", e.getMessage());
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    private static void deleteQuietly(Path tmp) {
+        if (tmp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+            log.debug("TTS 임시 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void evictDiskIfNeeded() throws IOException {
+        if (diskRoot == null || diskBytes.get() <= diskMaxBytes) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(diskRoot)) {
+            files = new ArrayList<>(stream.filter(p -> p.toString().endsWith(".mp3")).toList());
+        }
+        files.sort(Comparator.comparingLong(p -> p.toFile().lastModified()));
+        for (Path p : files) {
+            if (diskBytes.get() <= diskMaxBytes) {
+                break;
+            }
+            long size = p.toFile().length();
+            if (Files.deleteIfExists(p)) {
+                diskBytes.addAndGet(-size);
+            }
+        }
+    }
+
+    private Path diskPath(String contentHash) {
+        return diskRoot == null ? null : diskRoot.resolve(contentHash + ".mp3");
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.demo.voice.controller;
 
+import com.example.demo.login.service.AuthenticationService;
 import com.example.demo.voice.dto.TranscribedTextResponse;
 import com.example.demo.voice.dto.TtsLogRequest;
 import com.example.demo.voice.dto.TtsLogResponse;
+import com.example.demo.voice.dto.TtsUrlResponse;
+import com.example.demo.voice.dto.VoiceJobResponse;
+import com.example.demo.voice.service.TtsAudioSource;
+import com.example.demo.voice.service.VoiceChatStreamService;
+import com.example.demo.voice.service.VoiceJobService;
 import com.example.demo.voice.service.VoiceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,13 +16,26 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,6 +43,16 @@ import java.io.IOException;
 public class VoiceController {
 
     private final VoiceService voiceService;
+    private final VoiceChatStreamService voiceChatStreamService;
+    private final VoiceJobService voiceJobService;
+    private final AuthenticationService authenticationService;
+
+    // TTS 재생 방식 - proxy: 서버가 스트리밍, redirect: 서명 URL 로 302
+    @Value("${voice.tts-delivery.mode:proxy}")
+    private String ttsDeliveryMode;
+
+    @Value("${voice.tts-delivery.signed-url-ttl-seconds:300}")
+    private long signedUrlTtlSeconds;
 
     // 음성 파일 업로드 및 STT 처리
     @Operation(
@@ -53,12 +82,218 @@ public class VoiceController {
         return ResponseEntity.ok(response);
     }
 
+    // 스트리밍 음성 업로드 - multipart 대신 요청 본문(오디오 바이트)을 그대로 받아 도착하는 대로 변환
+    @Operation(
+        summary = "음성 업로드 (스트리밍)",
+        description = "요청 본문에 오디오 바이트를 그대로 담아 보냅니다. 크기 초과는 413, 오디오가 아니면 415를 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "413", description = "파일 크기 초과"),
+            @ApiResponse(responseCode = "415", description = "지원하지 않는 형식")
+    })
+    @PostMapping(
+        value = "/upload/stream",
+        consumes = {"audio/*", MediaType.APPLICATION_OCTET_STREAM_VALUE},
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<TranscribedTextResponse> uploadAudioStream(
+            @Parameter(description = "세션 ID")
+            @RequestParam("session_id") String sessionId,
+            HttpServletRequest request) throws IOException {
+        TranscribedTextResponse response = voiceService.handleStreamingUpload(
+                request.getInputStream(), request.getContentLengthLong(), sessionId);
+        return ResponseEntity.ok(response);
+    }
+
+    // 비동기 음성 업로드 - 작업 ID를 바로 반환하고 변환/인식은 백그라운드에서 처리
+    @Operation(
+        summary = "음성 업로드 (비동기)",
+        description = "음성 파일을 작업으로 등록하고 202와 작업 ID를 반환합니다. 결과는 작업 조회 또는 SSE로 확인합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 등록"),
+            @ApiResponse(responseCode = "503", description = "작업 대기열이 가득 참")
+    })
+    @PostMapping(
+        value = "/jobs",
+        consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<VoiceJobResponse> submitVoiceJob(
+            @RequestParam("audio_file") MultipartFile audioFile,
+            @RequestParam("session_id") String sessionId) throws IOException {
+        Long uid = authenticationService.getCurrentUserId();
+        VoiceJobResponse response = voiceJobService.submit(audioFile, sessionId, uid);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    // 음성 작업 상태 조회
+    @GetMapping(value = "/jobs/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<VoiceJobResponse> getVoiceJob(@PathVariable String jobId) {
+        Long uid = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(voiceJobService.get(jobId, uid));
+    }
+
+    // 음성 작업 진행 상황 구독 (status 이벤트, 작업이 끝나면 스트림 종료)
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeVoiceJob(@PathVariable String jobId) {
+        Long uid = authenticationService.getCurrentUserId();
+        return voiceJobService.subscribe(jobId, uid);
+    }
+
+    // 음성 작업 취소
+    @DeleteMapping(value = "/jobs/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<VoiceJobResponse> cancelVoiceJob(@PathVariable String jobId) {
+        Long uid = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(voiceJobService.cancel(jobId, uid));
+    }
+
+    // 음성 대화용 챗봇 스트리밍 - 문장이 완성되는 대로 음성 조각(audio 이벤트)을 순서대로 전송
+    @Operation(
+        summary = "음성 대화 스트리밍",
+        description = "챗봇 응답(text 이벤트)과 문장 단위 MP3(audio 이벤트, base64)를 SSE로 전송합니다."
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamVoiceChat(
+            @RequestParam String prompt,
+            @RequestParam String sessionId,
+            @RequestParam(defaultValue = "1") Long members) throws JsonProcessingException {
+        return voiceChatStreamService.stream(prompt, sessionId, members);
+    }
+
     // TTS 변환 및 스트리밍, 저장
-    @GetMapping(value = "/tts/{cid}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-    public ResponseEntity<byte[]> streamTts(@PathVariable int cid) {
-        byte[] audio = voiceService.getTtsAudioByCid(cid);
-        return ResponseEntity.ok()
+    // 전체를 메모리에 올리지 않고 스트리밍, Range 요청 시 206 부분 응답 (재생 즉시 시작 / 탐색 지원)
+    // redirect 방식이면 저장소 서명 URL 로 302 → 음성 바이트가 서버를 거치지 않는다
+    @GetMapping(value = "/tts/{cid}", produces = "audio/mpeg")
+    public ResponseEntity<StreamingResponseBody> streamTts(
+            @PathVariable int cid,
+            @Parameter(description = "proxy 또는 redirect (기본값은 설정값)")
+            @RequestParam(required = false) String delivery,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if ("redirect".equals(delivery != null ? delivery : ttsDeliveryMode)) {
+            String signedUrl = voiceService.signTtsUrlByCid(cid, Duration.ofSeconds(signedUrlTtlSeconds));
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(signedUrl))
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        // 디스크 캐시 음성이면 여기서 파일이 열린다 - 본문을 다 보낸 뒤, 본문 없는 응답이면 바로 닫는다
+        TtsAudioSource audio = voiceService.openTtsAudioByCid(cid);
+        ResponseEntity<StreamingResponseBody> response;
+        try {
+            response = ttsResponse(audio, rangeHeader, ifNoneMatch);
+        } catch (RuntimeException e) {
+            closeQuietly(audio);
+            throw e;
+        }
+        if (response.getBody() == null) {
+            closeQuietly(audio);
+        }
+        return response;
+    }
+
+    // 304 / 416 이면 본문 없음, 그 외에는 보낸 뒤 음성 소스를 닫는 본문
+    private ResponseEntity<StreamingResponseBody> ttsResponse(TtsAudioSource audio, String rangeHeader, String ifNoneMatch) {
+        long length = audio.contentLength();
+        String etag = "\"" + audio.etag() + "\"";
+
+        // 클라이언트가 이미 같은 음성을 가지고 있으면 본문 없이 응답
+        if (matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .build();
+        }
+
+        HttpRange range = parseSingleRange(rangeHeader);
+        if (range == null) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.valueOf("audio/mpeg"))
+                    .contentLength(length)
+                    .eTag(etag)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .body(out -> copyAndClose(audio, 0, length - 1, out));
+        }
+
+        long start;
+        long end;
+        try {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            // 만족할 수 없는 구간
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                    .build();
+        }
+
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
                 .contentType(MediaType.valueOf("audio/mpeg"))
-                .body(audio);
+                .contentLength(end - start + 1)
+                .eTag(etag)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length)
+                .body(out -> copyAndClose(audio, start, end, out));
+    }
+
+    private static void copyAndClose(TtsAudioSource audio, long start, long end, OutputStream out) throws IOException {
+        try (audio) {
+            audio.copyRange(start, end, out);
+        }
+    }
+
+    private static void closeQuietly(TtsAudioSource audio) {
+        try {
+            audio.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    // 저장소에서 직접 받는 서명 URL 조회 (클라이언트가 직접 재생/다운로드)
+    @GetMapping(value = "/tts/{cid}/url", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TtsUrlResponse> getTtsUrl(@PathVariable int cid) {
+        String signedUrl = voiceService.signTtsUrlByCid(cid, Duration.ofSeconds(signedUrlTtlSeconds));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(new TtsUrlResponse(signedUrl, signedUrlTtlSeconds));
+    }
+
+    /**
+     * If-None-Match 비교 (RFC 9110 13.1.2)
+     * - "*" 는 항상 일치, 그 외에는 쉼표로 나눈 엔터티 태그 목록 중 하나라도 약한 비교(W/ 무시)로 같으면 일치
+     */
+    static boolean matchesIfNoneMatch(String header, String etag) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        if (header.trim().equals("*")) {
+            return true;
+        }
+        String target = stripWeak(etag);
+        for (String candidate : header.split(",")) {
+            if (stripWeak(candidate.trim()).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    // 단일 구간만 지원, 형식 오류이거나 다중 구간이면 전체 응답
+    private HttpRange parseSingleRange(String rangeHeader) {
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -16,6 +16,12 @@ public interface VoiceDao {
     // cid로 GCS URL 조회
     String findTtsUrlByCid(@Param("cid") int cid);
 
+    // cid로 TTS 로그(URL, content hash) 조회
+    TtsLogRequest findTtsLogByCid(@Param("cid") int cid);
+
+    // content hash로 이미 저장된 음성 URL 조회 (다른 cid가 만든 음성 재사용)
+    String findTtsUrlByContentHash(@Param("contentHash") String contentHash);
+
     // cid로 텍스트(content) 조회
     String findChatTextByCid(@Param("cid") int cid);
 }
\ No newline at end of file
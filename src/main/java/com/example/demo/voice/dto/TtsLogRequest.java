@@ -12,4 +12,5 @@ import lombok.Setter;
 public class TtsLogRequest {
     private int cid;         // chats.cid
     private String ttsUrl;   // 변환된 음성(mp3) URL
+    private String contentHash; // 텍스트+목소리 해시 (같은 문장은 같은 음성 객체 공유)
 }
@@ -0,0 +1,11 @@
+package com.example.demo.voice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TtsUrlResponse {
+    private String url;            // 저장소에서 직접 받는 서명 URL
+    private long expiresInSeconds; // URL 유효 시간 (초)
+}
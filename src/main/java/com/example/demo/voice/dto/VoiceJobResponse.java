@@ -0,0 +1,15 @@
+package com.example.demo.voice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VoiceJobResponse {
+    private String jobId;           // 작업 ID
+    private String status;          // QUEUED, TRANSCODING, RECOGNIZING, COMPLETED, FAILED, CANCELLED
+    private int progress;           // 진행률 (0~100)
+    private String transcribedText; // 완료 시 변환된 텍스트
+    private String messageId;       // 완료 시 메시지 식별자
+    private String error;           // 실패 시 오류 메시지
+}
@@ -0,0 +1,35 @@
+package com.example.demo.voice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+public class VoiceExceptions {
+
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public static class VoiceJobNotFoundException extends RuntimeException {
+        public VoiceJobNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public static class VoiceJobRejectedException extends RuntimeException {
+        public VoiceJobRejectedException(String message) {
+            super(message);
+        }
+    }
+
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public static class AudioTooLargeException extends RuntimeException {
+        public AudioTooLargeException(String message) {
+            super(message);
+        }
+    }
+
+    @ResponseStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+    public static class UnsupportedAudioException extends RuntimeException {
+        public UnsupportedAudioException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.voice.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍되는 챗봇 응답 조각(delta)을 TTS 용 문장 단위로 자르는 분할기
+ * - 문장 끝(. ! ? 。 … 줄바꿈)에서 자르되, 너무 짧은 조각("1." 등)은 다음 문장과 합친다
+ * - 문장 끝이 오지 않아도 maxChars 를 넘으면 공백 기준으로 강제로 자른다
+ * - 마크다운 기호(#, *, `, >, 목록 기호)는 읽지 않도록 제거한다
+ * 스레드 안전하지 않음 (요청 하나의 스트림에서만 사용)
+ */
+public class SentenceSegmenter {
+
+    private final int minChars;
+    private final int maxChars;
+    private final StringBuilder buffer = new StringBuilder();
+
+    public SentenceSegmenter(int minChars, int maxChars) {
+        this.minChars = minChars;
+        this.maxChars = maxChars;
+    }
+
+    // delta 추가 후 완성된 문장 목록 반환
+    public List<String> append(String delta) {
+        buffer.append(delta);
+        List<String> sentences = new ArrayList<>();
+
+        int start = 0;
+        for (int i = 0; i < buffer.length(); i++) {
+            char c = buffer.charAt(i);
+            boolean boundary = c == '\n'
+                    || (isTerminator(c) && i + 1 < buffer.length() && Character.isWhitespace(buffer.charAt(i + 1)));
+            boolean tooLong = i - start + 1 >= maxChars && Character.isWhitespace(c);
+
+            if ((boundary || tooLong) && addIfLongEnough(sentences, buffer.substring(start, i + 1))) {
+                start = i + 1;
+            }
+        }
+        buffer.delete(0, start);
+        return sentences;
+    }
+
+    // 스트림 종료 시 남은 텍스트 반환 (없으면 null)
+    public String flush() {
+        String rest = clean(buffer.toString());
+        buffer.setLength(0);
+        return rest.isEmpty() ? null : rest;
+    }
+
+    private boolean addIfLongEnough(List<String> sentences, String raw) {
+        String sentence = clean(raw);
+        if (sentence.isEmpty()) {
+            // 빈 줄 등은 버리고 다음으로 진행
+            return true;
+        }
+        if (sentence.length() < minChars) {
+            return false;
+        }
+        sentences.add(sentence);
+        return true;
+    }
+
+    private static boolean isTerminator(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '。' || c == '…';
+    }
+
+    static String clean(String text) {
+        return text
+                .replaceAll("(?m)^\\s*([#>]+|[-*+]\\s|\\d+\\.\\s)", " ")
+                .replaceAll("[*`_~#]", "")
+                .replaceAll("\\s+", " ")
+                .strip();
+    }
+}
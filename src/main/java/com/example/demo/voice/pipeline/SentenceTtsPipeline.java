@@ -0,0 +1,122 @@
+package com.example.demo.voice.pipeline;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * 요청 하나의 문장 단위 TTS 파이프라인
+ * - 문장이 도착하는 대로 최대 maxConcurrency 개까지 병렬로 합성
+ * - 합성은 순서와 관계없이 끝나지만 sink 에는 문장 순서(seq)대로만 전달
+ * - 모든 문장을 보낸 뒤 close() 가 호출되었으면 sink.onComplete() 호출
+ */
+public class SentenceTtsPipeline {
+
+    public interface Sink {
+        void onAudio(int seq, String sentence, byte[] audio);
+
+        void onError(int seq, String sentence, Exception e);
+
+        void onComplete();
+    }
+
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Function<String, byte[]> synthesizer;
+    private final Sink sink;
+
+    private final Deque<Pending> waiting = new ArrayDeque<>();
+    private final Map<Integer, Result> finished = new HashMap<>();
+    private int nextSeq = 0;      // 다음에 부여할 순번
+    private int nextToEmit = 0;   // 다음에 sink 로 보낼 순번
+    private int running = 0;
+    private boolean closed = false;
+    private boolean completed = false;
+
+    public SentenceTtsPipeline(Executor executor, int maxConcurrency,
+                               Function<String, byte[]> synthesizer, Sink sink) {
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.synthesizer = synthesizer;
+        this.sink = sink;
+    }
+
+    public void submit(String sentence) {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("이미 종료된 파이프라인입니다.");
+            }
+            waiting.add(new Pending(nextSeq++, sentence));
+        }
+        launch();
+    }
+
+    // 더 이상 문장이 없음을 알림
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        drain();
+    }
+
+    private void launch() {
+        while (true) {
+            Pending next;
+            synchronized (this) {
+                if (running >= maxConcurrency || waiting.isEmpty()) {
+                    return;
+                }
+                next = waiting.poll();
+                running++;
+            }
+            try {
+                executor.execute(() -> run(next));
+            } catch (RuntimeException e) {
+                finish(next, null, e);
+            }
+        }
+    }
+
+    private void run(Pending pending) {
+        try {
+            finish(pending, synthesizer.apply(pending.sentence), null);
+        } catch (Exception e) {
+            finish(pending, null, e);
+        }
+    }
+
+    private void finish(Pending pending, byte[] audio, Exception error) {
+        synchronized (this) {
+            running--;
+            finished.put(pending.seq, new Result(pending.sentence, audio, error));
+        }
+        drain();
+        launch();
+    }
+
+    // 순서가 된 결과만 sink 로 전달 (sink 호출은 한 번에 한 스레드만)
+    private synchronized void drain() {
+        Result result;
+        while ((result = finished.remove(nextToEmit)) != null) {
+            if (result.error == null) {
+                sink.onAudio(nextToEmit, result.sentence, result.audio);
+            } else {
+                sink.onError(nextToEmit, result.sentence, result.error);
+            }
+            nextToEmit++;
+        }
+        if (closed && !completed && nextToEmit == nextSeq) {
+            completed = true;
+            sink.onComplete();
+        }
+    }
+
+    private record Pending(int seq, String sentence) {
+    }
+
+    private record Result(String sentence, byte[] audio, Exception error) {
+    }
+}
@@ -1,10 +1,20 @@
 package com.example.demo.voice.service;
 
+import com.example.demo.voice.stt.AudioSniffer;
+import com.example.demo.voice.stt.TranscriptionListener;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 
 public interface GoogleSttService {
-    String uploadFileToGCS(MultipartFile file) throws IOException;
-    String transcribeAudio(String gcsUri) throws IOException;
+    // 업로드 파일을 변환 후 무음 구간 분할 + 병렬 인식 (GCS 업로드 없음)
+    String transcribe(MultipartFile file) throws IOException;
+
+    // 로컬 파일 인식 (비동기 작업용) - 실패 시 예외를 그대로 던진다
+    String transcribe(File audioFile, TranscriptionListener listener) throws IOException;
+
+    // 요청 본문 스트림을 받는 대로 변환 후 인식 - 실패 시 예외를 그대로 던진다
+    String transcribe(InputStream audio, AudioSniffer.Container container, TranscriptionListener listener) throws IOException;
 }
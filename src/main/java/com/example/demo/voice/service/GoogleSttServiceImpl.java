@@ -1,52 +1,39 @@
 package com.example.demo.voice.service;
 
-import com.example.demo.gcs.GcsUploader;
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.speech.v1.*;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageOptions;
-import com.google.protobuf.ByteString;
+import com.example.demo.buffer.DirectBufferPool;
+import com.example.demo.voice.stt.AudioSniffer;
+import com.example.demo.voice.stt.PcmAudio;
+import com.example.demo.voice.stt.PcmPreprocessor;
+import com.example.demo.voice.stt.SegmentedTranscriber;
+import com.example.demo.voice.stt.TranscriptionListener;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.List;
-import java.util.UUID;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 @Slf4j
 @Service
 public class GoogleSttServiceImpl implements GoogleSttService {
 
-    @Value("${google.credentials-path}")
-    private String credentialsPath;
+    private final SegmentedTranscriber segmentedTranscriber;
+    private final PcmPreprocessor pcmPreprocessor;
+    private final DirectBufferPool bufferPool;
 
-    @Value("${google.bucket-name}")
-    private String bucketName;
+    private static final int STREAM_BUFFER_BYTES = 64 * 1024;
+    private static final int FFMPEG_LOG_TAIL_BYTES = 4 * 1024;
 
-    private final ResourceLoader resourceLoader;
-    private final GcsUploader gcsUploader;
-
-    public GoogleSttServiceImpl(ResourceLoader resourceLoader, GcsUploader gcsUploader) {
-        this.resourceLoader = resourceLoader;
-        this.gcsUploader = gcsUploader;
-    }
-
-    // GCS에 업로드하고 URI 반환
-    @Override
-    public String uploadFileToGCS(MultipartFile file) {
-        try {
-            File wavFile = convertToLinear16Wav(file);
-            String fileName = "audio/" + UUID.randomUUID() + "-" + file.getOriginalFilename();
-            return gcsUploader.upload(wavFile, fileName);
-        } catch (Exception e) {
-            throw new RuntimeException("STT용 GCS 업로드 실패", e);
-        }
+    public GoogleSttServiceImpl(SegmentedTranscriber segmentedTranscriber, PcmPreprocessor pcmPreprocessor,
+                                DirectBufferPool bufferPool) {
+        this.segmentedTranscriber = segmentedTranscriber;
+        this.pcmPreprocessor = pcmPreprocessor;
+        this.bufferPool = bufferPool;
     }
 
     // 파일 형식 자동으로 변환 -> .wav (LINEAR16, 16kHz)
@@ -54,79 +41,169 @@ public class GoogleSttServiceImpl implements GoogleSttService {
         // 1. 원본 파일 임시로 저장
         File tempInput = File.createTempFile("input", "-" + inputFile.getOriginalFilename());
         inputFile.transferTo(tempInput);
+        try {
+            return convertToLinear16Wav(tempInput);
+        } finally {
+            Files.deleteIfExists(tempInput.toPath());
+        }
+    }
+
+    private File convertToLinear16Wav(File tempInput) throws IOException {
         // 2. 변환된 .wav파일 임시 생성
         File tempWav = File.createTempFile("converted", ".wav");
         // 3. ffempeg 명령 구성
-        String[] command = {
+        File ffmpegLog = File.createTempFile("ffmpeg", ".log");
+        Process process = startFfmpeg(ffmpegCommand(tempInput.getAbsolutePath(), tempWav), ffmpegLog);
+        return awaitFfmpeg(process, tempWav, ffmpegLog);
+    }
+
+    // 요청 본문을 받는 대로 ffmpeg 표준 입력으로 전달 (원본 전체를 디스크/메모리에 모으지 않음)
+    private File convertStreamToLinear16Wav(InputStream audio) throws IOException {
+        File tempWav = File.createTempFile("converted", ".wav");
+        File ffmpegLog = File.createTempFile("ffmpeg", ".log");
+        Process process = startFfmpeg(ffmpegCommand("pipe:0", tempWav), ffmpegLog);
+
+        try (OutputStream stdin = process.getOutputStream()) {
+            byte[] buffer = new byte[STREAM_BUFFER_BYTES];
+            int n;
+            while ((n = audio.read(buffer)) != -1) {
+                stdin.write(buffer, 0, n);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 크기 초과, 클라이언트 연결 끊김, ffmpeg 조기 종료
+            process.destroyForcibly();
+            Files.deleteIfExists(tempWav.toPath());
+            Files.deleteIfExists(ffmpegLog.toPath());
+            throw e;
+        }
+
+        return awaitFfmpeg(process, tempWav, ffmpegLog);
+    }
+
+    // ffmpeg 출력은 서버 표준 출력으로 보내지 않고 임시 로그 파일에 모았다가 실패할 때만 남긴다
+    // (파일로 받으므로 표준 입력을 쓰는 동안 출력 파이프가 차서 멈추는 일도 없다)
+    private Process startFfmpeg(String[] command, File ffmpegLog) throws IOException {
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectErrorStream(true);
+        pb.redirectOutput(ffmpegLog);
+        try {
+            return pb.start();
+        } catch (IOException e) {
+            Files.deleteIfExists(ffmpegLog.toPath());
+            throw e;
+        }
+    }
+
+    private String[] ffmpegCommand(String input, File tempWav) {
+        return new String[]{
                 "ffmpeg", "-y",
-                "-i", tempInput.getAbsolutePath(),
+                "-i", input,
                 "-acodec", "pcm_s16le",
                 "-ac", "1",
                 "-ar", "16000",
                 tempWav.getAbsolutePath()
         };
+    }
 
-        ProcessBuilder pb = new ProcessBuilder(command);
-        pb.redirectErrorStream(true);
-        Process process = pb.start();
+    private File awaitFfmpeg(Process process, File tempWav, File ffmpegLog) throws IOException {
+        try {
+            int exitCode;
+            try {
+                exitCode = process.waitFor();
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Files.deleteIfExists(tempWav.toPath());
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("ffmpeg 변환 중 인터럽트 발생", e);
+            }
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                System.out.println("[ffmpeg] " + line);
+            if (exitCode != 0) {
+                Files.deleteIfExists(tempWav.toPath());
+                log.warn("ffmpeg 변환 실패 (종료 코드 {}):\n{}", exitCode, tail(ffmpegLog));
+                throw new RuntimeException("ffmpeg 변환 실패. 종료 코드: " + exitCode);
             }
-        }
 
-        int exitCode;
-        try {
-            exitCode = process.waitFor();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("ffmpeg 변환 중 인터럽트 발생", e);
+            return tempWav;
+        } finally {
+            Files.deleteIfExists(ffmpegLog.toPath());
         }
+    }
 
-        if (exitCode != 0) {
-            throw new RuntimeException("ffmpeg 변환 실패. 종료 코드: " + exitCode);
+    // 실패 원인은 보통 출력 끝부분에 있으므로 마지막 몇 KB 만 읽는다
+    private static String tail(File ffmpegLog) {
+        try (RandomAccessFile file = new RandomAccessFile(ffmpegLog, "r")) {
+            long start = Math.max(0, file.length() - FFMPEG_LOG_TAIL_BYTES);
+            byte[] bytes = new byte[(int) (file.length() - start)];
+            file.seek(start);
+            file.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "(ffmpeg 로그를 읽지 못했습니다: " + e.getMessage() + ")";
         }
-
-        return tempWav;
     }
 
-    // GCS URI로 STT 실행
+    // 변환된 PCM 을 전처리(무음 제거, 게인 정규화)한 뒤 무음 구간으로 나눠 병렬 인식 후 순서대로 합친다
     @Override
-    public String transcribeAudio(String gcsUri) {
+    public String transcribe(MultipartFile file) throws IOException {
+        File wavFile = convertToLinear16Wav(file);
         try {
-            Resource resource = resourceLoader.getResource(credentialsPath);
-            InputStream credentialsStream = resource.getInputStream();
-            GoogleCredentials credentials = GoogleCredentials.fromStream(credentialsStream);
-
-            SpeechSettings settings = SpeechSettings.newBuilder()
-                    .setCredentialsProvider(() -> credentials)
-                    .build();
-
-            try (SpeechClient speechClient = SpeechClient.create(settings)) {
-                RecognitionConfig config = RecognitionConfig.newBuilder()
-                        .setEncoding(RecognitionConfig.AudioEncoding.LINEAR16)
-                        .setSampleRateHertz(16000)
-                        .setLanguageCode("ko-KR")
-                        .build();
-
-                RecognitionAudio audio = RecognitionAudio.newBuilder()
-                        .setUri(gcsUri)
-                        .build();
+            return transcribeWav(wavFile, TranscriptionListener.NONE);
+        } catch (RuntimeException e) {
+            log.error("분할 STT 변환 실패", e);
+            return "음성 인식에 실패했습니다.";
+        } finally {
+            Files.deleteIfExists(wavFile.toPath());
+        }
+    }
 
-                RecognizeResponse response = speechClient.recognize(config, audio);
+    @Override
+    public String transcribe(File audioFile, TranscriptionListener listener) throws IOException {
+        File wavFile = convertToLinear16Wav(audioFile);
+        try {
+            return transcribeWav(wavFile, listener);
+        } finally {
+            Files.deleteIfExists(wavFile.toPath());
+        }
+    }
 
-                StringBuilder transcript = new StringBuilder();
-                for (SpeechRecognitionResult result : response.getResultsList()) {
-                    transcript.append(result.getAlternativesList().get(0).getTranscript());
-                }
+    @Override
+    public String transcribe(InputStream audio, AudioSniffer.Container container,
+                             TranscriptionListener listener) throws IOException {
+        File wavFile;
+        if (container.isPipeable()) {
+            wavFile = convertStreamToLinear16Wav(audio);
+        } else {
+            // MP4 계열은 탐색이 필요할 수 있어 임시 파일로 받은 뒤 변환
+            File tempInput = File.createTempFile("input", "." + container.name().toLowerCase());
+            try {
+                Files.copy(audio, tempInput.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                wavFile = convertToLinear16Wav(tempInput);
+            } finally {
+                Files.deleteIfExists(tempInput.toPath());
+            }
+        }
+        try {
+            return transcribeWav(wavFile, listener);
+        } finally {
+            Files.deleteIfExists(wavFile.toPath());
+        }
+    }
 
-                return transcript.toString();
+    // 변환된 WAV 를 풀의 direct 버퍼로 읽어 전처리/인식 (요청마다 큰 byte[] 를 만들지 않음)
+    // SegmentedTranscriber 는 실패 / 취소 시에도 모든 구간 작업이 끝난 뒤에 반환하므로 반환 후 버퍼를 풀에 돌려준다
+    private String transcribeWav(File wavFile, TranscriptionListener listener) throws IOException {
+        try (FileChannel channel = FileChannel.open(wavFile.toPath(), StandardOpenOption.READ);
+             DirectBufferPool.Lease lease = bufferPool.acquire(Math.toIntExact(channel.size()))) {
+            ByteBuffer wav = lease.buffer();
+            while (wav.hasRemaining() && channel.read(wav) >= 0) {
+                // 파일 끝까지 읽기
             }
-        } catch (Exception e) {
-            log.error("GCS 기반 STT 변환 실패", e);
-            return "음성 인식에 실패했습니다.";
+            wav.flip();
+
+            PcmAudio audio = PcmAudio.fromWav(wav);
+            listener.onTranscoded(audio.durationSeconds());
+            audio = pcmPreprocessor.process(audio);
+            return segmentedTranscriber.transcribe(audio, listener);
         }
     }
 }
@@ -2,4 +2,7 @@ package com.example.demo.voice.service;
 
 public interface GoogleTtsService {
     byte[] synthesizeSpeech(String text); // MP3 binary 반환
+
+    // 캐시 키에 포함되는 목소리/인코딩 식별자 (설정이 바뀌면 다른 캐시 키가 된다)
+    String voiceSignature();
 }
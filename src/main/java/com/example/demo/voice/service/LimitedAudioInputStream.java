@@ -0,0 +1,54 @@
+package com.example.demo.voice.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.example.demo.voice.exception.VoiceExceptions.AudioTooLargeException;
+
+/**
+ * 읽은 바이트 수가 한도를 넘으면 바로 중단하는 입력 스트림
+ * Content-Length 가 없는(chunked) 업로드도 한도까지만 읽는다
+ */
+class LimitedAudioInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long count;
+
+    LimitedAudioInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int n = super.read(buffer, offset, length);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    private void count(long n) {
+        count += n;
+        if (count > maxBytes) {
+            throw new AudioTooLargeException("음성 파일이 너무 큽니다. 최대 " + maxBytes + " bytes");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.voice.service;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 스트리밍 응답용 TTS 음성 소스
+ * 전체를 힙에 올리지 않고 요청된 바이트 구간만 출력 스트림으로 복사한다
+ * 응답을 다 보낸 뒤 (또는 본문 없이 응답할 때) close 해야 한다
+ */
+public interface TtsAudioSource extends Closeable {
+
+    long contentLength();
+
+    // 따옴표를 포함하지 않은 ETag 값
+    String etag();
+
+    // [start, end] (end 포함) 구간을 out 으로 복사
+    void copyRange(long start, long end, OutputStream out) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+
+    // 메모리 캐시에 있는 음성 (이미 힙에 있으므로 추가 복사 없이 구간만 쓴다)
+    static TtsAudioSource ofBytes(byte[] audio, String etag) {
+        return new TtsAudioSource() {
+            @Override
+            public long contentLength() {
+                return audio.length;
+            }
+
+            @Override
+            public String etag() {
+                return etag;
+            }
+
+            @Override
+            public void copyRange(long start, long end, OutputStream out) throws IOException {
+                out.write(audio, (int) start, (int) (end - start + 1));
+                out.flush();
+            }
+        };
+    }
+
+    // 디스크 캐시에 있는 음성 (FileChannel.transferTo 로 커널 복사)
+    // 이미 열린 채널을 받는다: 응답 헤더를 보낸 뒤 캐시 정리로 파일이 삭제되어도 열린 채널로 끝까지 읽는다
+    static TtsAudioSource ofFile(FileChannel channel, String etag) throws IOException {
+        long length = channel.size();
+        return new TtsAudioSource() {
+            @Override
+            public long contentLength() {
+                return length;
+            }
+
+            @Override
+            public String etag() {
+                return etag;
+            }
+
+            @Override
+            public void copyRange(long start, long end, OutputStream out) throws IOException {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = start;
+                long remaining = end - start + 1;
+                while (remaining > 0) {
+                    long sent = channel.transferTo(position, remaining, target);
+                    if (sent <= 0) {
+                        // Content-Length 보다 적게 보내지 않도록 실패 처리
+                        throw new EOFException("TTS 캐시 파일이 예상보다 짧습니다: " + remaining + " bytes 남음");
+                    }
+                    position += sent;
+                    remaining -= sent;
+                }
+                out.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+}
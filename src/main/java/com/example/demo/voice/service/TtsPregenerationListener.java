@@ -0,0 +1,109 @@
+package com.example.demo.voice.service;
+
+import com.example.demo.chatbot.event.AssistantMessageSavedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 챗봇 응답 저장 시 TTS 를 미리 생성해 두는 선택 기능 (voice.tts-pregen.enabled)
+ * - 우선순위 낮은 전용 스레드 + 제한된 대기열, 대기열이 가득 차면 버린다 (재생 시 요청 합성으로 대체)
+ * - 정책: 음성으로 시작된 세션만 / max-chars 이하 응답만
+ * - 같은 문장은 VoiceServiceImpl 에서 content hash 로 중복 합성을 막는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TtsPregenerationListener {
+
+    private final VoiceService voiceService;
+    private final VoiceSessionRegistry voiceSessionRegistry;
+    private final TtsPregenerationMetrics metrics;
+
+    @Value("${voice.tts-pregen.enabled:false}")
+    private boolean enabled;
+
+    @Value("${voice.tts-pregen.voice-sessions-only:true}")
+    private boolean voiceSessionsOnly;
+
+    @Value("${voice.tts-pregen.max-chars:300}")
+    private int maxChars;
+
+    @Value("${voice.tts-pregen.threads:1}")
+    private int threads;
+
+    @Value("${voice.tts-pregen.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "tts-pregen-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        log.info("TTS 사전 생성 활성화 - threads={}, queue={}, maxChars={}, voiceSessionsOnly={}",
+                threads, queueCapacity, maxChars, voiceSessionsOnly);
+    }
+
+    @EventListener
+    public void onAssistantMessageSaved(AssistantMessageSavedEvent event) {
+        if (executor == null || !isEligible(event)) {
+            return;
+        }
+        int cid = (int) event.getCid();
+        try {
+            executor.execute(() -> pregenerate(cid, event.getContent()));
+            metrics.queued();
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 참 (또는 종료 중) - 재생 시 요청 합성으로 대체
+            metrics.dropped();
+        }
+    }
+
+    private boolean isEligible(AssistantMessageSavedEvent event) {
+        String content = event.getContent();
+        if (event.getCid() <= 0 || content == null || content.isBlank() || content.length() > maxChars) {
+            return false;
+        }
+        return !voiceSessionsOnly || voiceSessionRegistry.isVoiceSession(event.getSessionId());
+    }
+
+    private void pregenerate(int cid, String text) {
+        try {
+            if (voiceService.pregenerateTts(cid, text)) {
+                metrics.completed(cid);
+            } else {
+                metrics.skipped();
+            }
+        } catch (Exception e) {
+            metrics.failed();
+            log.warn("TTS 사전 생성 실패 cid={}: {}", cid, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.voice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TTS 사전 생성 지표 (/actuator/metrics/tts.pregen.*)
+ * - tts.pregen.tasks{result=queued|dropped|skipped|completed|failed}
+ * - tts.pregen.playback{result=hit|miss} : 재생 요청 시 음성이 미리 준비되어 있었는지 (hit / (hit + miss) = 적중률)
+ */
+@Component
+public class TtsPregenerationMetrics {
+
+    private static final int MAX_TRACKED_CIDS = 10_000;
+
+    private final Counter queued;
+    private final Counter dropped;
+    private final Counter skipped;
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter hit;
+    private final Counter miss;
+
+    // 사전 생성된 뒤 아직 재생되지 않은 cid (최근 것만 유지)
+    private final Set<Integer> pregeneratedCids = Collections.newSetFromMap(
+            new LinkedHashMap<>(256, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Boolean> eldest) {
+                    return size() > MAX_TRACKED_CIDS;
+                }
+            });
+
+    public TtsPregenerationMetrics(MeterRegistry registry) {
+        this.queued = task(registry, "queued");
+        this.dropped = task(registry, "dropped");
+        this.skipped = task(registry, "skipped");
+        this.completed = task(registry, "completed");
+        this.failed = task(registry, "failed");
+        this.hit = Counter.builder("tts.pregen.playback").tag("result", "hit").register(registry);
+        this.miss = Counter.builder("tts.pregen.playback").tag("result", "miss").register(registry);
+    }
+
+    private static Counter task(MeterRegistry registry, String result) {
+        return Counter.builder("tts.pregen.tasks").tag("result", result).register(registry);
+    }
+
+    public void queued() {
+        queued.increment();
+    }
+
+    public void dropped() {
+        dropped.increment();
+    }
+
+    public void skipped() {
+        skipped.increment();
+    }
+
+    public void failed() {
+        failed.increment();
+    }
+
+    public void completed(int cid) {
+        completed.increment();
+        synchronized (pregeneratedCids) {
+            pregeneratedCids.add(cid);
+        }
+    }
+
+    // 재생 요청 기록 - 사전 생성된 음성이었으면 hit, 요청 시 합성해야 했으면 miss
+    public void playback(int cid, boolean createdOnDemand) {
+        boolean pregenerated;
+        synchronized (pregeneratedCids) {
+            pregenerated = pregeneratedCids.remove(cid);
+        }
+        if (pregenerated) {
+            hit.increment();
+        } else if (createdOnDemand) {
+            miss.increment();
+        }
+    }
+}
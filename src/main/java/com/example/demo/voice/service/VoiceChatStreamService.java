@@ -0,0 +1,189 @@
+package com.example.demo.voice.service;
+
+import com.example.demo.chatbot.dto.ChatCompletionChunk;
+import com.example.demo.chatbot.service.ChatbotService;
+import com.example.demo.voice.cache.TtsAudioCache;
+import com.example.demo.voice.pipeline.SentenceSegmenter;
+import com.example.demo.voice.pipeline.SentenceTtsPipeline;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 음성 대화용 챗봇 스트리밍
+ * 챗봇 응답 조각을 받는 즉시 문장 단위로 잘라 병렬 합성하고, 문장 순서대로 음성 조각을 SSE 로 보낸다
+ * → 전체 응답이 끝나기 전에 첫 문장부터 재생 가능
+ *
+ * SSE 이벤트
+ * - text  : 챗봇 원본 청크(JSON) - 기존 /chat 스트림과 동일
+ * - audio : {"seq", "text", "audio"(base64 MP3)} - seq 순서 보장
+ * - done  : {"cid", "sentences"}
+ * - error : 오류 메시지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoiceChatStreamService {
+
+    private static final long EMITTER_TIMEOUT_MS = 180_000L;
+
+    private final ChatbotService chatbotService;
+    private final GoogleTtsService googleTtsService;
+    private final TtsAudioCache ttsAudioCache;
+    private final VoiceSessionRegistry voiceSessionRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${voice.sentence-tts.threads:4}")
+    private int threads;
+
+    @Value("${voice.sentence-tts.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${voice.sentence-tts.per-request-concurrency:3}")
+    private int perRequestConcurrency;
+
+    @Value("${voice.sentence-tts.min-chars:6}")
+    private int minChars;
+
+    @Value("${voice.sentence-tts.max-chars:200}")
+    private int maxChars;
+
+    // 모든 요청이 공유하는 합성 스레드 풀 (대기열이 차면 거절 → 해당 문장은 error 이벤트)
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "sentence-tts-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public SseEmitter stream(String prompt, String sessionId, Long members) throws JsonProcessingException {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        voiceSessionRegistry.markVoiceSession(sessionId);
+
+        SentenceSegmenter segmenter = new SentenceSegmenter(minChars, maxChars);
+        AtomicLong cid = new AtomicLong(-1);
+        AtomicInteger sentences = new AtomicInteger();
+
+        SentenceTtsPipeline pipeline = new SentenceTtsPipeline(executor, perRequestConcurrency, this::synthesize,
+                new SentenceTtsPipeline.Sink() {
+                    @Override
+                    public void onAudio(int seq, String sentence, byte[] audio) {
+                        sentences.incrementAndGet();
+                        send(emitter, "audio", Map.of(
+                                "seq", seq,
+                                "text", sentence,
+                                "audio", Base64.getEncoder().encodeToString(audio)));
+                    }
+
+                    @Override
+                    public void onError(int seq, String sentence, Exception e) {
+                        log.warn("문장 TTS 실패 seq={}: {}", seq, e.getMessage());
+                        send(emitter, "error", Map.of("seq", seq, "text", sentence, "message", "TTS 변환 실패"));
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        send(emitter, "done", Map.of("cid", cid.get(), "sentences", sentences.get()));
+                        emitter.complete();
+                    }
+                });
+
+        List<Map<String, String>> messages = chatbotService.buildMessages(sessionId, prompt);
+        chatbotService.streamChatting(messages, sessionId, members, chunk -> {
+            if (chunk.startsWith("[ERROR]")) {
+                send(emitter, "error", Map.of("message", chunk));
+                pipeline.close();
+                return;
+            }
+            send(emitter, "text", chunk);
+            try {
+                handleChunk(chunk, segmenter, pipeline, cid);
+            } catch (Exception e) {
+                log.warn("음성 스트림 청크 처리 실패: {}", e.getMessage());
+            }
+        });
+
+        emitter.onTimeout(emitter::complete);
+        return emitter;
+    }
+
+    private void handleChunk(String json, SentenceSegmenter segmenter, SentenceTtsPipeline pipeline, AtomicLong cid)
+            throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(json);
+        ChatCompletionChunk chunk = objectMapper.treeToValue(node, ChatCompletionChunk.class);
+        if (chunk.getChoices() == null || chunk.getChoices().isEmpty()) {
+            return;
+        }
+        ChatCompletionChunk.Choice choice = chunk.getChoices().get(0);
+
+        String delta = choice.getDelta() == null ? null : choice.getDelta().getContent();
+        if (delta != null) {
+            segmenter.append(delta).forEach(pipeline::submit);
+        }
+
+        // 마지막 청크: 남은 텍스트까지 합성 후 종료
+        if (choice.getFinishReason() != null) {
+            cid.set(node.path("cid").asLong(-1));
+            String rest = segmenter.flush();
+            if (rest != null) {
+                pipeline.submit(rest);
+            }
+            pipeline.close();
+        }
+    }
+
+    // 문장 단위 합성 - content hash 캐시를 공유하므로 자주 쓰는 문장은 다시 합성하지 않는다
+    private byte[] synthesize(String sentence) {
+        String contentHash = TtsAudioCache.contentHash(sentence, googleTtsService.voiceSignature());
+        byte[] audio = ttsAudioCache.get(contentHash);
+        if (audio == null) {
+            audio = googleTtsService.synthesizeSpeech(sentence);
+            ttsAudioCache.put(contentHash, audio);
+        }
+        return audio;
+    }
+
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            if (data instanceof String text) {
+                emitter.send(SseEmitter.event().name(event).data(text));
+            } else {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            }
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.demo.voice.service;
+
+import com.example.demo.voice.dto.VoiceJobResponse;
+import com.example.demo.voice.stt.TranscriptionListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.demo.voice.exception.VoiceExceptions.*;
+
+/**
+ * 비동기 음성 작업 (업로드 즉시 작업 ID 반환, 변환 + 인식은 전용 스레드에서 처리)
+ * - 작업은 메모리에 최대 max-jobs 개까지 보관, 끝난 작업은 ttl 이 지나면 제거 (주기 정리 + 제출 시 정리)
+ * - 상태는 GET 조회 또는 SSE 구독으로 확인, 진행 중인 작업은 취소 가능
+ *   (작업 스레드를 인터럽트 → ffmpeg 종료, 대기 중인 구간은 건너뛰고 인식 중인 구간의 STT 호출은 취소)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoiceJobService {
+
+    public enum Status { QUEUED, TRANSCODING, RECOGNIZING, COMPLETED, FAILED, CANCELLED }
+
+    private final GoogleSttService googleSttService;
+    private final VoiceSessionRegistry voiceSessionRegistry;
+
+    @Value("${voice.jobs.threads:2}")
+    private int threads;
+
+    @Value("${voice.jobs.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${voice.jobs.max-jobs:1000}")
+    private int maxJobs;
+
+    @Value("${voice.jobs.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private static final long PURGE_INTERVAL_SECONDS = 60;
+
+    private final ConcurrentHashMap<String, VoiceJob> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService purgeScheduler;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "voice-job-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        // 새 작업이 없어도 끝난 작업이 메모리에 남지 않도록 주기적으로 정리
+        purgeScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "voice-job-purge");
+            t.setDaemon(true);
+            return t;
+        });
+        purgeScheduler.scheduleWithFixedDelay(this::purgeExpired,
+                PURGE_INTERVAL_SECONDS, PURGE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purgeScheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    public VoiceJobResponse submit(MultipartFile file, String sessionId, Long uid) throws IOException {
+        purgeExpired();
+        if (jobs.size() >= maxJobs) {
+            throw new VoiceJobRejectedException("처리 중인 음성 작업이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        // 요청이 끝나면 업로드 임시 파일이 사라지므로 작업용 파일로 옮겨 둔다
+        File input = File.createTempFile("voice-job", "-" + file.getOriginalFilename());
+        file.transferTo(input);
+
+        VoiceJob job = new VoiceJob(UUID.randomUUID().toString(), uid, sessionId);
+        jobs.put(job.id, job);
+        voiceSessionRegistry.markVoiceSession(sessionId);
+
+        try {
+            job.future = executor.submit(() -> run(job, input));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            Files.deleteIfExists(input.toPath());
+            throw new VoiceJobRejectedException("음성 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return job.toResponse();
+    }
+
+    public VoiceJobResponse get(String jobId, Long uid) {
+        return find(jobId, uid).toResponse();
+    }
+
+    public VoiceJobResponse cancel(String jobId, Long uid) {
+        VoiceJob job = find(jobId, uid);
+        if (!job.isFinished()) {
+            Future<?> future = job.future;
+            if (future != null) {
+                future.cancel(true);
+            }
+            job.update(Status.CANCELLED, job.progress, null, "사용자가 취소했습니다.");
+        }
+        return job.toResponse();
+    }
+
+    public SseEmitter subscribe(String jobId, Long uid) {
+        VoiceJob job = find(jobId, uid);
+        SseEmitter emitter = new SseEmitter(ttlSeconds * 1000);
+        job.emitters.add(emitter);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+
+        // 현재 상태를 먼저 보내고, 이미 끝난 작업이면 바로 종료
+        job.send(emitter);
+        if (job.isFinished()) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private void run(VoiceJob job, File input) {
+        try {
+            if (job.isFinished()) {
+                return;
+            }
+            job.update(Status.TRANSCODING, 5, null, null);
+            String text = googleSttService.transcribe(input, new TranscriptionListener() {
+                @Override
+                public void onTranscoded(double durationSeconds) {
+                    job.update(Status.RECOGNIZING, 20, null, null);
+                }
+
+                @Override
+                public void onSegmentRecognized(int done, int total) {
+                    job.update(Status.RECOGNIZING, total == 0 ? 95 : 20 + 75 * done / total, null, null);
+                }
+            });
+            job.update(Status.COMPLETED, 100, text, null);
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || job.status == Status.CANCELLED) {
+                job.update(Status.CANCELLED, job.progress, null, "사용자가 취소했습니다.");
+            } else {
+                log.warn("음성 작업 실패 jobId={}: {}", job.id, e.getMessage());
+                job.update(Status.FAILED, job.progress, null, "음성 처리 중 오류가 발생했습니다.");
+            }
+        } finally {
+            try {
+                Files.deleteIfExists(input.toPath());
+            } catch (IOException e) {
+                log.warn("음성 작업 임시 파일 삭제 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private VoiceJob find(String jobId, Long uid) {
+        VoiceJob job = jobs.get(jobId);
+        if (job == null || !Objects.equals(job.uid, uid)) {
+            throw new VoiceJobNotFoundException("음성 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job;
+    }
+
+    // 끝난 지 ttl 이 지난 작업 제거
+    void purgeExpired() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> job.isFinished() && now - job.updatedAt > ttlSeconds * 1000);
+    }
+
+    private static class VoiceJob {
+        private final String id;
+        private final Long uid;
+        private final String sessionId;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        private volatile Future<?> future;
+        private volatile Status status = Status.QUEUED;
+        private volatile int progress = 0;
+        private volatile String text;
+        private volatile String error;
+        private volatile long updatedAt = System.currentTimeMillis();
+
+        private VoiceJob(String id, Long uid, String sessionId) {
+            this.id = id;
+            this.uid = uid;
+            this.sessionId = sessionId;
+        }
+
+        private boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+        }
+
+        // 상태 변경 후 구독자에게 전송 (끝난 작업은 다시 바뀌지 않음)
+        private void update(Status newStatus, int newProgress, String newText, String newError) {
+            synchronized (this) {
+                if (isFinished()) {
+                    return;
+                }
+                status = newStatus;
+                progress = Math.max(progress, newProgress);
+                text = newText;
+                error = newError;
+                updatedAt = System.currentTimeMillis();
+            }
+            for (SseEmitter emitter : emitters) {
+                send(emitter);
+                if (isFinished()) {
+                    emitter.complete();
+                }
+            }
+        }
+
+        private void send(SseEmitter emitter) {
+            try {
+                emitter.send(SseEmitter.event().name("status").data(toResponse(), MediaType.APPLICATION_JSON));
+            } catch (Exception e) {
+                emitters.remove(emitter);
+            }
+        }
+
+        private VoiceJobResponse toResponse() {
+            Status current = status;
+            return new VoiceJobResponse(id, current.name(), progress, text,
+                    current == Status.COMPLETED ? "msg_session_" + sessionId : null, error);
+        }
+    }
+}
@@ -5,13 +5,26 @@ import com.example.demo.voice.dto.TtsLogRequest;
 import com.example.demo.voice.dto.TtsLogResponse;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
 public interface VoiceService {
     // 음성 업로드 처리 및 STT → 챗봇 응답 처리
     TranscribedTextResponse handleAudioUpload(MultipartFile file, String sessionId, String token);
 
+    // 요청 본문을 버퍼링 없이 변환 단계로 흘려 보내는 업로드 (contentLength 를 모르면 -1)
+    TranscribedTextResponse handleStreamingUpload(InputStream body, long contentLength, String sessionId) throws IOException;
+
     // 텍스트 -> 음성 변환 + 저장
     TtsLogResponse convertAndLogTts(int cid, String text);
 
-    // 변환된 음성(mp3) 응답
-    byte[] getTtsAudioByCid(int cid);
+    // 응답 저장 직후 TTS 미리 생성 (이미 로그가 있으면 false)
+    boolean pregenerateTts(int cid, String text);
+
+    // 변환된 음성(mp3) 스트리밍 소스 (Range 응답용)
+    TtsAudioSource openTtsAudioByCid(int cid);
+
+    // 저장소에서 직접 받는 만료 시간이 있는 음성 URL (서버를 거치지 않는 재생용)
+    String signTtsUrlByCid(int cid, Duration ttl);
 }
@@ -1,21 +1,33 @@
 package com.example.demo.voice.service;
 
 import com.example.demo.chatbot.service.ChatbotService;
-import com.example.demo.gcs.GcsDownloader;
-import com.example.demo.gcs.GcsUploader;
 import com.example.demo.login.dao.UserDao;
 import com.example.demo.provider.JwtProvider;
+import com.example.demo.storage.BlobStore;
+import com.example.demo.voice.cache.TtsAudioCache;
 import com.example.demo.voice.dao.VoiceDao;
 import com.example.demo.voice.dto.TranscribedTextResponse;
 import com.example.demo.voice.dto.TtsLogRequest;
 import com.example.demo.voice.dto.TtsLogResponse;
+import com.example.demo.voice.stt.AudioSniffer;
+import com.example.demo.voice.stt.TranscriptionListener;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.sql.SQLException;
-import java.util.UUID;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.demo.voice.exception.VoiceExceptions.AudioTooLargeException;
+import static com.example.demo.voice.exception.VoiceExceptions.UnsupportedAudioException;
 
 @Service
 @RequiredArgsConstructor
@@ -27,8 +39,16 @@ public class VoiceServiceImpl implements VoiceService {
     private final GoogleSttService googleSttService;
     private final UserDao userDao;
     private final GoogleTtsService googleTtsService;
-    private final GcsUploader gcsUploader;
-    private final GcsDownloader gcsDownloader;
+    private final BlobStore blobStore;
+    private final TtsAudioCache ttsAudioCache;
+    private final VoiceSessionRegistry voiceSessionRegistry;
+    private final TtsPregenerationMetrics pregenerationMetrics;
+
+    // 합성 중인 content hash → 결과 URL (사전 생성과 재생 요청이 같은 문장을 동시에 합성하지 않도록)
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlightTts = new ConcurrentHashMap<>();
+
+    @Value("${voice.upload.max-bytes:20971520}")
+    private long maxUploadBytes;
 
     /*
     음성 파일 업로드 및 STT 처리 -> 텍스트 추출 후 챗봇 응답 요청까지
@@ -42,11 +62,11 @@ public class VoiceServiceImpl implements VoiceService {
             // 2. uid 조회
 //            int uid = userDao.findByEmail(email).getUid().intValue();
 
-            // 3. 파일을 GCS에 업로드하고 URI 얻기
-            String gcsUri = googleSttService.uploadFileToGCS(file);
+            // 음성으로 시작된 세션 표시 (TTS 사전 생성 정책에 사용)
+            voiceSessionRegistry.markVoiceSession(sessionId);
 
-            // 4. GCS 기반 STT 처리 → 텍스트 반환
-            String text = googleSttService.transcribeAudio(gcsUri);
+            // 3~4. 변환 후 무음 구간 분할 + 병렬 STT 처리 → 텍스트 반환
+            String text = googleSttService.transcribe(file);
 
             // 6. 챗봇에 질문 전달
 //            chatbotService.streamChatting(text, partial -> {
@@ -66,29 +86,115 @@ public class VoiceServiceImpl implements VoiceService {
         }
     }
 
+    /*
+    스트리밍 업로드 - 본문을 버퍼링하지 않고 받는 대로 ffmpeg 에 전달
+    크기(Content-Length)와 형식(앞부분 매직 넘버)은 본문을 읽기 전에 / 첫 바이트에서 거른다
+     */
+    @Override
+    public TranscribedTextResponse handleStreamingUpload(InputStream body, long contentLength, String sessionId) throws IOException {
+        if (contentLength > maxUploadBytes) {
+            throw new AudioTooLargeException("음성 파일이 너무 큽니다. 최대 " + maxUploadBytes + " bytes");
+        }
+
+        BufferedInputStream in = new BufferedInputStream(body);
+        in.mark(AudioSniffer.HEAD_BYTES);
+        byte[] head = in.readNBytes(AudioSniffer.HEAD_BYTES);
+        AudioSniffer.Container container = AudioSniffer.detect(head, head.length);
+        if (container == null) {
+            throw new UnsupportedAudioException("지원하지 않는 음성 형식입니다.");
+        }
+        in.reset();
+
+        voiceSessionRegistry.markVoiceSession(sessionId);
+
+        String text = googleSttService.transcribe(
+                new LimitedAudioInputStream(in, maxUploadBytes), container, TranscriptionListener.NONE);
+        return new TranscribedTextResponse(true,
+                new TranscribedTextResponse.Data(text, "msg_session_" + sessionId));
+    }
+
     /*
     텍스트를 음성 (MP3 바이트)로 변환
+    같은 문장(정규화 텍스트 + 목소리 + 인코딩)은 content hash 로 한 번만 합성/저장한다
      */
     @Override
     public TtsLogResponse convertAndLogTts(int cid, String text) {
-        byte[] mp3Data = googleTtsService.synthesizeSpeech(text);
+        String contentHash = TtsAudioCache.contentHash(text, googleTtsService.voiceSignature());
+        String ttsUrl = resolveTtsUrl(contentHash, text);
 
-        //로그 확인용
-        System.out.println("음성파일 길이 : " + mp3Data.length);
+        // DB 저장 (여러 cid가 같은 음성 객체를 참조)
+        // 사전 생성과 재생 요청이 같은 cid 를 동시에 만들어도 cid 유일 키로 한 행만 남는다
+        voiceDao.insertTtsLog(new TtsLogRequest(cid, ttsUrl, contentHash));
+        return new TtsLogResponse(true, "TTS 저장 완료");
+    }
 
-        // 1. GCS에 업로드
-        String ttsUrl = gcsUploader.upload(mp3Data, "tts/" + UUID.randomUUID() + ".mp3");
+    @Override
+    public boolean pregenerateTts(int cid, String text) {
+        if (voiceDao.findTtsLogByCid(cid) != null) {
+            return false;
+        }
+        convertAndLogTts(cid, text);
+        return true;
+    }
 
-        // 2. DB 저장
-        voiceDao.insertTtsLog(new TtsLogRequest(cid, ttsUrl));
-        return new TtsLogResponse(true, "TTS 저장 완료");
+    @Override
+    public TtsAudioSource openTtsAudioByCid(int cid) {
+        TtsLogRequest ttsLog = findOrCreateTtsLog(cid);
+        String contentHash = ttsLog.getContentHash();
+
+        if (contentHash != null) {
+            // 1. 메모리 캐시
+            byte[] cached = ttsAudioCache.getFromMemory(contentHash);
+            if (cached != null) {
+                return TtsAudioSource.ofBytes(cached, contentHash);
+            }
+            // 2. 디스크 캐시 (지금 열어 둔다 - 응답 헤더를 보낸 뒤 캐시 정리로 삭제되어도 끝까지 보낼 수 있게)
+            FileChannel channel = ttsAudioCache.openDiskFile(contentHash);
+            if (channel != null) {
+                try {
+                    return TtsAudioSource.ofFile(channel, contentHash);
+                } catch (IOException e) {
+                    // 크기 조회 실패 - 채널을 닫고 저장소에서 전송
+                    try {
+                        channel.close();
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+
+        // 3. 저장소(GCS)에서 요청 구간만 스트리밍
+        BlobStore.BlobObject object = blobStore.open(ttsLog.getTtsUrl());
+        String etag = contentHash != null ? contentHash : object.etag();
+        return new TtsAudioSource() {
+            @Override
+            public long contentLength() {
+                return object.size();
+            }
+
+            @Override
+            public String etag() {
+                return etag;
+            }
+
+            @Override
+            public void copyRange(long start, long end, OutputStream out) throws IOException {
+                object.copyRange(start, end, out);
+            }
+        };
     }
 
     @Override
-    public byte[] getTtsAudioByCid(int cid) {
-        String ttsUrl = voiceDao.findTtsUrlByCid(cid);
+    public String signTtsUrlByCid(int cid, Duration ttl) {
+        TtsLogRequest ttsLog = findOrCreateTtsLog(cid);
+        return blobStore.signedUrl(ttsLog.getTtsUrl(), ttl);
+    }
 
-        if (ttsUrl == null) {
+    // cid의 TTS 로그 조회, 없으면 합성 후 저장
+    private TtsLogRequest findOrCreateTtsLog(int cid) {
+        TtsLogRequest ttsLog = voiceDao.findTtsLogByCid(cid);
+
+        if (ttsLog == null) {
             // 1. DB에서 텍스트 가져오기 (예: chats 테이블)
             String text = voiceDao.findChatTextByCid(cid);
             if (text == null || text.isBlank()) {
@@ -98,11 +204,46 @@ public class VoiceServiceImpl implements VoiceService {
             // 2. convertAndLogTts 호출로 생성 & 저장
             convertAndLogTts(cid, text);
 
-            // 3. 다시 URL 조회
-            ttsUrl = voiceDao.findTtsUrlByCid(cid);
+            // 3. 다시 로그 조회
+            ttsLog = voiceDao.findTtsLogByCid(cid);
+            pregenerationMetrics.playback(cid, true);
+        } else {
+            pregenerationMetrics.playback(cid, false);
+        }
+        return ttsLog;
+    }
+
+    // 영구 저장소에 있는 음성 URL 반환, 없으면 합성 후 업로드
+    private String resolveTtsUrl(String contentHash, String text) {
+        String ttsUrl = voiceDao.findTtsUrlByContentHash(contentHash);
+        if (ttsUrl != null) {
+            return ttsUrl;
+        }
+
+        // 같은 문장을 이미 합성 중이면 그 결과를 기다린다
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlightTts.putIfAbsent(contentHash, mine);
+        if (running != null) {
+            return running.join();
         }
 
-        return gcsDownloader.download(ttsUrl);
+        try {
+            byte[] mp3Data = ttsAudioCache.get(contentHash);
+            if (mp3Data == null) {
+                mp3Data = googleTtsService.synthesizeSpeech(text);
+                ttsAudioCache.put(contentHash, mp3Data);
+            }
+
+            // 객체 이름을 content hash 로 고정 → 같은 음성은 저장소에도 하나만 존재
+            ttsUrl = blobStore.put("tts/" + contentHash + ".mp3", mp3Data, "audio/mpeg");
+            mine.complete(ttsUrl);
+            return ttsUrl;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightTts.remove(contentHash, mine);
+        }
     }
 
 }
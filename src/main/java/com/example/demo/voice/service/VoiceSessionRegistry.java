@@ -0,0 +1,53 @@
+package com.example.demo.voice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 음성으로 시작된 대화 세션 기록
+ * 최근 음성 업로드가 있었던 sessionId 를 TTL 동안 기억한다 (최대 개수 제한, 오래된 것부터 제거)
+ */
+@Component
+public class VoiceSessionRegistry {
+
+    private static final int MAX_SESSIONS = 10_000;
+
+    @Value("${voice.session-ttl-seconds:1800}")
+    private long ttlSeconds;
+
+    private final Map<String, Long> lastVoiceAt = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_SESSIONS;
+        }
+    };
+
+    public void markVoiceSession(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        synchronized (lastVoiceAt) {
+            lastVoiceAt.put(sessionId, System.currentTimeMillis());
+        }
+    }
+
+    public boolean isVoiceSession(String sessionId) {
+        if (sessionId == null) {
+            return false;
+        }
+        synchronized (lastVoiceAt) {
+            Long at = lastVoiceAt.get(sessionId);
+            if (at == null) {
+                return false;
+            }
+            if (System.currentTimeMillis() - at > ttlSeconds * 1000) {
+                lastVoiceAt.remove(sessionId);
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.voice.stt;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 업로드 앞부분(매직 넘버)으로 오디오 컨테이너 판별
+ * Content-Type 은 클라이언트가 임의로 보내므로 실제 바이트로 확인한다
+ */
+public final class AudioSniffer {
+
+    // 판별에 필요한 앞부분 길이
+    public static final int HEAD_BYTES = 12;
+
+    public enum Container {
+        WAV(true), MP3(true), AAC(true), OGG(true), FLAC(true), WEBM(true), AMR(true),
+        // moov 박스가 파일 끝에 있을 수 있어 파이프 입력으로는 변환이 안 될 수 있다
+        MP4(false);
+
+        private final boolean pipeable;
+
+        Container(boolean pipeable) {
+            this.pipeable = pipeable;
+        }
+
+        // ffmpeg 표준 입력으로 바로 흘려 보낼 수 있는지
+        public boolean isPipeable() {
+            return pipeable;
+        }
+    }
+
+    private AudioSniffer() {
+    }
+
+    // 알 수 없는 형식이면 null
+    public static Container detect(byte[] head, int length) {
+        if (length >= 12 && startsWith(head, 0, "RIFF") && startsWith(head, 8, "WAVE")) {
+            return Container.WAV;
+        }
+        if (length >= 4 && startsWith(head, 0, "OggS")) {
+            return Container.OGG;
+        }
+        if (length >= 4 && startsWith(head, 0, "fLaC")) {
+            return Container.FLAC;
+        }
+        if (length >= 5 && startsWith(head, 0, "#!AMR")) {
+            return Container.AMR;
+        }
+        if (length >= 4 && (head[0] & 0xFF) == 0x1A && (head[1] & 0xFF) == 0x45
+                && (head[2] & 0xFF) == 0xDF && (head[3] & 0xFF) == 0xA3) {
+            return Container.WEBM;
+        }
+        if (length >= 8 && startsWith(head, 4, "ftyp")) {
+            return Container.MP4;
+        }
+        if (length >= 3 && startsWith(head, 0, "ID3")) {
+            return Container.MP3;
+        }
+        if (length >= 2 && (head[0] & 0xFF) == 0xFF) {
+            int b1 = head[1] & 0xFF;
+            // ADTS (AAC): 동기 12비트 + layer 00
+            if ((b1 & 0xF6) == 0xF0) {
+                return Container.AAC;
+            }
+            // MPEG 오디오 프레임: 동기 11비트 + layer != 00
+            if ((b1 & 0xE0) == 0xE0 && (b1 & 0x06) != 0) {
+                return Container.MP3;
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int offset, String magic) {
+        byte[] expected = magic.getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < expected.length; i++) {
+            if (head[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.voice.stt;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.speech.v1.*;
+import com.google.protobuf.ByteString;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Google Cloud STT 구현 - 구간 PCM 을 요청 본문에 직접 담아 동기 인식 (구간당 1분 이하)
+ * 호출 스레드가 인터럽트되면 (작업 취소) 진행 중인 요청을 취소한다
+ */
+@Component
+@RequiredArgsConstructor
+public class GoogleSpeechRecognizer implements SpeechRecognizer {
+
+    private final SpeechClient speechClient;
+
+    @Override
+    public String recognize(PcmAudio audio, SilenceSegmenter.Segment segment) {
+        RecognitionConfig config = RecognitionConfig.newBuilder()
+                .setEncoding(RecognitionConfig.AudioEncoding.LINEAR16)
+                .setSampleRateHertz(audio.sampleRate())
+                .setLanguageCode("ko-KR")
+                .build();
+
+        RecognitionAudio content = RecognitionAudio.newBuilder()
+                .setContent(ByteString.copyFrom(audio.bytes(segment.startSample(), segment.endSample())))
+                .build();
+
+        // recognize() 는 스레드 인터럽트에 반응하지 않으므로 비동기 호출 후 기다리고, 작업이 취소되면 gRPC 호출도 취소한다
+        ApiFuture<RecognizeResponse> call = speechClient.recognizeCallable()
+                .futureCall(RecognizeRequest.newBuilder().setConfig(config).setAudio(content).build());
+        RecognizeResponse response;
+        try {
+            response = call.get();
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("음성 인식이 취소되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException("음성 인식 실패", e.getCause());
+        }
+
+        StringBuilder transcript = new StringBuilder();
+        for (SpeechRecognitionResult result : response.getResultsList()) {
+            if (result.getAlternativesCount() > 0) {
+                transcript.append(result.getAlternatives(0).getTranscript());
+            }
+        }
+        return transcript.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.voice.stt;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+
+/**
+ * 16bit signed little-endian 모노 PCM 오디오
+ * 원본 버퍼를 복사하지 않고 감싸기만 하며, 구간은 샘플 인덱스로 다룬다
+ */
+public class PcmAudio {
+
+    private final ByteBuffer bytes;
+    private final int sampleRate;
+
+    public PcmAudio(ByteBuffer bytes, int sampleRate) {
+        this.bytes = bytes.slice().order(ByteOrder.LITTLE_ENDIAN);
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * WAV(RIFF, PCM 16bit 모노) 바이트에서 data 청크를 찾아 감싼다 (복사 없음)
+     */
+    public static PcmAudio fromWav(ByteBuffer wav) {
+        ByteBuffer buf = wav.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.remaining() < 12 || buf.getInt(buf.position()) != 0x46464952 /* RIFF */
+                || buf.getInt(buf.position() + 8) != 0x45564157 /* WAVE */) {
+            throw new IllegalArgumentException("WAV 형식이 아닙니다.");
+        }
+
+        int sampleRate = 16000;
+        int pos = buf.position() + 12;
+        while (pos + 8 <= buf.limit()) {
+            int chunkId = buf.getInt(pos);
+            int chunkSize = buf.getInt(pos + 4);
+            int body = pos + 8;
+            if (chunkId == 0x20746d66 /* "fmt " */) {
+                short channels = buf.getShort(body + 2);
+                short bitsPerSample = buf.getShort(body + 14);
+                if (channels != 1 || bitsPerSample != 16) {
+                    throw new IllegalArgumentException("16bit 모노 WAV 만 지원합니다.");
+                }
+                sampleRate = buf.getInt(body + 4);
+            } else if (chunkId == 0x61746164 /* "data" */) {
+                // ffmpeg 파이프 출력은 data 크기가 0 또는 최대값일 수 있어 실제 남은 길이로 제한
+                int end = (chunkSize <= 0 || body + chunkSize > buf.limit()) ? buf.limit() : body + chunkSize;
+                end -= (end - body) % 2;
+                ByteBuffer data = buf.duplicate();
+                data.position(body).limit(end);
+                return new PcmAudio(data, sampleRate);
+            }
+            pos = body + chunkSize + (chunkSize & 1);
+        }
+        throw new IllegalArgumentException("WAV data 청크가 없습니다.");
+    }
+
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    public int sampleCount() {
+        return bytes.remaining() / 2;
+    }
+
+    public double durationSeconds() {
+        return (double) sampleCount() / sampleRate;
+    }
+
+    public short sample(int index) {
+        return bytes.getShort(index * 2);
+    }
+
+    public ShortBuffer samples() {
+        return bytes.duplicate().order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+    }
+
+    // frameSize 샘플 단위 RMS (마지막 프레임은 남은 샘플만)
+    public double[] frameRms(int frameSize) {
+        int total = sampleCount();
+        int frames = (total + frameSize - 1) / frameSize;
+        double[] rms = new double[frames];
+        for (int f = 0; f < frames; f++) {
+            int start = f * frameSize;
+            int end = Math.min(total, start + frameSize);
+            double sum = 0;
+            for (int i = start; i < end; i++) {
+                double s = sample(i);
+                sum += s * s;
+            }
+            rms[f] = Math.sqrt(sum / Math.max(1, end - start));
+        }
+        return rms;
+    }
+
+    // [startSample, endSample) 구간의 바이트 뷰 (복사 없음)
+    public ByteBuffer bytes(int startSample, int endSample) {
+        ByteBuffer view = bytes.duplicate();
+        view.position(startSample * 2).limit(endSample * 2);
+        return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public ByteBuffer bytes() {
+        return bytes(0, sampleCount());
+    }
+}
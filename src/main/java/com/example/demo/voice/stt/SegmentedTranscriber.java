@@ -0,0 +1,182 @@
+package com.example.demo.voice.stt;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 긴 음성 분할 인식
+ * 무음 구간에서 잘라 구간별로 병렬 인식한 뒤 순서대로 이어 붙인다
+ * → 전체 지연이 전체 길이가 아니라 가장 긴 구간의 인식 시간에 가까워진다
+ */
+@Slf4j
+@Service
+public class SegmentedTranscriber {
+
+    private final SpeechRecognizer recognizer;
+    private final SilenceSegmenter segmenter;
+    private final ThreadPoolExecutor executor;
+
+    public SegmentedTranscriber(
+            SpeechRecognizer recognizer,
+            @Value("${voice.stt.parallelism:4}") int parallelism,
+            @Value("${voice.stt.queue-capacity:64}") int queueCapacity,
+            @Value("${voice.stt.target-segment-seconds:15}") double targetSegmentSeconds,
+            @Value("${voice.stt.max-segment-seconds:55}") double maxSegmentSeconds,
+            @Value("${voice.stt.min-silence-ms:400}") int minSilenceMs) {
+        this.recognizer = recognizer;
+        this.segmenter = new SilenceSegmenter(30, minSilenceMs, targetSegmentSeconds, maxSegmentSeconds, 300);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "stt-segment-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, pool) -> {
+                    if (pool.isShutdown()) {
+                        // 종료 후 들어온 구간 - 실행하지 않고 실패 처리 (기다리는 요청이 멈추지 않도록)
+                        ((SegmentTask) r).reject();
+                    } else {
+                        // 대기열이 가득 차면 요청 스레드에서 직접 인식 (요청을 버리지 않음)
+                        r.run();
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public String transcribe(PcmAudio audio) {
+        return transcribe(audio, TranscriptionListener.NONE);
+    }
+
+    public String transcribe(PcmAudio audio, TranscriptionListener listener) {
+        List<SilenceSegmenter.Segment> segments = segmenter.split(audio);
+        log.debug("STT 구간 분할: {}초 → {}개 구간", String.format("%.1f", audio.durationSeconds()), segments.size());
+
+        if (segments.isEmpty()) {
+            listener.onSegmentRecognized(0, 0);
+            return "";
+        }
+        if (segments.size() == 1) {
+            String text = recognizer.recognize(audio, segments.get(0)).strip();
+            listener.onSegmentRecognized(1, 1);
+            return text;
+        }
+
+        int total = segments.size();
+        AtomicInteger done = new AtomicInteger();
+        // 구간 작업은 호출자의 오디오 버퍼(풀에서 빌린 버퍼일 수 있음)를 읽으므로,
+        // 실패 / 취소 시에도 모든 작업이 끝나거나 시작 전에 막힌 뒤에만 반환한다
+        CountDownLatch settled = new CountDownLatch(total);
+        List<SegmentTask> tasks = new ArrayList<>(total);
+        for (SilenceSegmenter.Segment segment : segments) {
+            SegmentTask task = new SegmentTask(() -> {
+                try {
+                    return recognizer.recognize(audio, segment);
+                } finally {
+                    listener.onSegmentRecognized(done.incrementAndGet(), total);
+                }
+            }, settled);
+            tasks.add(task);
+            executor.execute(task);
+        }
+
+        StringBuilder transcript = new StringBuilder();
+        try {
+            for (SegmentTask task : tasks) {
+                String text = task.get().strip();
+                if (!text.isEmpty()) {
+                    if (transcript.length() > 0) {
+                        transcript.append(' ');
+                    }
+                    transcript.append(text);
+                }
+            }
+        } catch (InterruptedException e) {
+            // 작업 취소 - 시작 전 구간은 막고 인식 중인 구간은 인터럽트
+            abortAndAwait(tasks, settled);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("음성 인식이 취소되었습니다.", e);
+        } catch (ExecutionException e) {
+            abortAndAwait(tasks, settled);
+            throw new IllegalStateException("구간 음성 인식 실패", e.getCause());
+        }
+        return transcript.toString();
+    }
+
+    // 남은 구간을 취소하고 실행 중인 구간이 모두 끝날 때까지 대기 (대기 중 인터럽트는 끝난 뒤 다시 설정)
+    private static void abortAndAwait(List<SegmentTask> tasks, CountDownLatch settled) {
+        tasks.forEach(SegmentTask::abort);
+        boolean interrupted = Thread.interrupted();
+        while (true) {
+            try {
+                settled.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 구간 인식 작업 - 실행할 스레드와 취소하는 쪽 중 먼저 차지한 쪽이 settled 를 한 번만 내린다
+     * (시작 전에 취소되면 실행되지 않음, 실행 중에 취소되면 인터럽트 후 끝날 때 내림)
+     */
+    private static final class SegmentTask extends FutureTask<String> {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch settled;
+
+        SegmentTask(Callable<String> callable, CountDownLatch settled) {
+            super(callable);
+            this.settled = settled;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                super.run();
+            } finally {
+                settled.countDown();
+            }
+        }
+
+        // 실행기 종료로 실행되지 못한 구간 - 실패로 끝내 get() 이 ExecutionException 을 던지게 한다
+        void reject() {
+            if (claimed.compareAndSet(false, true)) {
+                setException(new RejectedExecutionException("STT 구간 실행기가 종료되었습니다."));
+                settled.countDown();
+            }
+        }
+
+        void abort() {
+            cancel(true);
+            if (claimed.compareAndSet(false, true)) {
+                settled.countDown();
+            }
+        }
+    }
+
+    // 대기열에 남은 구간은 실행되지 않으므로 실패 처리해 기다리는 요청을 풀어 준다
+    @PreDestroy
+    public void shutdown() {
+        for (Runnable pending : executor.shutdownNow()) {
+            ((SegmentTask) pending).reject();
+        }
+    }
+}
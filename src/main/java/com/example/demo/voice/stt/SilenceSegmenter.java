@@ -0,0 +1,102 @@
+package com.example.demo.voice.stt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 에너지 기반 VAD 로 PCM 을 무음 구간에서 자르는 분할기
+ * - 프레임(frameMs) 단위 RMS 를 구하고, 하위 10% 에너지(잡음 바닥)의 배수 또는 최소 임계값 미만을 무음으로 본다
+ * - minSilenceMs 이상 이어진 무음의 가운데를 자를 수 있는 지점으로 삼는다
+ * - 구간이 targetSeconds 를 넘으면 다음 자를 지점에서 자르고, maxSeconds 에 도달하면 강제로 자른다
+ * - 전체가 무음인 구간은 버린다
+ */
+public class SilenceSegmenter {
+
+    public record Segment(int startSample, int endSample) {
+        public int length() {
+            return endSample - startSample;
+        }
+    }
+
+    private final int frameMs;
+    private final int minSilenceMs;
+    private final double targetSeconds;
+    private final double maxSeconds;
+    private final double minThreshold;
+
+    public SilenceSegmenter(int frameMs, int minSilenceMs, double targetSeconds, double maxSeconds, double minThreshold) {
+        this.frameMs = frameMs;
+        this.minSilenceMs = minSilenceMs;
+        this.targetSeconds = targetSeconds;
+        this.maxSeconds = maxSeconds;
+        this.minThreshold = minThreshold;
+    }
+
+    public List<Segment> split(PcmAudio audio) {
+        int frameSize = Math.max(1, audio.sampleRate() * frameMs / 1000);
+        int frames = (audio.sampleCount() + frameSize - 1) / frameSize;
+        if (frames == 0) {
+            return List.of();
+        }
+
+        boolean[] voiced = classify(audio.frameRms(frameSize), minThreshold);
+
+        int minSilenceFrames = Math.max(1, minSilenceMs / frameMs);
+        int targetFrames = (int) (targetSeconds * 1000 / frameMs);
+        int maxFrames = (int) (maxSeconds * 1000 / frameMs);
+
+        List<Segment> segments = new ArrayList<>();
+        int segStart = 0;
+        int silenceRun = 0;
+        for (int f = 0; f < frames; f++) {
+            silenceRun = voiced[f] ? 0 : silenceRun + 1;
+            int length = f + 1 - segStart;
+
+            boolean silenceCut = silenceRun >= minSilenceFrames && length >= targetFrames;
+            boolean forcedCut = length >= maxFrames;
+            if (silenceCut || forcedCut) {
+                // 무음 구간 가운데에서 자른다 (강제 컷이면 현재 프레임 끝)
+                int cut = silenceCut ? f + 1 - silenceRun / 2 : f + 1;
+                addIfVoiced(segments, voiced, segStart, cut, frameSize, audio.sampleCount());
+                segStart = cut;
+                silenceRun = silenceCut ? silenceRun - silenceRun / 2 : 0;
+            }
+        }
+        addIfVoiced(segments, voiced, segStart, frames, frameSize, audio.sampleCount());
+        return segments;
+    }
+
+    // 잡음 바닥(하위 10%)의 3배 또는 minThreshold 이상인 프레임을 발화로 본다
+    // 무음이 거의 없는 짧은 발화는 잡음 바닥이 발화 크기와 같아지므로 기준을 가장 큰 프레임의 절반으로 제한한다
+    static boolean[] classify(double[] rms, double minThreshold) {
+        if (rms.length == 0) {
+            return new boolean[0];
+        }
+        double[] sorted = rms.clone();
+        Arrays.sort(sorted);
+        double noiseFloor = sorted[sorted.length / 10];
+        double loudest = sorted[sorted.length - 1];
+        double threshold = Math.max(minThreshold, Math.min(noiseFloor * 3, loudest / 2));
+
+        boolean[] voiced = new boolean[rms.length];
+        for (int i = 0; i < rms.length; i++) {
+            voiced[i] = rms[i] >= threshold;
+        }
+        return voiced;
+    }
+
+    private void addIfVoiced(List<Segment> segments, boolean[] voiced, int fromFrame, int toFrame,
+                             int frameSize, int totalSamples) {
+        for (int f = fromFrame; f < toFrame; f++) {
+            if (voiced[f]) {
+                int start = fromFrame * frameSize;
+                int end = Math.min(totalSamples, toFrame * frameSize);
+                if (end > start) {
+                    segments.add(new Segment(start, end));
+                }
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.voice.stt;
+
+/**
+ * 음성 인식 엔진 (구간 하나를 텍스트로 변환)
+ * 구현체: GoogleSpeechRecognizer, 테스트에서는 로컬 가짜 구현을 사용한다
+ */
+public interface SpeechRecognizer {
+
+    String recognize(PcmAudio audio, SilenceSegmenter.Segment segment);
+}
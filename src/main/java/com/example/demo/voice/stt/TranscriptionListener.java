@@ -0,0 +1,18 @@
+package com.example.demo.voice.stt;
+
+/**
+ * 음성 인식 진행 상황 콜백 (비동기 음성 작업의 상태 표시용)
+ */
+public interface TranscriptionListener {
+
+    TranscriptionListener NONE = new TranscriptionListener() {
+    };
+
+    // 변환(ffmpeg) 완료
+    default void onTranscoded(double durationSeconds) {
+    }
+
+    // 구간 인식 진행 (done / total)
+    default void onSegmentRecognized(int done, int total) {
+    }
+}
@@ -0,0 +1,9 @@
+-- 순위판 스냅샷: through_date 까지의 누적 포인트 (이후 적립분은 기동 시 point_rollup 에서 더한다)
+CREATE TABLE leaderboard_snapshot (
+    board        CHAR(1) NOT NULL, -- 'F' 가족(fid), 'U' 구성원(uid) - point_rollup.scope 와 같은 코드
+    member_id    BIGINT  NOT NULL,
+    score        BIGINT  NOT NULL,
+    through_date DATE    NOT NULL,
+    updated_at   DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (board, member_id)
+);
@@ -0,0 +1,10 @@
+-- 서버 여러 대 운영 시 식물 WebSocket 이벤트 중계 (plant.websocket.broker: db)
+-- 서버마다 자기 연결이 있는 가족의 다른 서버 행만 id 순으로 읽고, retention-seconds 가 지난 행은 삭제한다
+CREATE TABLE plant_event_outbox (
+    id         BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    fid        BIGINT      NOT NULL,
+    node_id    CHAR(36)    NOT NULL,
+    payload    TEXT        NOT NULL,
+    created_at DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_plant_event_outbox_created_at (created_at)
+);
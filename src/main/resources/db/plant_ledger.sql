@@ -0,0 +1,17 @@
+-- 식물 성장 이벤트 로그: Point_activities 를 원본으로 두고 Plants.level / experience_point 는 재생 결과로 취급
+-- plant_version: 이 적립으로 바뀐 Plants.version (식물별 이벤트 순서), member_count: 적립 당시 가족 구성원 수
+-- 이전 행은 NULL (재생 시 created_at 순서, 현재 구성원 수 사용)
+ALTER TABLE Point_activities ADD COLUMN plant_version BIGINT NULL, ADD COLUMN member_count INT NULL;
+ALTER TABLE Point_activities_archive ADD COLUMN plant_version BIGINT NULL, ADD COLUMN member_count INT NULL;
+CREATE INDEX idx_point_activities_pid_version ON Point_activities (pid, plant_version);
+CREATE INDEX idx_point_activities_archive_pid_version ON Point_activities_archive (pid, plant_version);
+
+-- 식물 상태 스냅샷 (plant_version 까지의 이벤트를 적용한 결과) - 현재 상태 = 최신 스냅샷 + 이후 이벤트
+CREATE TABLE plant_snapshot (
+    pid              BIGINT   NOT NULL,
+    plant_version    BIGINT   NOT NULL,
+    level            INT      NOT NULL,
+    experience_point INT      NOT NULL,
+    created_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (pid, plant_version)
+);
@@ -0,0 +1,28 @@
+-- 활동 포인트 / 레벨 경험치 기준 / 보상 가중치 규칙 (plant.rules.reload-seconds 주기로 재적용, 재시작 불필요)
+-- 활동 포인트나 경험치 기준 테이블이 비어 있으면 코드 기본값(PlantRules.DEFAULTS)을 사용한다
+CREATE TABLE activity_point_rule (
+    activity_type VARCHAR(30) NOT NULL PRIMARY KEY,
+    points        INT         NOT NULL
+);
+
+INSERT INTO activity_point_rule (activity_type, points) VALUES
+    ('attendance', 5), ('water', 5), ('nutrient', 10), ('emotion', 10),
+    ('quiz', 10), ('lastleaf', 10), ('register', 10), ('survey', 5);
+
+-- 구성원 2~5명, 레벨 1~4 가 모두 있어야 적용된다 (일부만 있으면 이전 규칙 유지)
+CREATE TABLE plant_level_rule (
+    member_count  INT NOT NULL,
+    level         INT NOT NULL,
+    exp_threshold INT NOT NULL,
+    PRIMARY KEY (member_count, level)
+);
+
+INSERT INTO plant_level_rule (member_count, level, exp_threshold) VALUES
+    (2, 1, 150), (2, 2, 200), (2, 3, 250), (2, 4, 300),
+    (3, 1, 200), (3, 2, 250), (3, 3, 300), (3, 4, 350),
+    (4, 1, 250), (4, 2, 300), (4, 3, 350), (4, 4, 400),
+    (5, 1, 300), (5, 2, 350), (5, 3, 400), (5, 4, 450);
+
+-- 보상 추첨 가중치 (기존과 같이 1~4번 균등)
+ALTER TABLE rewards ADD COLUMN weight INT NOT NULL DEFAULT 0;
+UPDATE rewards SET weight = 1 WHERE reward_id IN (1, 2, 3, 4);
@@ -0,0 +1,2 @@
+-- 식물 상태 캐시: 식물 행이 바뀔 때마다 1씩 증가 (오래된 상태가 최신 상태를 덮어쓰지 않도록 비교)
+ALTER TABLE Plants ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- 사용자당 같은 날 같은 활동 한 행: 적립 시 존재 확인(NOT EXISTS) 대신 이 키로 중복을 막는다 (INSERT IGNORE)
+-- 존재 확인 쿼리가 잡던 간격 잠금이 없어져, uid 가 인접한 가족끼리의 적립이 서로 교착하지 않는다
+-- 기존 중복 행은 하나만 남긴다 (MariaDB ALTER IGNORE)
+ALTER IGNORE TABLE Point_activities ADD UNIQUE INDEX uk_point_activities_daily (uid, activity_type, activity_date);
@@ -0,0 +1,29 @@
+-- 포인트 활동 집계 (일/주 단위, 가족/사용자별) - 통계는 원본 Point_activities 대신 이 테이블에서 읽는다
+CREATE TABLE point_rollup (
+    period         CHAR(1)     NOT NULL, -- 'D' 일, 'W' 주 (월요일 시작)
+    period_start   DATE        NOT NULL,
+    scope          CHAR(1)     NOT NULL, -- 'F' 가족(fid), 'U' 사용자(uid)
+    scope_id       BIGINT      NOT NULL,
+    activity_type  VARCHAR(20) NOT NULL,
+    points         INT         NOT NULL DEFAULT 0,
+    activity_count INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope, scope_id, period, period_start, activity_type)
+);
+
+-- 기존 활동 내역으로 집계 채우기
+INSERT INTO point_rollup (period, period_start, scope, scope_id, activity_type, points, activity_count)
+SELECT 'D', activity_date, 'F', fid, activity_type, SUM(points_earned), COUNT(*)
+FROM Point_activities GROUP BY activity_date, fid, activity_type
+UNION ALL
+SELECT 'D', activity_date, 'U', uid, activity_type, SUM(points_earned), COUNT(*)
+FROM Point_activities GROUP BY activity_date, uid, activity_type
+UNION ALL
+SELECT 'W', DATE_SUB(activity_date, INTERVAL WEEKDAY(activity_date) DAY), 'F', fid, activity_type, SUM(points_earned), COUNT(*)
+FROM Point_activities GROUP BY DATE_SUB(activity_date, INTERVAL WEEKDAY(activity_date) DAY), fid, activity_type
+UNION ALL
+SELECT 'W', DATE_SUB(activity_date, INTERVAL WEEKDAY(activity_date) DAY), 'U', uid, activity_type, SUM(points_earned), COUNT(*)
+FROM Point_activities GROUP BY DATE_SUB(activity_date, INTERVAL WEEKDAY(activity_date) DAY), uid, activity_type;
+
+-- 보관 기간이 지난 원본 활동 내역 (야간 정리 작업이 날짜 단위로 옮긴다)
+CREATE TABLE Point_activities_archive LIKE Point_activities;
+CREATE INDEX idx_point_activities_date ON Point_activities (activity_date);
@@ -0,0 +1,3 @@
+-- cid 당 TTS 로그 한 행: 사전 생성(pregenerateTts)과 재생(findOrCreateTtsLog)이 동시에 저장해도 중복되지 않도록
+-- 기존 중복 행은 하나만 남긴다 (MariaDB ALTER IGNORE)
+ALTER IGNORE TABLE tts_log ADD UNIQUE INDEX uk_tts_log_cid (cid);
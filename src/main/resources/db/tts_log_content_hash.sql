@@ -0,0 +1,3 @@
+-- TTS content hash 캐시: 같은 문장의 음성을 여러 cid가 공유
+ALTER TABLE tts_log ADD COLUMN content_hash CHAR(64) NULL AFTER tts_url;
+CREATE INDEX idx_tts_log_content_hash ON tts_log (content_hash);
@@ -0,0 +1,95 @@
+package com.example.demo.buffer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * direct 버퍼 풀 테스트 - 매 테스트 후 반환되지 않은 버퍼가 없는지 확인한다
+ */
+class DirectBufferPoolTest {
+
+    private static final int MAX_BUFFER = 1 << 20;   // 1MB
+    private static final long MAX_POOLED = 1 << 21;  // 2MB
+
+    private SimpleMeterRegistry registry;
+    private DirectBufferPool pool;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        pool = new DirectBufferPool(registry, MAX_BUFFER, MAX_POOLED, true);
+    }
+
+    @AfterEach
+    void noLeaks() {
+        assertThat(pool.leaks()).isEmpty();
+        assertThat(pool.leasedCount()).isZero();
+    }
+
+    @Test
+    void reusesReleasedBufferOfSameSizeClass() {
+        ByteBuffer first;
+        try (DirectBufferPool.Lease lease = pool.acquire(100_000)) {
+            first = lease.buffer();
+            assertThat(first.isDirect()).isTrue();
+            assertThat(first.capacity()).isEqualTo(128 * 1024);
+            assertThat(first.limit()).isEqualTo(100_000);
+        }
+        try (DirectBufferPool.Lease lease = pool.acquire(70_000)) {
+            assertThat(lease.buffer()).isSameAs(first);
+            assertThat(lease.buffer().position()).isZero();
+        }
+
+        assertThat(registry.counter("voice.buffer.pool.acquire", "result", "miss").count()).isEqualTo(1);
+        assertThat(registry.counter("voice.buffer.pool.acquire", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    void oversizedRequestFallsBackToHeap() {
+        try (DirectBufferPool.Lease lease = pool.acquire(MAX_BUFFER + 1)) {
+            assertThat(lease.buffer().isDirect()).isFalse();
+        }
+        assertThat(pool.pooledBytes()).isZero();
+        assertThat(registry.counter("voice.buffer.pool.acquire", "result", "fallback").count()).isEqualTo(1);
+    }
+
+    @Test
+    void poolIsBoundedByMaxPooledBytes() {
+        DirectBufferPool.Lease[] leases = new DirectBufferPool.Lease[3];
+        for (int i = 0; i < leases.length; i++) {
+            leases[i] = pool.acquire(MAX_BUFFER);
+        }
+        assertThat(registry.get("voice.buffer.pool.leased").gauge().value()).isEqualTo(3);
+        for (DirectBufferPool.Lease lease : leases) {
+            lease.close();
+        }
+
+        assertThat(pool.pooledBytes()).isEqualTo(MAX_POOLED);
+        assertThat(registry.counter("voice.buffer.pool.release", "result", "dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void releasedLeaseCannotBeUsed() {
+        DirectBufferPool.Lease lease = pool.acquire(10);
+        lease.close();
+        lease.close(); // 중복 반환은 무시
+
+        assertThatThrownBy(lease::buffer).isInstanceOf(IllegalStateException.class);
+        assertThat(pool.pooledBytes()).isEqualTo(64 * 1024);
+    }
+
+    @Test
+    void reportsUnreleasedBuffer() {
+        DirectBufferPool.Lease lease = pool.acquire(10);
+        assertThat(pool.leaks()).hasSize(1);
+        assertThat(pool.leasedCount()).isEqualTo(1);
+        lease.close();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.leaderboard.service;
+
+import com.example.demo.leaderboard.dao.LeaderboardDao;
+import com.example.demo.leaderboard.dto.LeaderboardName;
+import com.example.demo.leaderboard.dto.LeaderboardResponse;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * 순위판 기동 테스트 - DB 장애로 재구성이 실패해도 기동은 계속되고, 재구성 전 적립은 이중 반영되지 않는다
+ */
+class LeaderboardServiceTest {
+
+    private final FakeLeaderboardDao dao = new FakeLeaderboardDao();
+    private final LeaderboardService service = new LeaderboardService(dao, null);
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void startsWithRebuiltBoards() {
+        dao.snapshot("U", 1L, 100);
+        dao.points("U", 1L, 20);
+        dao.points("U", 2L, 50);
+
+        init();
+
+        assertThat(service.isReady()).isTrue();
+        assertThat(scores(service.members(1L, 10))).containsExactly(120L, 50L);
+    }
+
+    @Test
+    void failedRebuildDoesNotBlockStartup() {
+        dao.failing = true;
+
+        assertThatCode(this::init).doesNotThrowAnyException();
+
+        assertThat(service.isReady()).isFalse();
+        assertThat(service.members(1L, 10).getTop()).isEmpty();
+    }
+
+    @Test
+    void pointsRecordedBeforeRebuildAreReadFromDatabaseOnce() {
+        dao.failing = true;
+        init();
+
+        // 재구성 전 적립 - DB(point_rollup)에는 이미 들어가 있다
+        dao.points("U", 1L, 30);
+        service.recordPoints(10L, 1L, 30, LocalDate.now());
+
+        dao.failing = false;
+        service.rebuild();
+
+        assertThat(service.isReady()).isTrue();
+        assertThat(scores(service.members(1L, 10))).containsExactly(30L);
+        // 재구성 이후 적립은 바로 반영
+        service.recordPoints(10L, 1L, 5, LocalDate.now());
+        assertThat(scores(service.members(1L, 10))).containsExactly(35L);
+    }
+
+    private void init() {
+        ReflectionTestUtils.setField(service, "snapshotEnabled", false);
+        service.init();
+    }
+
+    private static List<Long> scores(LeaderboardResponse response) {
+        return response.getTop().stream().map(LeaderboardResponse.Entry::getScore).toList();
+    }
+
+    private static class FakeLeaderboardDao implements LeaderboardDao {
+        private final List<Map<String, Object>> snapshots = new ArrayList<>();
+        private final List<Map<String, Object>> points = new ArrayList<>();
+        private volatile boolean failing;
+
+        void snapshot(String board, long id, long score) {
+            snapshots.add(Map.of("board", board, "member_id", id, "score", score));
+        }
+
+        void points(String board, long id, long amount) {
+            points.add(Map.of("board", board, "member_id", id, "points", amount, "period_start", LocalDate.now()));
+        }
+
+        @Override
+        public void scanSnapshots(ResultHandler<Map<String, Object>> handler) {
+            scan(snapshots, handler);
+        }
+
+        @Override
+        public void scanPointsAfterSnapshot(ResultHandler<Map<String, Object>> handler) {
+            scan(points, handler);
+        }
+
+        private void scan(List<Map<String, Object>> rows, ResultHandler<Map<String, Object>> handler) {
+            if (failing) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            DefaultResultContext<Map<String, Object>> context = new DefaultResultContext<>();
+            for (Map<String, Object> row : rows) {
+                context.nextResultObject(row);
+                handler.handleResult(context);
+            }
+        }
+
+        @Override
+        public void upsertSnapshots(String board, List<Leaderboard.Snapshot> rows) {
+        }
+
+        @Override
+        public void deleteSnapshot(String board, Long memberId) {
+        }
+
+        @Override
+        public List<LeaderboardName> selectFamilyNames(Collection<Long> ids) {
+            return List.of();
+        }
+
+        @Override
+        public List<LeaderboardName> selectUserNames(Collection<Long> ids) {
+            return List.of();
+        }
+    }
+}
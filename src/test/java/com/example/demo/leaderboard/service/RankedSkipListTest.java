@@ -0,0 +1,93 @@
+package com.example.demo.leaderboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 순위 스킵 리스트 / 순위판 테스트 - 무작위 갱신 후 단순 정렬 결과와 비교한다
+ */
+class RankedSkipListTest {
+
+    @Test
+    void matchesSortedOrderAfterRandomUpdates() {
+        RankedSkipList list = new RankedSkipList();
+        Map<Long, Long> scores = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            long id = random.nextInt(500);
+            Long old = scores.get(id);
+            if (old != null) {
+                assertThat(list.remove(id, old)).isTrue();
+            }
+            if (old != null && random.nextInt(10) == 0) {
+                scores.remove(id);
+                continue;
+            }
+            long score = (old == null ? 0 : old) + random.nextInt(20);
+            scores.put(id, score);
+            list.insert(id, score);
+        }
+
+        List<Map.Entry<Long, Long>> expected = new ArrayList<>(scores.entrySet());
+        expected.sort(Comparator.<Map.Entry<Long, Long>>comparingLong(Map.Entry::getValue).reversed()
+                .thenComparingLong(Map.Entry::getKey));
+
+        assertThat(list.size()).isEqualTo(expected.size());
+        List<RankedSkipList.Node> all = list.range(0, expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(all.get(i).id).isEqualTo(expected.get(i).getKey());
+            assertThat(all.get(i).score).isEqualTo(expected.get(i).getValue());
+        }
+        for (Map.Entry<Long, Long> e : expected) {
+            long above = expected.stream().filter(o -> o.getValue() > e.getValue()).count();
+            assertThat(list.countAbove(e.getValue())).isEqualTo((int) above);
+        }
+        assertThat(list.range(expected.size() - 3, 10)).hasSize(3);
+        assertThat(list.range(expected.size(), 10)).isEmpty();
+        assertThat(list.remove(10_000, 1)).isFalse();
+    }
+
+    @Test
+    void tiedScoresShareRank() {
+        Leaderboard board = new Leaderboard();
+        LocalDate today = LocalDate.now();
+        board.add(1, 30, today);
+        board.add(2, 50, today);
+        board.add(3, 30, today);
+        board.add(4, 10, today);
+
+        assertThat(board.top(10)).extracting(Leaderboard.Ranked::rank).containsExactly(1, 2, 2, 4);
+        assertThat(board.top(10)).extracting(Leaderboard.Ranked::id).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(board.rankOf(3).rank()).isEqualTo(2);
+        assertThat(board.rankOf(4).rank()).isEqualTo(4);
+        assertThat(board.rankOf(99)).isNull();
+
+        board.add(4, 40, today);
+        assertThat(board.rankOf(4).rank()).isEqualTo(1);
+        assertThat(board.rankOf(2).rank()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotExcludesPointsAfterThroughDate() {
+        Leaderboard board = new Leaderboard();
+        LocalDate today = LocalDate.now();
+        board.restore(1, 100);
+        board.add(1, 5, today.minusDays(3));
+        board.add(1, 7, today);
+
+        List<Leaderboard.Snapshot> rows = board.drainSnapshot(today.minusDays(2));
+        assertThat(rows).containsExactly(new Leaderboard.Snapshot(1, 105, today.minusDays(2)));
+        assertThat(board.drainSnapshot(today.minusDays(2))).isEmpty();
+        assertThat(board.rankOf(1).score()).isEqualTo(112);
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.demo.plant.dao;
+
+import ch.vorburger.mariadb4j.DB;
+import com.example.demo.plant.dto.PlantSnapshot;
+import com.example.demo.plant.dto.PointAccrualContext;
+import com.example.demo.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포인트 적립 쿼리 테스트 (임베디드 MariaDB)
+ * - 적립 정보 조회: 최신 식물 / 구성원 수 (잠그지 않음)
+ * - 식물 잠금: 최신 식물 행 하나만 잠그고 다른 트랜잭션이 커밋한 최신 값을 읽는다
+ * - 활동 저장: 같은 날 같은 활동은 0행, 간격 잠금이 없어 다른 사용자의 저장을 막지 않는다
+ *
+ * 실행: ./gradlew mariadbTest
+ */
+@Tag("mariadb")
+@MybatisTest
+@ActiveProfiles("local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 잠금은 커밋된 행으로 확인해야 한다
+class PointMapperTest {
+
+    private static final String DB_NAME = "point_mapper";
+
+    private static DB db;
+
+    @Autowired
+    private PointDao pointDao;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private record Family(long fid, long olderPid, long pid, List<Long> members) {
+    }
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) throws Exception {
+        db = EmbeddedMariaDb.start(DB_NAME);
+        EmbeddedMariaDb.register(registry, db, DB_NAME);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        if (db != null) {
+            db.stop();
+        }
+    }
+
+    @Test
+    void accrualContextReadsLatestPlantAndMemberCount() {
+        Family family = createFamily(3);
+
+        PointAccrualContext ctx = pointDao.selectAccrualContext(family.members().get(0));
+
+        assertThat(ctx.getFid()).isEqualTo(family.fid());
+        assertThat(ctx.getPid()).isEqualTo(family.pid());
+        assertThat(ctx.getMemberCount()).isEqualTo(3);
+        assertThat(ctx.sortedMemberUids()).containsExactly(family.members().stream().mapToLong(Long::longValue).toArray());
+        assertThat(ctx.getName()).isEqualTo("member-0");
+        assertThat(ctx.getProfileImage()).isEqualTo("profile-0.png");
+    }
+
+    @Test
+    void accrualContextWithoutPlantHasNullPid() {
+        long uid = new SimpleJdbcInsert(dataSource).withTableName("Users")
+                .usingColumns("name").usingGeneratedKeyColumns("uid")
+                .executeAndReturnKey(Map.of("name", "solo")).longValue();
+
+        PointAccrualContext ctx = pointDao.selectAccrualContext(uid);
+
+        assertThat(ctx).isNotNull();
+        assertThat(ctx.getPid()).isNull();
+        assertThat(ctx.sortedMemberUids()).isEmpty();
+    }
+
+    @Test
+    void accrualContextTakesNoLocks() {
+        Family family = createFamily(2);
+        long caller = family.members().get(0);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            pointDao.selectAccrualContext(caller);
+            assertThat(lockedElsewhere("SELECT pid FROM Plants WHERE pid = ? FOR UPDATE", family.pid())).isFalse();
+            assertThat(lockedElsewhere("SELECT uid FROM Users WHERE uid = ? FOR UPDATE", caller)).isFalse();
+        });
+    }
+
+    @Test
+    void lockPlantProgressLocksOnlyThatPlantAndReadsLatestCommit() {
+        Family family = createFamily(2);
+        Family neighbor = createFamily(2);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 먼저 읽어 트랜잭션 스냅샷을 만든 뒤 다른 연결이 식물을 갱신
+            pointDao.selectAccrualContext(family.members().get(0));
+            new JdbcTemplate(dataSource).update(
+                    "UPDATE Plants SET level = 3, experience_point = 1, version = version + 1 WHERE pid = ?",
+                    family.pid());
+
+            PlantSnapshot plant = pointDao.lockPlantProgress(family.pid());
+            assertThat(plant.getPid()).isEqualTo(family.pid());
+            assertThat(plant.getPlantVersion()).isEqualTo(1);
+            assertThat(plant.getLevel()).isEqualTo(3);
+            assertThat(plant.getExperiencePoint()).isEqualTo(1);
+
+            assertThat(lockedElsewhere("SELECT pid FROM Plants WHERE pid = ? FOR UPDATE", family.pid())).isTrue();
+            // 같은 가족의 이전 식물, 다른 가족 식물, 구성원 행은 잠그지 않는다
+            assertThat(lockedElsewhere("SELECT pid FROM Plants WHERE pid = ? FOR UPDATE", family.olderPid())).isFalse();
+            assertThat(lockedElsewhere("SELECT pid FROM Plants WHERE pid = ? FOR UPDATE", neighbor.pid())).isFalse();
+            assertThat(lockedElsewhere("SELECT uid FROM Users WHERE uid = ? FOR UPDATE",
+                    family.members().get(0))).isFalse();
+        });
+    }
+
+    @Test
+    void pendingActivityInsertDoesNotBlockNeighborInserts() {
+        Family family = createFamily(2);
+        Family neighbor = createFamily(2);
+        LocalDate today = LocalDate.now();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(pointDao.insertActivityIfAbsent(activity(family, family.members().get(1), "water", today)))
+                    .isEqualTo(1);
+            // uid 가 인접한 다른 가족의 저장 (다른 연결, 잠금 대기 1초)
+            assertThat(insertedElsewhere(activity(neighbor, neighbor.members().get(0), "water", today))).isTrue();
+        });
+    }
+
+    @Test
+    void checkActivityExistsUsesGivenDate() {
+        Family family = createFamily(2);
+        long uid = family.members().get(0);
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        pointDao.insertActivityIfAbsent(activity(family, uid, "water", yesterday));
+
+        assertThat(pointDao.checkActivityExists(uid, "water", Date.valueOf(yesterday))).isTrue();
+        assertThat(pointDao.checkActivityExists(uid, "water", Date.valueOf(yesterday.plusDays(1)))).isFalse();
+    }
+
+    @Test
+    void insertActivityIfAbsentInsertsOncePerUserTypeAndDay() {
+        Family family = createFamily(2);
+        long uid = family.members().get(0);
+        LocalDate today = LocalDate.now();
+
+        assertThat(pointDao.insertActivityIfAbsent(activity(family, uid, "water", today))).isEqualTo(1);
+        assertThat(pointDao.insertActivityIfAbsent(activity(family, uid, "water", today))).isZero();
+        // 다른 활동 / 다른 날 / 다른 구성원은 별개
+        assertThat(pointDao.insertActivityIfAbsent(activity(family, uid, "quiz", today))).isEqualTo(1);
+        assertThat(pointDao.insertActivityIfAbsent(activity(family, uid, "water", today.minusDays(1)))).isEqualTo(1);
+        assertThat(pointDao.insertActivityIfAbsent(
+                activity(family, family.members().get(1), "water", today))).isEqualTo(1);
+
+        Map<String, Object> row = new JdbcTemplate(dataSource).queryForMap(
+                "SELECT pid, points_earned, plant_version, member_count FROM Point_activities "
+                        + "WHERE uid = ? AND activity_type = 'water' AND activity_date = ?", uid, today);
+        assertThat(((Number) row.get("pid")).longValue()).isEqualTo(family.pid());
+        assertThat(((Number) row.get("points_earned")).intValue()).isEqualTo(10);
+        assertThat(((Number) row.get("plant_version")).longValue()).isEqualTo(1);
+        assertThat(((Number) row.get("member_count")).intValue()).isEqualTo(2);
+    }
+
+    // 별도 연결에서 활동 저장을 시도해 잠금 대기 없이 저장되면 true
+    private boolean insertedElsewhere(Map<String, Object> activity) {
+        CompletableFuture<Boolean> attempt = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    new JdbcTemplate(dataSource).execute("SET SESSION innodb_lock_wait_timeout = 1");
+                    try {
+                        return pointDao.insertActivityIfAbsent(activity) == 1;
+                    } catch (DataAccessException e) {
+                        return false;
+                    }
+                }));
+        try {
+            return attempt.get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 별도 연결에서 잠금 읽기를 시도해 잠금 대기 초과로 실패하면 true
+    private boolean lockedElsewhere(String sql, long id) {
+        CompletableFuture<Boolean> attempt = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+                    jdbc.execute("SET SESSION innodb_lock_wait_timeout = 1");
+                    try {
+                        jdbc.queryForList(sql, id);
+                        return false;
+                    } catch (DataAccessException e) {
+                        return true;
+                    }
+                }));
+        try {
+            return attempt.get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> activity(Family family, long uid, String type, LocalDate date) {
+        Map<String, Object> activity = new HashMap<>();
+        activity.put("uid", uid);
+        activity.put("fid", family.fid());
+        activity.put("pid", family.pid());
+        activity.put("activity_type", type);
+        activity.put("points_earned", 10);
+        activity.put("activity_date", date);
+        activity.put("description", type + " 활동");
+        activity.put("plant_version", 1L);
+        activity.put("member_count", family.members().size());
+        return activity;
+    }
+
+    // 구성원 n명, 식물 2개 (나중에 만든 식물이 최신)
+    private Family createFamily(int size) {
+        long fid = new SimpleJdbcInsert(dataSource).withTableName("Family_space")
+                .usingColumns("name", "nutrial").usingGeneratedKeyColumns("fid")
+                .executeAndReturnKey(Map.of("name", "family", "nutrial", 0)).longValue();
+        SimpleJdbcInsert userInsert = new SimpleJdbcInsert(dataSource).withTableName("Users")
+                .usingColumns("name", "profile_image", "fid").usingGeneratedKeyColumns("uid");
+        List<Long> members = new ArrayList<>();
+        for (int m = 0; m < size; m++) {
+            members.add(userInsert.executeAndReturnKey(
+                    Map.of("name", "member-" + m, "profile_image", "profile-" + m + ".png", "fid", fid)).longValue());
+        }
+        SimpleJdbcInsert plantInsert = new SimpleJdbcInsert(dataSource).withTableName("Plants")
+                .usingColumns("fid", "kid", "level", "experience_point", "is_completed", "created_at")
+                .usingGeneratedKeyColumns("pid");
+        LocalDateTime now = LocalDateTime.now();
+        long olderPid = plantInsert.executeAndReturnKey(Map.of("fid", fid, "kid", 1, "level", 5,
+                "experience_point", 0, "is_completed", true, "created_at", now.minusDays(1))).longValue();
+        long pid = plantInsert.executeAndReturnKey(Map.of("fid", fid, "kid", 1, "level", 2,
+                "experience_point", 7, "is_completed", false, "created_at", now)).longValue();
+        return new Family(fid, olderPid, pid, members);
+    }
+}
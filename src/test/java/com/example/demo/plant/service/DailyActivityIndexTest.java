@@ -0,0 +1,108 @@
+package com.example.demo.plant.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오늘 활동 메모리 인덱스 테스트 - DB 적재, 커밋 후 기록, 규칙의 활동 유형, 날짜 경계
+ */
+class DailyActivityIndexTest {
+
+    private final FakePointDao pointDao = new FakePointDao();
+    private final PlantRuleService plantRuleService = new PlantRuleService(null, null);
+
+    @Test
+    void warmsFromTodaysActivities() {
+        LocalDate today = LocalDate.now();
+        pointDao.add(today, 1L, "water");
+        pointDao.add(today.minusDays(1), 1L, "quiz");
+        pointDao.add(today, 70_000L, "quiz"); // 두 번째 페이지
+
+        DailyActivityIndex index = index(true);
+
+        assertThat(index.isDone(1L, "water")).isTrue();
+        assertThat(index.isDone(1L, "quiz")).isFalse();
+        assertThat(index.isDone(70_000L, "quiz")).isTrue();
+        assertThat(index.isDone(2L, "water")).isFalse();
+    }
+
+    @Test
+    void nonAuthoritativeIndexOnlyAnswersDone() {
+        pointDao.add(LocalDate.now(), 1L, "water");
+        DailyActivityIndex index = index(false);
+
+        assertThat(index.isDone(1L, "water")).isTrue();
+        assertThat(index.isDone(2L, "water")).isNull();
+    }
+
+    @Test
+    void failedWarmFallsBackToDatabase() {
+        pointDao.failing = true;
+        DailyActivityIndex index = index(true);
+
+        assertThat(index.isDone(1L, "water")).isNull();
+        // 적재 재시도는 일정 간격으로만 (요청마다 DB 스캔하지 않음)
+        index.isDone(1L, "water");
+        assertThat(pointDao.scans.get()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsOnlyForTheAccrualsActivityDate() {
+        DailyActivityIndex index = index(true);
+        LocalDate today = LocalDate.now();
+
+        // 자정 전에 저장하고 자정 후에 커밋된 적립 → 새 날의 인덱스에는 남기지 않는다
+        index.record(1L, "water", today.minusDays(1));
+        assertThat(index.isDone(1L, "water")).isFalse();
+
+        index.record(1L, "water", today);
+        assertThat(index.isDone(1L, "water")).isTrue();
+    }
+
+    @Test
+    void activityTypesComeFromCurrentRules() {
+        DailyActivityIndex index = index(true);
+        LocalDate today = LocalDate.now();
+
+        // 규칙에 없는 활동은 판단하지 않음
+        index.record(1L, "walk", today);
+        assertThat(index.isDone(1L, "walk")).isNull();
+
+        // 규칙에 새 활동이 추가되면 바로 관리
+        Map<String, Integer> points = new HashMap<>(PlantRules.DEFAULT_POINTS);
+        points.put("walk", 5);
+        ReflectionTestUtils.setField(plantRuleService, "current",
+                PlantRules.compile(points, PlantRules.DEFAULT_THRESHOLDS, PlantRules.DEFAULT_REWARD_WEIGHTS));
+        assertThat(index.isDone(1L, "walk")).isFalse();
+        index.record(1L, "walk", today);
+        assertThat(index.isDone(1L, "walk")).isTrue();
+    }
+
+    @Test
+    void forgetClearsEveryType() {
+        DailyActivityIndex index = index(true);
+        LocalDate today = LocalDate.now();
+        index.record(1L, "water", today);
+        index.record(1L, "quiz", today);
+        index.record(2L, "quiz", today);
+
+        index.forget(1L);
+
+        assertThat(index.isDone(1L, "water")).isFalse();
+        assertThat(index.isDone(1L, "quiz")).isFalse();
+        assertThat(index.isDone(2L, "quiz")).isTrue();
+    }
+
+    private DailyActivityIndex index(boolean authoritative) {
+        DailyActivityIndex index = new DailyActivityIndex(pointDao, plantRuleService);
+        ReflectionTestUtils.setField(index, "authoritative", authoritative);
+        index.init();
+        return index;
+    }
+}
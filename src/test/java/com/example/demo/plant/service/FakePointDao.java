@@ -0,0 +1,99 @@
+package com.example.demo.plant.service;
+
+import com.example.demo.plant.dao.PointDao;
+import com.example.demo.plant.dto.PlantSnapshot;
+import com.example.demo.plant.dto.PointAccrualContext;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Point_activities 를 (날짜, 가족, uid, 활동 유형) 목록으로 흉내 내는 가짜 DAO (메모리 인덱스 테스트용)
+ * 적립 쿼리는 PointMapperTest 에서 실제 MariaDB 로 확인한다
+ */
+class FakePointDao implements PointDao {
+
+    record Activity(LocalDate date, long fid, long uid, String type) {
+    }
+
+    final List<Activity> activities = new ArrayList<>();
+    final AtomicInteger scans = new AtomicInteger();
+    volatile boolean failing;
+
+    void add(LocalDate date, long uid, String type) {
+        activities.add(new Activity(date, 0L, uid, type));
+    }
+
+    void water(LocalDate date, long fid, long uid) {
+        activities.add(new Activity(date, fid, uid, "water"));
+    }
+
+    @Override
+    public boolean checkActivityExists(Long uid, String type, Date date) {
+        LocalDate day = date.toLocalDate();
+        return activities.stream().anyMatch(a -> a.date().equals(day) && a.uid() == uid && a.type().equals(type));
+    }
+
+    @Override
+    public void scanActivityKeysOn(Date date, ResultHandler<Map<String, Object>> handler) {
+        scans.incrementAndGet();
+        if (failing) {
+            throw new IllegalStateException("DB 연결 실패");
+        }
+        DefaultResultContext<Map<String, Object>> context = new DefaultResultContext<>();
+        for (Activity a : activities) {
+            if (a.date().equals(date.toLocalDate())) {
+                context.nextResultObject(Map.of("uid", a.uid(), "activity_type", a.type()));
+                handler.handleResult(context);
+            }
+        }
+    }
+
+    @Override
+    public PointAccrualContext selectAccrualContext(Long uid) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public PlantSnapshot lockPlantProgress(Long pid) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int insertActivityIfAbsent(Map<String, Object> activity) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updatePlantProgress(Long pid, int level, int experience) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getPlantLevel(Long pid) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Long> getTodayWateredUids(Long fid, Date date) {
+        return activities.stream()
+                .filter(a -> a.fid() == fid && a.type().equals("water") && a.date().equals(date.toLocalDate()))
+                .map(Activity::uid).distinct().toList();
+    }
+
+    @Override
+    public int countWateredMembersToday(Long fid, Date date) {
+        return getTodayWateredUids(fid, date).size();
+    }
+
+    @Override
+    public void incrementNutrient(Long fid) {
+        throw new UnsupportedOperationException();
+    }
+}
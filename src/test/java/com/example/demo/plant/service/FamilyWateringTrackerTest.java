@@ -0,0 +1,115 @@
+package com.example.demo.plant.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가족 물주기 비트마스크 테스트 - 1회 지급, 롤백 되돌리기, 구성원 변경 시 다시 적재
+ */
+class FamilyWateringTrackerTest {
+
+    private static final long FID = 10L;
+
+    private final FakePointDao pointDao = new FakePointDao();
+    private final FamilyWateringTracker tracker = tracker(true);
+
+    @Test
+    void grantsOnceWhenLastMemberWaters() {
+        long[] members = {1L, 2L, 3L};
+
+        assertThat(tracker.recordWater(FID, 1L, members)).isFalse();
+        assertThat(tracker.recordWater(FID, 2L, members)).isFalse();
+        assertThat(tracker.recordWater(FID, 3L, members)).isTrue();
+        // 이미 지급된 뒤의 중복 호출
+        assertThat(tracker.recordWater(FID, 3L, members)).isFalse();
+        assertThat(tracker.recordWater(FID, 1L, members)).isFalse();
+    }
+
+    @Test
+    void concurrentWateringGrantsExactlyOnce() throws Exception {
+        long[] members = new long[64];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = 100L + i;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Callable<Boolean>> calls = new ArrayList<>();
+            for (long uid : members) {
+                calls.add(() -> tracker.recordWater(FID, uid, members));
+                calls.add(() -> tracker.recordWater(FID, uid, members));
+            }
+            int grants = 0;
+            for (Future<Boolean> result : pool.invokeAll(calls)) {
+                grants += result.get() ? 1 : 0;
+            }
+            assertThat(grants).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rollbackUndoesWaterAndGrant() {
+        long[] members = {1L, 2L};
+        tracker.recordWater(FID, 1L, members);
+        boolean granted = tracker.recordWater(FID, 2L, members);
+        assertThat(granted).isTrue();
+
+        // 지급한 트랜잭션이 롤백 → 같은 사용자가 다시 물을 주면 다시 지급
+        tracker.rollback(FID, 2L, granted);
+        assertThat(tracker.recordWater(FID, 2L, members)).isTrue();
+    }
+
+    @Test
+    void loadsWaterersFromDatabaseOnFirstUse() {
+        LocalDate today = LocalDate.now();
+        pointDao.water(today, FID, 1L);
+        pointDao.water(today.minusDays(1), FID, 2L);
+
+        assertThat(tracker.recordWater(FID, 2L, new long[]{1L, 2L})).isTrue();
+    }
+
+    @Test
+    void reloadsWhenMemberSetChangesWithSameCount() {
+        LocalDate today = LocalDate.now();
+        // 1, 2 가 물을 준 뒤 2 가 탈퇴하고 4 가 가입 (인원은 3명 그대로)
+        tracker.recordWater(FID, 1L, new long[]{1L, 2L, 3L});
+        pointDao.water(today, FID, 1L);
+        tracker.recordWater(FID, 2L, new long[]{1L, 2L, 3L});
+        pointDao.water(today, FID, 2L);
+
+        long[] changed = {1L, 3L, 4L};
+        // 탈퇴한 2 의 비트가 4 의 슬롯으로 남으면 3 이 물을 줄 때 잘못 지급된다
+        pointDao.water(today, FID, 3L);
+        assertThat(tracker.recordWater(FID, 3L, changed)).isFalse();
+        assertThat(tracker.recordWater(FID, 4L, changed)).isTrue();
+    }
+
+    @Test
+    void nonAuthoritativeModeCountsInDatabase() {
+        FamilyWateringTracker counting = tracker(false);
+        LocalDate today = LocalDate.now();
+        pointDao.water(today, FID, 1L);
+
+        assertThat(counting.recordWater(FID, 2L, new long[]{1L, 2L})).isFalse();
+        // 같은 트랜잭션에서 저장한 이번 물주기까지 세어지면 지급
+        pointDao.water(today, FID, 2L);
+        assertThat(counting.recordWater(FID, 2L, new long[]{1L, 2L})).isTrue();
+    }
+
+    private FamilyWateringTracker tracker(boolean authoritative) {
+        FamilyWateringTracker tracker = new FamilyWateringTracker(pointDao);
+        ReflectionTestUtils.setField(tracker, "authoritative", authoritative);
+        return tracker;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.demo.plant.service;
+
+import ch.vorburger.mariadb4j.DB;
+import com.example.demo.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.demo.plant.exception.PlantExceptions.NutrientStockNotFoundException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 가족의 영양제를 여러 스레드가 동시에 사용할 때 재고만큼만 성공하는지 확인
+ * 실제 매퍼의 조건부 UPDATE (WHERE nutrial > 0) 를 임베디드 MariaDB 에 실행한다
+ *
+ * 실행: ./gradlew mariadbTest
+ */
+@Tag("mariadb")
+@MybatisTest
+@ActiveProfiles("local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 요청마다 따로 커밋해야 경합이 재현된다
+@Import(NutrientService.class)
+class NutrientServiceContentionTest {
+
+    private static final String DB_NAME = "nutrient_contention";
+    private static final int THREADS = 16;
+
+    private static DB db;
+
+    @Autowired
+    private NutrientService nutrientService;
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) throws Exception {
+        db = EmbeddedMariaDb.start(DB_NAME);
+        EmbeddedMariaDb.register(registry, db, DB_NAME);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        if (db != null) {
+            db.stop();
+        }
+    }
+
+    @Test
+    void concurrentUsesNeverExceedStock() throws Exception {
+        int initialStock = 50;
+        int attemptsPerThread = 20;
+
+        long fid = createFamily(initialStock);
+        List<Long> members = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            members.add(createUser(fid));
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long uid : members) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        try {
+                            nutrientService.useNutrient(uid);
+                            succeeded.incrementAndGet();
+                        } catch (NutrientStockNotFoundException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(succeeded.get()).isEqualTo(initialStock);
+        assertThat(rejected.get()).isEqualTo(THREADS * attemptsPerThread - initialStock);
+        assertThat(nutrientService.getNutrientStockByUid(members.get(0))).isZero();
+    }
+
+    @Test
+    void reportsMissingFamilySeparatelyFromEmptyStock() {
+        long uid = createUser(createFamily(0));
+        long noFamilyUid = new SimpleJdbcInsert(dataSource).withTableName("Users")
+                .usingColumns("name").usingGeneratedKeyColumns("uid")
+                .executeAndReturnKey(Map.of("name", "no-family")).longValue();
+
+        assertThatThrownBy(() -> nutrientService.useNutrient(noFamilyUid))
+                .isInstanceOf(NutrientStockNotFoundException.class)
+                .hasMessageContaining("가족 정보");
+        assertThatThrownBy(() -> nutrientService.useNutrient(uid))
+                .isInstanceOf(NutrientStockNotFoundException.class)
+                .hasMessageContaining("영양제가 없습니다");
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "SELECT MIN(nutrial) FROM Family_space", Integer.class)).isNotNegative();
+    }
+
+    private long createFamily(int nutrients) {
+        return new SimpleJdbcInsert(dataSource).withTableName("Family_space")
+                .usingColumns("name", "nutrial").usingGeneratedKeyColumns("fid")
+                .executeAndReturnKey(Map.of("name", "family", "nutrial", nutrients)).longValue();
+    }
+
+    private long createUser(long fid) {
+        return new SimpleJdbcInsert(dataSource).withTableName("Users")
+                .usingColumns("name", "fid").usingGeneratedKeyColumns("uid")
+                .executeAndReturnKey(Map.of("name", "member", "fid", fid)).longValue();
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.demo.plant.service;
+
+import ch.vorburger.mariadb4j.DB;
+import com.example.demo.leaderboard.dto.LeaderboardResponse;
+import com.example.demo.leaderboard.service.LeaderboardService;
+import com.example.demo.login.service.AuthenticationService;
+import com.example.demo.plant.dto.PlantStatusResponseDto;
+import com.example.demo.plant.websocket.InMemoryPlantEventBroker;
+import com.example.demo.plant.websocket.PlantEventBroadcaster;
+import com.example.demo.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.demo.plant.exception.PlantExceptions.NutrientStockNotFoundException;
+import static com.example.demo.plant.exception.PlantExceptions.PointAlreadyAddedException;
+import static com.example.demo.plant.exception.PlantExceptions.RewardAlreadyClaimedException;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 식물 / 포인트 경로 동시성 부하 테스트 (임베디드 MariaDB - 운영과 같은 행 잠금 / ON DUPLICATE KEY 동작)
+ * - 가족 구성원들이 같은 순간 모든 활동을 중복 탭까지 포함해 적립하고 (영양제 사용 포함), 보상을 동시에 수령한다
+ * - 끝난 뒤 DB 상태로 불변식을 확인한다
+ *   경험치 유실 없음 (이벤트 재생 = Plants), 활동 1일 1회, 영양제 음수 없음, 물주기 영양제는 하루 1회, 보상은 식물당 사용자 1회
+ * - 처리량과 p50 / p99 지연을 출력해 최적화 전후 비교에 쓴다
+ * 교착 / 잠금 대기 초과로 롤백된 요청 (lock-failure) 도 불변식 위반으로 본다 - 구성원 동시 적립 / 수령이 모두 성공해야 한다
+ *
+ * 실행: ./gradlew stress (-Dstress.threads=32 -Dstress.families=150)
+ */
+@Tag("stress")
+@MybatisTest
+@ActiveProfiles("local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스가 직접 커밋해야 동시성이 재현된다
+@Import({PointService.class, PlantService.class, NutrientService.class, DailyActivityIndex.class,
+        FamilyWateringTracker.class, PlantStatusCache.class, PointStatsService.class, LeaderboardService.class,
+        PlantLedgerService.class, PlantRuleService.class, AuthenticationService.class, PlantEventBroadcaster.class,
+        InMemoryPlantEventBroker.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class PlantHotPathStressTest {
+
+    private static final int THREADS = Integer.getInteger("stress.threads", 32);
+    private static final int FAMILIES = Integer.getInteger("stress.families", 150);
+    // 같은 활동 / 보상을 사용자마다 여러 번 (중복 탭)
+    private static final int ATTEMPTS = 2;
+    private static final int INITIAL_NUTRIENTS = 1;
+    private static final List<String> ACTIVITIES =
+            List.of("attendance", "water", "nutrient", "emotion", "quiz", "lastleaf", "register", "survey");
+
+    private static final String DB_NAME = "plant_stress";
+
+    private static DB db;
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PointService pointService;
+    @Autowired
+    private PlantService plantService;
+    @Autowired
+    private PlantLedgerService plantLedgerService;
+    @Autowired
+    private PlantRuleService plantRuleService;
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    private record Family(long fid, long pid, List<Long> members) {
+    }
+
+    private record Report(Map<String, Long> outcomes, List<Throwable> unexpected) {
+        long count(String outcome) {
+            return outcomes.getOrDefault(outcome, 0L);
+        }
+    }
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) throws Exception {
+        db = EmbeddedMariaDb.start(DB_NAME);
+        EmbeddedMariaDb.register(registry, db, DB_NAME);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS);
+        registry.add("leaderboard.snapshot.enabled", () -> false);
+        registry.add("plant.rules.reload-seconds", () -> 0);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        if (db != null) {
+            db.stop();
+        }
+    }
+
+    @Test
+    void concurrentAccrualKeepsInvariants() throws Exception {
+        Random random = new Random(42);
+        List<Family> families = createFamilies(FAMILIES, 1, random);
+
+        List<Callable<Void>> calls = new ArrayList<>();
+        for (Family family : families) {
+            for (Long uid : family.members()) {
+                for (String type : ACTIVITIES) {
+                    for (int i = 0; i < ATTEMPTS; i++) {
+                        calls.add(() -> {
+                            pointService.addPoint(uid, type);
+                            return null;
+                        });
+                    }
+                }
+            }
+        }
+        Collections.shuffle(calls, random);
+        Report report = run("addPoint", calls);
+        assertThat(report.unexpected()).isEmpty();
+        assertThat(report.count("lock-failure")).as("교착 / 잠금 대기 초과").isZero();
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        // 활동 1일 1회
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM Point_activities "
+                + "GROUP BY uid, activity_type, activity_date HAVING COUNT(*) > 1) d", Long.class)).isZero();
+
+        PlantRules rules = plantRuleService.current();
+        long rows = 0;
+        for (Family family : families) {
+            rows += assertFamily(jdbc, family, rules);
+        }
+        // 성공한 적립마다 정확히 한 행
+        assertThat(rows).isEqualTo(report.count("ok"));
+    }
+
+    // 가족 하나의 불변식 확인 후 활동 행 수 반환
+    private long assertFamily(JdbcTemplate jdbc, Family family, PlantRules rules) {
+        // 경험치 유실 없음: plant_version 이 1..n 으로 빠짐없이 이어지고, 순서대로 재생한 결과가 Plants 와 같다
+        List<int[]> events = jdbc.query("SELECT plant_version, points_earned, member_count FROM Point_activities "
+                        + "WHERE pid = ? ORDER BY plant_version",
+                (rs, i) -> new int[]{rs.getInt(1), rs.getInt(2), rs.getInt(3)}, family.pid());
+        PlantProgression.State replayed = PlantProgression.State.INITIAL;
+        for (int i = 0; i < events.size(); i++) {
+            int[] event = events.get(i);
+            assertThat(event[0]).as("plant_version pid=%d", family.pid()).isEqualTo(i + 1);
+            replayed = replayed.apply(event[1], event[2], rules);
+        }
+        Map<String, Object> plant = jdbc.queryForMap(
+                "SELECT level, experience_point, version FROM Plants WHERE pid = ?", family.pid());
+        PlantProgression.State stored = new PlantProgression.State(
+                ((Number) plant.get("level")).intValue(), ((Number) plant.get("experience_point")).intValue());
+        assertThat(stored).as("pid=%d", family.pid()).isEqualTo(replayed);
+        assertThat(((Number) plant.get("version")).longValue()).isEqualTo(events.size());
+        assertThat(plantLedgerService.replay(family.pid())).isEqualTo(replayed);
+
+        // 캐시된 식물 상태도 DB 와 같다
+        PlantStatusResponseDto status = plantService.getLatestPlant(family.fid());
+        assertThat(new PlantProgression.State(status.getLevel(), status.getExperiencePoint())).isEqualTo(replayed);
+
+        // 영양제: 음수 없음, 물주기 보상은 가족 전원이 물을 준 날 1개, 사용한 만큼만 차감
+        int nutrients = jdbc.queryForObject("SELECT nutrial FROM Family_space WHERE fid = ?", Integer.class, family.fid());
+        int watered = jdbc.queryForObject("SELECT COUNT(DISTINCT uid) FROM Point_activities "
+                + "WHERE fid = ? AND activity_type = 'water'", Integer.class, family.fid());
+        int consumed = jdbc.queryForObject("SELECT COUNT(*) FROM Point_activities "
+                + "WHERE fid = ? AND activity_type = 'nutrient'", Integer.class, family.fid());
+        int granted = watered == family.members().size() ? 1 : 0;
+        assertThat(nutrients).isNotNegative();
+        assertThat(nutrients).as("fid=%d", family.fid()).isEqualTo(INITIAL_NUTRIENTS + granted - consumed);
+
+        // 집계 / 순위판이 원본 활동과 같다
+        long points = jdbc.queryForObject("SELECT COALESCE(SUM(points_earned), 0) FROM Point_activities WHERE fid = ?",
+                Long.class, family.fid());
+        long rolledUp = jdbc.queryForObject("SELECT COALESCE(SUM(points), 0) FROM point_rollup "
+                + "WHERE scope = 'F' AND scope_id = ? AND period = 'D'", Long.class, family.fid());
+        assertThat(rolledUp).isEqualTo(points);
+        LeaderboardResponse.Entry ranked = leaderboardService.families(family.members().get(0), 1).getMe();
+        assertThat(ranked == null ? 0 : ranked.getScore()).isEqualTo(points);
+
+        return events.size();
+    }
+
+    @Test
+    void concurrentRewardClaimsGrantOncePerUser() throws Exception {
+        Random random = new Random(7);
+        List<Family> families = createFamilies(Math.max(1, FAMILIES / 3), PlantProgression.MAX_LEVEL, random);
+
+        List<Callable<Void>> calls = new ArrayList<>();
+        for (Family family : families) {
+            for (Long uid : family.members()) {
+                for (int i = 0; i < ATTEMPTS + 1; i++) {
+                    calls.add(() -> {
+                        plantService.claimReward(uid);
+                        return null;
+                    });
+                }
+            }
+        }
+        Collections.shuffle(calls, random);
+        Report report = run("claimReward", calls);
+        assertThat(report.unexpected()).isEmpty();
+        assertThat(report.count("lock-failure")).as("교착 / 잠금 대기 초과").isZero();
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long rows = 0;
+        for (Family family : families) {
+            List<Long> perUser = jdbc.queryForList(
+                    "SELECT COUNT(*) FROM reward_log WHERE pid = ? GROUP BY uid", Long.class, family.pid());
+            assertThat(perUser).as("pid=%d", family.pid()).allMatch(count -> count == 1);
+            assertThat(perUser).as("pid=%d", family.pid()).hasSize(family.members().size());
+            assertThat(jdbc.queryForObject("SELECT is_completed FROM Plants WHERE pid = ?", Boolean.class,
+                    family.pid())).isEqualTo(!perUser.isEmpty());
+            rows += perUser.size();
+        }
+        assertThat(rows).isEqualTo(report.count("ok"));
+    }
+
+    // 가족마다 구성원 2~5명, 식물 1개 (주어진 레벨)
+    private List<Family> createFamilies(int count, int level, Random random) {
+        SimpleJdbcInsert familyInsert = new SimpleJdbcInsert(dataSource).withTableName("Family_space")
+                .usingColumns("name", "nutrial").usingGeneratedKeyColumns("fid");
+        SimpleJdbcInsert userInsert = new SimpleJdbcInsert(dataSource).withTableName("Users")
+                .usingColumns("name", "fid").usingGeneratedKeyColumns("uid");
+        SimpleJdbcInsert plantInsert = new SimpleJdbcInsert(dataSource).withTableName("Plants")
+                .usingColumns("fid", "kid", "level", "experience_point").usingGeneratedKeyColumns("pid");
+
+        List<Family> families = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long fid = familyInsert.executeAndReturnKey(
+                    Map.of("name", "family-" + i, "nutrial", INITIAL_NUTRIENTS)).longValue();
+            int size = PlantRules.MIN_MEMBERS + random.nextInt(PlantRules.MAX_MEMBERS - PlantRules.MIN_MEMBERS + 1);
+            List<Long> members = new ArrayList<>(size);
+            for (int m = 0; m < size; m++) {
+                members.add(userInsert.executeAndReturnKey(Map.of("name", "member-" + m, "fid", fid)).longValue());
+            }
+            long pid = plantInsert.executeAndReturnKey(
+                    Map.of("fid", fid, "kid", 1, "level", level, "experience_point", 0)).longValue();
+            families.add(new Family(fid, pid, members));
+        }
+        return families;
+    }
+
+    // 모든 호출을 THREADS 개 스레드로 동시에 실행하고 결과별 건수 / 지연 출력
+    private Report run(String name, List<Callable<Void>> calls) throws InterruptedException {
+        long[] latencies = new long[calls.size()];
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            pool.submit(() -> {
+                start.await();
+                int i;
+                while ((i = next.getAndIncrement()) < calls.size()) {
+                    long begin = System.nanoTime();
+                    String outcome;
+                    try {
+                        calls.get(i).call();
+                        outcome = "ok";
+                    } catch (PessimisticLockingFailureException e) {
+                        outcome = "lock-failure"; // 교착 / 잠금 대기 초과로 롤백 (건수 출력 후 실패 처리)
+                    } catch (PointAlreadyAddedException | RewardAlreadyClaimedException
+                             | NutrientStockNotFoundException e) {
+                        outcome = e.getClass().getSimpleName();
+                    } catch (Exception e) {
+                        outcome = "unexpected";
+                        unexpected.add(e);
+                    }
+                    latencies[i] = System.nanoTime() - begin;
+                    outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+                }
+                return null;
+            });
+        }
+        long began = System.nanoTime();
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - began) / 1_000_000_000.0;
+
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((k, v) -> counts.put(k, v.sum()));
+        System.out.printf("[stress] %s: %,d calls / %d threads, %,.0f calls/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms, %s%n",
+                name, calls.size(), THREADS, calls.size() / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1_000_000.0, counts);
+        unexpected.stream().limit(3).forEach(Throwable::printStackTrace);
+        return new Report(counts, unexpected);
+    }
+
+    private static double percentile(long[] sorted, double q) {
+        int index = Math.max(0, (int) Math.ceil(q * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+}
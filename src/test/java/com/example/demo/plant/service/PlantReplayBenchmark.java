@@ -0,0 +1,86 @@
+package com.example.demo.plant.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 식물 성장 이벤트 재생 속도 측정 (DB 없이 PlantReplayer / PlantProgression 만)
+ * - 전체 재생: 식물 5만 개 × 이벤트 100개를 한 번 스트리밍 (rebuildAll 의 계산 부분)
+ * - 스냅샷 + 이후 이벤트: 50개마다 남긴 스냅샷에서 나머지만 적용 (replay 의 계산 부분)
+ * 두 방식의 결과가 모든 식물에서 같은지도 확인한다
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class PlantReplayBenchmark {
+
+    private static final int PLANTS = 50_000;
+    private static final int EVENTS_PER_PLANT = 100;
+    private static final int SNAPSHOT_EVERY = 50;
+
+    @Test
+    void fullReplayVersusSnapshotAndTail() {
+        PlantProgression.State[] full = new PlantProgression.State[PLANTS];
+        fullReplay(full); // 워밍업
+        long start = System.nanoTime();
+        long events = fullReplay(full);
+        double fullMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        // 마지막 스냅샷 (version = 50 의 배수) 을 미리 만들어 두고, 그 이후 이벤트만 적용
+        PlantProgression.State[] snapshots = new PlantProgression.State[PLANTS];
+        int snapshotVersion = (EVENTS_PER_PLANT - 1) / SNAPSHOT_EVERY * SNAPSHOT_EVERY;
+        for (int p = 0; p < PLANTS; p++) {
+            snapshots[p] = fold(p, PlantProgression.State.INITIAL, 1, snapshotVersion);
+        }
+        PlantProgression.State[] tail = new PlantProgression.State[PLANTS];
+        start = System.nanoTime();
+        for (int p = 0; p < PLANTS; p++) {
+            tail[p] = fold(p, snapshots[p], snapshotVersion + 1, EVENTS_PER_PLANT);
+        }
+        double tailMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        for (int p = 0; p < PLANTS; p++) {
+            assertEquals(full[p], tail[p], "pid=" + p);
+        }
+        assertEquals((long) PLANTS * EVENTS_PER_PLANT, events);
+
+        System.out.printf("[benchmark] 전체 재생: 이벤트 %,d건 %.0f ms (%,.0f events/s), 스냅샷 + 이후 %d건: %.0f ms%n",
+                events, fullMillis, events / (fullMillis / 1000), EVENTS_PER_PLANT - snapshotVersion, tailMillis);
+    }
+
+    private long fullReplay(PlantProgression.State[] out) {
+        long[] total = new long[1];
+        PlantReplayer<Void> replayer = new PlantReplayer<>(PlantRules.DEFAULTS, result -> {
+            out[(int) result.pid()] = result.state();
+            total[0] += result.events();
+            assertEquals(EVENTS_PER_PLANT, result.lastVersion());
+        });
+        for (int p = 0; p < PLANTS; p++) {
+            for (int v = 1; v <= EVENTS_PER_PLANT; v++) {
+                replayer.accept(p, null, (long) v, points(p, v), memberCount(p));
+            }
+        }
+        replayer.finish();
+        return total[0];
+    }
+
+    private static PlantProgression.State fold(int pid, PlantProgression.State base, int fromVersion, int toVersion) {
+        PlantProgression.State state = base;
+        for (int v = fromVersion; v <= toVersion; v++) {
+            state = state.apply(points(pid, v), memberCount(pid), PlantRules.DEFAULTS);
+        }
+        return state;
+    }
+
+    // 식물 / 이벤트 번호로 정해지는 5~30 포인트 (어느 방식으로 재생해도 같은 값)
+    private static int points(int pid, int version) {
+        int h = (pid * 31 + version) * 0x9E3779B1;
+        return 5 + ((h >>> 16) % 26);
+    }
+
+    private static int memberCount(int pid) {
+        return 2 + pid % 4;
+    }
+}
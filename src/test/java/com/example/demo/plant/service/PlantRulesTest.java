@@ -0,0 +1,56 @@
+package com.example.demo.plant.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 컴파일된 식물 규칙 테스트 - 기본값 조회, 잘못된 규칙 거부, 보상 추첨 비율
+ */
+class PlantRulesTest {
+
+    @Test
+    void defaultsMatchPreviousTables() {
+        PlantRules rules = PlantRules.DEFAULTS;
+        assertThat(rules.points("water")).isEqualTo(5);
+        assertThat(rules.points("quiz")).isEqualTo(10);
+        assertThat(rules.points("unknown")).isZero();
+        assertThat(rules.threshold(2, 1)).isEqualTo(150);
+        assertThat(rules.threshold(5, 4)).isEqualTo(450);
+        assertThat(rules.threshold(3, PlantProgression.MAX_LEVEL)).isZero();
+        assertThatThrownBy(() -> rules.threshold(6, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> rules.threshold(1, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsIncompleteRules() {
+        int[][] missingLevel = {{150, 200, 250}, {200, 250, 300, 350}, {250, 300, 350, 400}, {300, 350, 400, 450}};
+        assertThatThrownBy(() -> PlantRules.compile(PlantRules.DEFAULT_POINTS, missingLevel, Map.of(1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PlantRules.compile(PlantRules.DEFAULT_POINTS, PlantRules.DEFAULT_THRESHOLDS, Map.of(1, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(PlantRules.compile(PlantRules.DEFAULT_POINTS, PlantRules.DEFAULT_THRESHOLDS,
+                PlantRules.DEFAULT_REWARD_WEIGHTS).sameAs(PlantRules.DEFAULTS)).isTrue();
+    }
+
+    @Test
+    void drawsRewardsInProportionToWeight() {
+        PlantRules rules = PlantRules.compile(PlantRules.DEFAULT_POINTS, PlantRules.DEFAULT_THRESHOLDS,
+                Map.of(1, 1, 2, 3, 3, 6, 4, 0));
+        SplittableRandom random = new SplittableRandom(7);
+        int draws = 200_000;
+        int[] counts = new int[5];
+        for (int i = 0; i < draws; i++) {
+            counts[rules.drawReward(random)]++;
+        }
+        assertThat(counts[4]).isZero();
+        assertThat(counts[1] / (double) draws).isCloseTo(0.1, within(0.01));
+        assertThat(counts[2] / (double) draws).isCloseTo(0.3, within(0.01));
+        assertThat(counts[3] / (double) draws).isCloseTo(0.6, within(0.01));
+    }
+}
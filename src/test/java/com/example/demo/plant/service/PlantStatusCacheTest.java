@@ -0,0 +1,121 @@
+package com.example.demo.plant.service;
+
+import com.example.demo.plant.dto.PlantStatusResponseDto;
+import com.example.demo.plant.dto.PlantStatusSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 식물 상태 캐시 순서 테스트 - (pid, version) 비교와 조회 시작 표식(stamp)으로 오래된 상태가 덮어쓰지 않는지
+ */
+class PlantStatusCacheTest {
+
+    private static final Long FID = 1L;
+
+    private final PlantStatusCache cache = cache(300);
+
+    @Test
+    void progressAppliesOnlyNewerVersions() {
+        load(cache, 10L, 3, 2, 40);
+
+        cache.progressed(FID, 10L, 5, 2, 60, 250);
+        // 늦게 도착한 이전 적립
+        cache.progressed(FID, 10L, 4, 2, 50, 250);
+
+        assertThat(cache.get(FID).getExperiencePoint()).isEqualTo(60);
+    }
+
+    @Test
+    void staleLoadDoesNotOverwriteNewerState() {
+        load(cache, 10L, 3, 2, 40);
+        cache.progressed(FID, 10L, 4, 2, 50, 250);
+
+        // 적립 전에 시작된 조회 결과가 나중에 도착
+        PlantStatusResponseDto response = load(cache, 10L, 3, 2, 40);
+
+        assertThat(response.getExperiencePoint()).isEqualTo(40); // 조회한 요청에는 읽은 값 그대로
+        assertThat(cache.get(FID).getExperiencePoint()).isEqualTo(50);
+    }
+
+    @Test
+    void writeToUncachedFamilyRejectsLoadsStartedBeforeIt() {
+        long before = cache.beginLoad();
+        // 캐시에 없는 가족의 적립 → 무효화 표식
+        cache.progressed(FID, 10L, 4, 2, 50, 250);
+
+        cache.load(FID, before, snapshot(10L, 3, 2, 40), 250);
+        assertThat(cache.get(FID)).isNull();
+
+        // 표식 이후에 시작된 조회는 받는다
+        load(cache, 10L, 4, 2, 50);
+        assertThat(cache.get(FID).getExperiencePoint()).isEqualTo(50);
+    }
+
+    @Test
+    void evictRejectsInFlightLoad() {
+        long ticket = cache.beginLoad();
+        cache.evict(FID);
+
+        cache.load(FID, ticket, snapshot(10L, 3, 2, 40), 250);
+
+        assertThat(cache.get(FID)).isNull();
+    }
+
+    @Test
+    void newPlantSupersedesPreviousPlant() {
+        load(cache, 10L, 9, 5, 0);
+        cache.created(FID, 11L, 200, "tree");
+        // 이전 식물의 조회 결과는 새 식물을 덮어쓰지 않는다
+        load(cache, 10L, 9, 5, 0);
+
+        PlantStatusResponseDto cached = cache.get(FID);
+        assertThat(cached.getLevel()).isEqualTo(1);
+        assertThat(cached.getPlantType()).isEqualTo("tree");
+    }
+
+    @Test
+    void completionSurvivesStaleLoadOfSameVersion() {
+        load(cache, 10L, 9, 5, 0);
+        cache.completed(FID, 10L);
+
+        load(cache, 10L, 9, 5, 0);
+
+        assertThat(cache.get(FID).isCompleted()).isTrue();
+    }
+
+    @Test
+    void expiredStateIsNotServedAndIsReplacedByLoad() {
+        PlantStatusCache expiring = cache(-1);
+        load(expiring, 10L, 5, 2, 40);
+        assertThat(expiring.get(FID)).isNull();
+
+        // 만료된 상태는 버전이 더 높아도 새 조회로 교체
+        expiring.progressed(FID, 10L, 6, 2, 50, 250);
+        load(expiring, 10L, 5, 2, 40);
+        ReflectionTestUtils.setField(expiring, "ttlSeconds", 300L);
+        assertThat(expiring.get(FID).getExperiencePoint()).isEqualTo(40);
+    }
+
+    private static PlantStatusResponseDto load(PlantStatusCache cache, Long pid, long version, int level, int exp) {
+        return cache.load(FID, cache.beginLoad(), snapshot(pid, version, level, exp), 250);
+    }
+
+    private static PlantStatusSnapshot snapshot(Long pid, long version, int level, int exp) {
+        PlantStatusSnapshot snapshot = new PlantStatusSnapshot();
+        snapshot.setPid(pid);
+        snapshot.setVersion(version);
+        snapshot.setLevel(level);
+        snapshot.setExperiencePoint(exp);
+        snapshot.setPlantType("flower");
+        snapshot.setMemberCount(2);
+        return snapshot;
+    }
+
+    private static PlantStatusCache cache(long ttlSeconds) {
+        PlantStatusCache cache = new PlantStatusCache();
+        ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+        return cache;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.plant.service;
+
+import ch.vorburger.mariadb4j.DB;
+import com.example.demo.family.dao.FamilyDao;
+import com.example.demo.plant.dao.PlantLedgerDao;
+import com.example.demo.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원본 포인트 활동 보관 작업 테스트 (임베디드 MariaDB)
+ * - 보관 기간이 지난 날짜만 보관 테이블로 옮기고, 옮긴 행도 식물 이벤트 재생에 그대로 쓰인다
+ * - 가족 삭제 시 보관된 행도 함께 삭제된다
+ *
+ * 실행: ./gradlew mariadbTest
+ */
+@Tag("mariadb")
+@MybatisTest(properties = {"point.compaction.enabled=false", "point.compaction.retain-days=3"})
+@ActiveProfiles("local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 작업이 날짜마다 직접 커밋한다
+@Import(PointActivityCompactor.class)
+class PointActivityCompactorTest {
+
+    private static final String DB_NAME = "point_compaction";
+
+    private static DB db;
+
+    @Autowired
+    private PointActivityCompactor compactor;
+    @Autowired
+    private PlantLedgerDao plantLedgerDao;
+    @Autowired
+    private FamilyDao familyDao;
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) throws Exception {
+        db = EmbeddedMariaDb.start(DB_NAME);
+        EmbeddedMariaDb.register(registry, db, DB_NAME);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        if (db != null) {
+            db.stop();
+        }
+    }
+
+    @Test
+    void movesDaysOlderThanRetentionAndKeepsEventsReplayable() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long fid = new SimpleJdbcInsert(dataSource).withTableName("Family_space")
+                .usingColumns("name").usingGeneratedKeyColumns("fid")
+                .executeAndReturnKey(Map.of("name", "family")).longValue();
+        long pid = new SimpleJdbcInsert(dataSource).withTableName("Plants")
+                .usingColumns("fid", "kid").usingGeneratedKeyColumns("pid")
+                .executeAndReturnKey(Map.of("fid", fid, "kid", 1)).longValue();
+        LocalDate today = LocalDate.now();
+        // 보관 기간 3일: 오늘, 어제, 그제는 남기고 그 이전은 옮긴다
+        insertActivity(fid, pid, 1, "water", today.minusDays(10));
+        insertActivity(fid, pid, 2, "quiz", today.minusDays(10));
+        insertActivity(fid, pid, 3, "water", today.minusDays(3));
+        insertActivity(fid, pid, 4, "water", today.minusDays(2));
+        insertActivity(fid, pid, 5, "water", today);
+
+        assertThat(compactor.compact()).isEqualTo(3);
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM Point_activities WHERE pid = ?", Integer.class, pid))
+                .isEqualTo(2);
+        Map<String, Object> archived = jdbc.queryForMap("SELECT uid, fid, pid, activity_type, points_earned, "
+                + "activity_date, description, plant_version, member_count FROM Point_activities_archive "
+                + "WHERE pid = ? AND plant_version = 3", pid);
+        assertThat(((Number) archived.get("uid")).longValue()).isEqualTo(7L);
+        assertThat(((Number) archived.get("fid")).longValue()).isEqualTo(fid);
+        assertThat(archived.get("activity_type")).isEqualTo("water");
+        assertThat(((Number) archived.get("points_earned")).intValue()).isEqualTo(5);
+        assertThat(archived.get("activity_date").toString()).isEqualTo(today.minusDays(3).toString());
+        assertThat(archived.get("description")).isEqualTo("water 활동");
+        assertThat(((Number) archived.get("member_count")).intValue()).isEqualTo(2);
+
+        // 이미 옮긴 날짜는 다시 옮기지 않는다
+        assertThat(compactor.compact()).isZero();
+        // 원본 + 보관 합쳐서 이벤트 5개 그대로
+        assertThat(plantLedgerDao.selectEventsAfter(pid, 0)).hasSize(5);
+
+        // 가족 삭제 시 보관된 행도 삭제
+        familyDao.deletePointActivitiesByFid(fid);
+        assertThat(familyDao.deletePointActivitiesArchiveByFid(fid)).isEqualTo(3);
+        assertThat(plantLedgerDao.selectEventsAfter(pid, 0)).isEmpty();
+    }
+
+    private void insertActivity(long fid, long pid, long version, String type, LocalDate date) {
+        new SimpleJdbcInsert(dataSource).withTableName("Point_activities")
+                .usingColumns("uid", "fid", "pid", "activity_type", "points_earned", "activity_date", "description",
+                        "created_at", "plant_version", "member_count")
+                .execute(Map.of("uid", 7L, "fid", fid, "pid", pid, "activity_type", type, "points_earned", 5,
+                        "activity_date", date, "description", type + " 활동", "created_at", date.atStartOfDay(),
+                        "plant_version", version, "member_count", 2));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.plant.service;
+
+import ch.vorburger.mariadb4j.DB;
+import com.example.demo.plant.dto.PointStatsResponse;
+import com.example.demo.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static com.example.demo.plant.exception.PlantExceptions.InvalidStatsRequestException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 포인트 통계 테스트 (임베디드 MariaDB) - 일/주 집계 누적, 기간별 묶음, 기본 기간, 요청 검증
+ * 테스트마다 롤백되므로 가족 / 사용자를 새로 만든다
+ *
+ * 실행: ./gradlew mariadbTest
+ */
+@Tag("mariadb")
+@MybatisTest
+@ActiveProfiles("local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PointStatsService.class)
+class PointStatsServiceTest {
+
+    private static final String DB_NAME = "point_stats";
+    // 수요일
+    private static final LocalDate WED = LocalDate.of(2026, 10, 14);
+
+    private static DB db;
+
+    @Autowired
+    private PointStatsService pointStatsService;
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void embeddedDatabase(DynamicPropertyRegistry registry) throws Exception {
+        db = EmbeddedMariaDb.start(DB_NAME);
+        EmbeddedMariaDb.register(registry, db, DB_NAME);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        if (db != null) {
+            db.stop();
+        }
+    }
+
+    @Test
+    void dailyStatsGroupRowsByDayAndType() {
+        long fid = createFamily();
+        long uid = createUser(fid);
+        long other = createUser(fid);
+        pointStatsService.accumulate(uid, fid, "water", 5, WED);
+        pointStatsService.accumulate(other, fid, "water", 5, WED);
+        pointStatsService.accumulate(uid, fid, "quiz", 10, WED);
+        pointStatsService.accumulate(uid, fid, "quiz", 10, WED.plusDays(2));
+
+        PointStatsResponse family = pointStatsService.getStats(uid, "family", "daily", WED, WED.plusDays(2));
+        assertThat(family.getTotalPoints()).isEqualTo(30);
+        assertThat(family.getTotalActivities()).isEqualTo(4);
+        // 활동이 있는 날만, 날짜 순
+        assertThat(family.getBuckets()).extracting(PointStatsResponse.Bucket::getPeriodStart)
+                .containsExactly(WED, WED.plusDays(2));
+        PointStatsResponse.Bucket first = family.getBuckets().get(0);
+        assertThat(first.getPoints()).isEqualTo(20);
+        assertThat(first.getPointsByType()).containsExactlyInAnyOrderEntriesOf(Map.of("water", 10, "quiz", 10));
+        assertThat(first.getCountByType()).containsExactlyInAnyOrderEntriesOf(Map.of("water", 2, "quiz", 1));
+
+        PointStatsResponse user = pointStatsService.getStats(other, "user", "daily", WED, WED.plusDays(2));
+        assertThat(user.getTotalPoints()).isEqualTo(5);
+        assertThat(user.getBuckets()).hasSize(1);
+    }
+
+    @Test
+    void weeklyStatsStartOnMonday() {
+        long fid = createFamily();
+        long uid = createUser(fid);
+        LocalDate monday = WED.with(DayOfWeek.MONDAY);
+        pointStatsService.accumulate(uid, fid, "water", 5, monday);
+        pointStatsService.accumulate(uid, fid, "water", 5, WED.plusDays(4)); // 일요일 - 같은 주
+        pointStatsService.accumulate(uid, fid, "water", 5, WED.plusDays(5)); // 다음 주 월요일
+
+        // 시작일은 그 주 월요일로 맞춘다
+        PointStatsResponse stats = pointStatsService.getStats(uid, "user", "weekly", WED, WED.plusDays(5));
+
+        assertThat(stats.getFrom()).isEqualTo(monday);
+        assertThat(stats.getBuckets()).extracting(PointStatsResponse.Bucket::getPeriodStart)
+                .containsExactly(monday, monday.plusWeeks(1));
+        assertThat(stats.getBuckets()).extracting(PointStatsResponse.Bucket::getPoints).containsExactly(10, 5);
+    }
+
+    @Test
+    void defaultRangesAreLastSevenDaysAndLastFourWeeks() {
+        long uid = createUser(createFamily());
+        LocalDate today = LocalDate.now();
+
+        PointStatsResponse daily = pointStatsService.getStats(uid, "user", "daily", null, null);
+        assertThat(daily.getFrom()).isEqualTo(today.minusDays(6));
+        assertThat(daily.getTo()).isEqualTo(today);
+
+        PointStatsResponse weekly = pointStatsService.getStats(uid, "user", "weekly", null, null);
+        assertThat(weekly.getFrom()).isEqualTo(today.with(DayOfWeek.MONDAY).minusWeeks(3));
+        assertThat(weekly.getTo()).isEqualTo(today);
+        assertThat(weekly.getBuckets()).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidRequests() {
+        long uid = createUser(createFamily());
+        long noFamily = createUser(null);
+
+        assertThatThrownBy(() -> pointStatsService.getStats(uid, "team", "daily", null, null))
+                .isInstanceOf(InvalidStatsRequestException.class);
+        assertThatThrownBy(() -> pointStatsService.getStats(uid, "user", "monthly", null, null))
+                .isInstanceOf(InvalidStatsRequestException.class);
+        assertThatThrownBy(() -> pointStatsService.getStats(uid, "user", "daily", WED, WED.minusDays(1)))
+                .isInstanceOf(InvalidStatsRequestException.class);
+        assertThatThrownBy(() -> pointStatsService.getStats(uid, "user", "daily", WED.minusDays(366), WED))
+                .isInstanceOf(InvalidStatsRequestException.class);
+        assertThatThrownBy(() -> pointStatsService.getStats(noFamily, "family", "daily", null, null))
+                .isInstanceOf(InvalidStatsRequestException.class);
+    }
+
+    private long createFamily() {
+        return new SimpleJdbcInsert(dataSource).withTableName("Family_space")
+                .usingColumns("name").usingGeneratedKeyColumns("fid")
+                .executeAndReturnKey(Map.of("name", "family")).longValue();
+    }
+
+    private long createUser(Long fid) {
+        SimpleJdbcInsert insert = new SimpleJdbcInsert(dataSource).withTableName("Users").usingGeneratedKeyColumns("uid");
+        return fid == null
+                ? insert.usingColumns("name").executeAndReturnKey(Map.of("name", "member")).longValue()
+                : insert.usingColumns("name", "fid").executeAndReturnKey(Map.of("name", "member", "fid", fid)).longValue();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.dao.PlantEventOutboxDao;
+import com.example.demo.plant.dto.PlantEventOutbox;
+import com.example.demo.plant.websocket.dto.PlantEventData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.example.demo.plant.websocket.PlantEventEncoderTest.event;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 중계 조회 테스트 - 나눠 읽기, 자기 행 제외, 구독 가족만 전달, 늦게 커밋된 작은 id 보완
+ */
+class DbPlantEventBrokerTest {
+
+    private static final String OTHER_NODE = "other-node";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final FakeOutboxDao dao = new FakeOutboxDao();
+    private final DbPlantEventBroker broker = new DbPlantEventBroker(dao, MAPPER);
+    // 전달받은 행 (fid:uid)
+    private final List<String> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(broker, "batchSize", 2);
+        ReflectionTestUtils.setField(broker, "trailingMs", 60_000L);
+        broker.listen((fid, events) -> events.forEach(e -> received.add(fid + ":" + e.getUid())));
+    }
+
+    @Test
+    void readsAllRowsInIdOrderAcrossPages() {
+        broker.subscribe(7L);
+        for (long id = 1; id <= 5; id++) {
+            dao.add(id, 7L, OTHER_NODE, id);
+        }
+
+        broker.poll();
+
+        assertThat(received).containsExactly("7:1", "7:2", "7:3", "7:4", "7:5");
+    }
+
+    @Test
+    void skipsOwnRowsAndUnsubscribedFamilies() {
+        String self = (String) ReflectionTestUtils.getField(broker, "nodeId");
+        broker.subscribe(7L);
+        dao.add(1, 7L, self, 1);
+        dao.add(2, 8L, OTHER_NODE, 2);
+        dao.add(3, 7L, OTHER_NODE, 3);
+
+        broker.poll();
+        assertThat(received).containsExactly("7:3");
+
+        broker.unsubscribe(7L);
+        dao.add(4, 7L, OTHER_NODE, 4);
+        broker.poll();
+        assertThat(received).containsExactly("7:3");
+    }
+
+    @Test
+    void deliversLateCommittedRowOnceWithinTrailingWindow() {
+        broker.subscribe(7L);
+        // id 2 는 번호만 받고 아직 커밋 전
+        dao.add(1, 7L, OTHER_NODE, 1);
+        dao.add(3, 7L, OTHER_NODE, 3);
+        broker.poll();
+
+        dao.add(2, 7L, OTHER_NODE, 2);
+        broker.poll();
+        broker.poll();
+
+        assertThat(received).containsExactly("7:1", "7:3", "7:2");
+    }
+
+    @Test
+    void doesNotRereadRowsOlderThanTrailingWindow() {
+        ReflectionTestUtils.setField(broker, "trailingMs", 0L);
+        broker.subscribe(7L);
+        dao.add(1, 7L, OTHER_NODE, 1);
+        dao.add(3, 7L, OTHER_NODE, 3);
+        broker.poll();
+
+        // 창이 지난 뒤 커밋된 작은 id 는 전달되지 않는다
+        dao.add(2, 7L, OTHER_NODE, 2);
+        dao.add(4, 7L, OTHER_NODE, 4);
+        broker.poll();
+
+        assertThat(received).containsExactly("7:1", "7:3", "7:4");
+        assertThat(dao.lastAfterId).isEqualTo(3);
+    }
+
+    // 커밋된 행만 보이는 outbox (id 는 호출자가 지정)
+    private static class FakeOutboxDao implements PlantEventOutboxDao {
+        private final List<PlantEventOutbox> rows = new ArrayList<>();
+        private final List<String> nodes = new ArrayList<>();
+        private long lastAfterId;
+
+        void add(long id, long fid, String nodeId, long uid) {
+            PlantEventOutbox row = new PlantEventOutbox();
+            row.setId(id);
+            row.setFid(fid);
+            try {
+                row.setPayload(MAPPER.writeValueAsString(List.of(event("water", fid, uid, "구성원", null, false))));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            rows.add(row);
+            nodes.add(nodeId);
+        }
+
+        @Override
+        public void insertEvents(Long fid, String nodeId, String payload) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Long selectMaxId() {
+            return rows.stream().map(PlantEventOutbox::getId).max(Long::compare).orElse(null);
+        }
+
+        @Override
+        public List<PlantEventOutbox> selectEvents(long afterId, long throughId, String nodeId,
+                                                   Collection<Long> fids, int limit) {
+            lastAfterId = afterId;
+            List<PlantEventOutbox> result = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                PlantEventOutbox row = rows.get(i);
+                if (row.getId() > afterId && row.getId() <= throughId
+                        && !nodes.get(i).equals(nodeId) && fids.contains(row.getFid())) {
+                    result.add(row);
+                }
+            }
+            result.sort(Comparator.comparing(PlantEventOutbox::getId));
+            return result.subList(0, Math.min(limit, result.size()));
+        }
+
+        @Override
+        public int deleteOlderThan(int seconds) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.demo.plant.websocket.PlantEventEncoderTest.event;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가족 방 테스트 - 첫 연결에 구독, 마지막 연결 종료에 구독 해제, 이벤트는 같은 가족 연결에만
+ */
+class PlantEventBroadcasterTest {
+
+    private final RecordingBroker broker = new RecordingBroker();
+    // coalesce window 기본값 0 - 즉시 전송
+    private final PlantEventBroadcaster broadcaster = new PlantEventBroadcaster(new ObjectMapper(), broker);
+
+    @BeforeEach
+    void setUp() {
+        broadcaster.init();
+    }
+
+    @Test
+    void subscribesOnFirstConnectionAndUnsubscribesOnLast() {
+        FakeSession mom = new FakeSession("a");
+        FakeSession dad = new FakeSession("b");
+
+        broadcaster.register(mom, 7L);
+        broadcaster.register(dad, 7L);
+        assertThat(broker.calls).containsExactly("subscribe:7");
+
+        broadcaster.unregister(mom);
+        assertThat(broker.calls).containsExactly("subscribe:7");
+
+        broadcaster.unregister(dad);
+        assertThat(broker.calls).containsExactly("subscribe:7", "unsubscribe:7");
+
+        // 다시 연결하면 다시 구독
+        broadcaster.register(new FakeSession("c"), 7L);
+        assertThat(broker.calls).containsExactly("subscribe:7", "unsubscribe:7", "subscribe:7");
+    }
+
+    @Test
+    void deliversOnlyToConnectionsOfTheSameFamily() {
+        FakeSession mom = new FakeSession("a");
+        FakeSession neighbor = new FakeSession("b");
+        FakeSession noFamily = new FakeSession("c");
+        broadcaster.register(mom, 7L);
+        broadcaster.register(neighbor, 8L);
+        broadcaster.register(noFamily, null);
+
+        broadcaster.broadcast(event("water", 7L, 1L, "엄마", null, false));
+
+        assertThat(mom.sent).hasSize(1);
+        assertThat(((TextMessage) mom.sent.get(0)).getPayload()).contains("\"uid\":1");
+        assertThat(neighbor.sent).isEmpty();
+        assertThat(noFamily.sent).isEmpty();
+        assertThat(broker.calls).containsExactly("subscribe:7", "subscribe:8");
+    }
+
+    // 구독 호출을 기록하고 이 서버 구독 가족에게 바로 전달
+    private static class RecordingBroker implements PlantEventBroker {
+        private final InMemoryPlantEventBroker delegate = new InMemoryPlantEventBroker();
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void listen(Listener listener) {
+            delegate.listen(listener);
+        }
+
+        @Override
+        public void publish(Long fid, List<PlantEventData> events) {
+            delegate.publish(fid, events);
+        }
+
+        @Override
+        public void subscribe(Long fid) {
+            calls.add("subscribe:" + fid);
+            delegate.subscribe(fid);
+        }
+
+        @Override
+        public void unsubscribe(Long fid) {
+            calls.add("unsubscribe:" + fid);
+            delegate.unsubscribe(fid);
+        }
+    }
+
+    // 보낸 메시지를 기록하는 JSON 연결
+    private static class FakeSession implements WebSocketSession {
+        private final String id;
+        private final List<WebSocketMessage<?>> sent = new ArrayList<>();
+        private final Map<String, Object> attributes = new HashMap<>();
+        private boolean open = true;
+
+        FakeSession(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return PlantEventBroadcaster.JSON_PROTOCOL;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            sent.add(message);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            open = false;
+        }
+    }
+}
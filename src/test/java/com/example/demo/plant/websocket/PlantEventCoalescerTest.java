@@ -0,0 +1,120 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.demo.plant.websocket.PlantEventEncoderTest.event;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가족별 이벤트 합치기 테스트 - 레벨업 / 구성원 활동은 순서대로 남고 상태는 최근 서버 이벤트 값 하나로
+ */
+class PlantEventCoalescerTest {
+
+    @Test
+    void keepsDiscreteEventsInOrderWithLatestState() {
+        PlantEventData water = state(event("water", 7L, 1L, "엄마", null, false), 2, 40);
+        PlantEventData levelUp = state(event("walk", 7L, 2L, "아빠", null, true), 3, 0);
+        PlantEventData waterAgain = state(event("water", 7L, 1L, "엄마", null, false), 3, 10);
+        PlantEventData quiz = state(event("quiz", 7L, 3L, "아이", null, false), 3, 30);
+
+        List<PlantEventData> merged = PlantEventCoalescer.merge(List.of(water, levelUp, waterAgain, quiz));
+
+        assertThat(merged).extracting(PlantEventData::getUid).containsExactly(1L, 2L, 3L);
+        assertThat(merged).extracting(PlantEventData::isLevelUp).containsExactly(false, true, false);
+        assertThat(merged).extracting(PlantEventData::getLevel).containsExactly(3, 3, 3);
+        // 레벨업은 레벨업 시점 상태 그대로, 활동은 최근 상태
+        assertThat(merged).extracting(PlantEventData::getExperiencePoint).containsExactly(30, 0, 30);
+        // 원본은 바꾸지 않는다
+        assertThat(water.getExperiencePoint()).isEqualTo(40);
+    }
+
+    @Test
+    void stateOnlyUpdatesCollapseToLatest() {
+        PlantEventData first = state(event(null, 7L, null, null, null, false), 2, 10);
+        PlantEventData last = state(event(null, 7L, null, null, null, false), 2, 20);
+
+        assertThat(PlantEventCoalescer.merge(List.of(first, last))).containsExactly(last);
+    }
+
+    @Test
+    void clientRelaysDoNotOverwriteServerState() {
+        PlantEventData water = state(event("water", 7L, 1L, "엄마", null, false), 2, 40);
+        // 클라이언트가 보낸 중계 이벤트 (레벨 / 경험치 없음)
+        PlantEventData relay = event("cheer", 7L, 2L, "아빠", null, false);
+        relay.setLevel(0);
+        relay.setExperiencePoint(0);
+        relay.setExpThreshold(0);
+
+        List<PlantEventData> merged = PlantEventCoalescer.merge(List.of(water, relay));
+
+        assertThat(merged).extracting(PlantEventData::getType).containsExactly("water", "cheer");
+        assertThat(merged).allSatisfy(e -> {
+            assertThat(e.getLevel()).isEqualTo(2);
+            assertThat(e.getExperiencePoint()).isEqualTo(40);
+            assertThat(e.getExpThreshold()).isEqualTo(300);
+        });
+    }
+
+    @Test
+    void eachLevelUpKeepsItsOwnLevelAndLatestStateIsSentLast() {
+        PlantEventData toThree = state(event("water", 7L, 1L, "엄마", null, true), 3, 0);
+        PlantEventData toFour = state(event("quiz", 7L, 2L, "아빠", null, true), 4, 5);
+        // 앞서 남긴 활동과 같은 활동이라 합쳐진다 - 최근 상태는 따로 보내야 한다
+        PlantEventData waterAgain = state(event("water", 7L, 1L, "엄마", null, false), 4, 15);
+        PlantEventData water = state(event("water", 7L, 1L, "엄마", null, false), 2, 90);
+
+        List<PlantEventData> merged = PlantEventCoalescer.merge(List.of(water, toThree, toFour, waterAgain));
+
+        assertThat(merged).extracting(PlantEventData::isLevelUp).containsExactly(false, true, true, false);
+        assertThat(merged).extracting(PlantEventData::getLevel).containsExactly(4, 3, 4, 4);
+        assertThat(merged).extracting(PlantEventData::getExperiencePoint).containsExactly(15, 0, 5, 15);
+        PlantEventData stateOnly = merged.get(3);
+        assertThat(stateOnly.getUid()).isNull();
+        assertThat(stateOnly.getType()).isNull();
+        assertThat(stateOnly.getFid()).isEqualTo(7L);
+    }
+
+    @Test
+    void relayOnlyBatchKeepsEventsAsSent() {
+        PlantEventData relay = event("cheer", 7L, 2L, "아빠", null, false);
+
+        assertThat(PlantEventCoalescer.merge(List.of(relay))).containsExactly(relay);
+    }
+
+    @Test
+    void flushesOncePerFamilyAfterWindow() throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        LinkedBlockingQueue<List<PlantEventData>> sent = new LinkedBlockingQueue<>();
+        try {
+            PlantEventCoalescer coalescer = new PlantEventCoalescer(300, 1_000, scheduler, sent::add);
+            coalescer.submit(7L, state(event("water", 7L, 1L, "엄마", null, false), 1, 10));
+            coalescer.submit(8L, state(event("water", 8L, 5L, "언니", null, false), 1, 10));
+            coalescer.submit(7L, state(event("walk", 7L, 2L, "아빠", null, false), 1, 20));
+
+            List<PlantEventData> a = sent.poll(5, TimeUnit.SECONDS);
+            List<PlantEventData> b = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(sent.poll(400, TimeUnit.MILLISECONDS)).isNull();
+
+            List<PlantEventData> family7 = a.get(0).getFid() == 7L ? a : b;
+            assertThat(family7).extracting(PlantEventData::getUid).containsExactly(1L, 2L);
+            assertThat(family7).extracting(PlantEventData::getExperiencePoint).containsExactly(20, 20);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // 서버가 적립 후 만든 이벤트
+    private static PlantEventData state(PlantEventData event, int level, int exp) {
+        event.setLevel(level);
+        event.setExperiencePoint(exp);
+        event.setServerOrigin(true);
+        return event;
+    }
+}
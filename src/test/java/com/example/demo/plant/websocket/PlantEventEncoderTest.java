@@ -0,0 +1,74 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 바이너리 프레임 인코더 테스트 - 정의 프레임은 처음 한 번만, 이벤트 프레임은 고정 배치
+ */
+class PlantEventEncoderTest {
+
+    @Test
+    void sendsDefinitionsOnceThenFixedEventFrames() {
+        PlantEventEncoder encoder = new PlantEventEncoder();
+
+        List<ByteBuffer> first = encoder.encode(event("water", 7L, 42L, "엄마", "https://img/1.png", true));
+        assertThat(first).extracting(f -> f.get(0))
+                .containsExactly(PlantEventEncoder.TYPE, PlantEventEncoder.USER, PlantEventEncoder.EVENT);
+
+        ByteBuffer type = first.get(0);
+        assertThat(type.get(1)).isEqualTo((byte) 1);
+        assertThat(string(type, 2)).isEqualTo("water");
+
+        ByteBuffer user = first.get(1);
+        assertThat(user.getLong(1)).isEqualTo(42L);
+        assertThat(string(user, 9)).isEqualTo("엄마");
+
+        ByteBuffer frame = first.get(2);
+        assertThat(frame.remaining()).isEqualTo(PlantEventEncoder.EVENT_FRAME_BYTES);
+        assertThat(frame.get(1)).isEqualTo((byte) 1);
+        assertThat(frame.getLong(2)).isEqualTo(7L);
+        assertThat(frame.getLong(10)).isEqualTo(42L);
+        assertThat(frame.get(18)).isEqualTo((byte) 3);
+        assertThat(frame.getInt(19)).isEqualTo(120);
+        assertThat(frame.getInt(23)).isEqualTo(300);
+        assertThat(frame.get(27)).isEqualTo((byte) 1);
+
+        // 같은 사용자 / 활동은 이벤트 프레임만
+        assertThat(encoder.encode(event("water", 7L, 42L, "엄마", "https://img/1.png", false)))
+                .extracting(f -> f.get(0)).containsExactly(PlantEventEncoder.EVENT);
+
+        // 프로필이 바뀌면 사용자만 다시 등록, 새 활동은 다음 코드
+        List<ByteBuffer> changed = encoder.encode(event("quiz", 7L, 42L, "엄마", "https://img/2.png", false));
+        assertThat(changed).extracting(f -> f.get(0))
+                .containsExactly(PlantEventEncoder.TYPE, PlantEventEncoder.USER, PlantEventEncoder.EVENT);
+        assertThat(changed.get(0).get(1)).isEqualTo((byte) 2);
+    }
+
+    static PlantEventData event(String type, Long fid, Long uid, String name, String avatarUrl, boolean levelUp) {
+        PlantEventData event = new PlantEventData();
+        event.setType(type);
+        event.setFid(fid);
+        event.setUid(uid);
+        event.setName(name);
+        event.setAvatarUrl(avatarUrl);
+        event.setLevel(3);
+        event.setExperiencePoint(120);
+        event.setExpThreshold(300);
+        event.setLevelUp(levelUp);
+        return event;
+    }
+
+    private static String string(ByteBuffer frame, int offset) {
+        int length = Short.toUnsignedInt(frame.getShort(offset));
+        byte[] bytes = new byte[length];
+        frame.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
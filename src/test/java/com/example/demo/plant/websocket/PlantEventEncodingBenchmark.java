@@ -0,0 +1,76 @@
+package com.example.demo.plant.websocket;
+
+import com.example.demo.plant.websocket.dto.PlantEventData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 식물 이벤트 한 건의 직렬화 비용 / 프레임 크기 비교
+ * - 이전: 이벤트마다 new ObjectMapper() 후 JSON
+ * - JSON: 미리 만든 ObjectWriter 로 JSON
+ * - 바이너리: plant.bin.v1 (사용자 / 활동 정의는 연결당 한 번이라 이후 이벤트는 고정 28바이트)
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class PlantEventEncodingBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+    private static final String[] TYPES = {"attendance", "water", "nutrient", "emotion", "quiz", "lastleaf"};
+
+    @Test
+    void perEventMapperVersusSharedWriterVersusBinary() throws Exception {
+        PlantEventData[] events = new PlantEventData[64];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = PlantEventEncoderTest.event(TYPES[i % TYPES.length], 1000L + i % 8, 50_000L + i % 16,
+                    "구성원" + (i % 16), "https://k.kakaocdn.net/dn/profile/" + (i % 16) + "/img_640x640.jpg", i % 10 == 0);
+        }
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += new ObjectMapper().writeValueAsString(events[i % events.length]).length();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += new ObjectMapper().writeValueAsString(events[i % events.length]).length();
+        }
+        double perEventMapper = (System.nanoTime() - start) / (double) ITERATIONS;
+
+        ObjectWriter writer = new ObjectMapper().writerFor(PlantEventData.class);
+        long jsonBytes = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += writer.writeValueAsBytes(events[i % events.length]).length;
+        }
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            jsonBytes += writer.writeValueAsBytes(events[i % events.length]).length;
+        }
+        double sharedWriter = (System.nanoTime() - start) / (double) ITERATIONS;
+
+        PlantEventEncoder encoder = new PlantEventEncoder();
+        for (int i = 0; i < WARMUP; i++) {
+            sink += encoder.encode(events[i % events.length]).size();
+        }
+        encoder = new PlantEventEncoder(); // 새 연결 기준으로 정의 프레임까지 포함해 측정
+        long binaryBytes = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<ByteBuffer> frames = encoder.encode(events[i % events.length]);
+            for (ByteBuffer frame : frames) {
+                binaryBytes += frame.remaining();
+            }
+        }
+        double binary = (System.nanoTime() - start) / (double) ITERATIONS;
+
+        System.out.printf("[benchmark] 이벤트당 new ObjectMapper: %.0f ns, 공유 ObjectWriter: %.0f ns (%.0f B/frame), "
+                        + "바이너리: %.0f ns (%.1f B/frame) [%d]%n",
+                perEventMapper, sharedWriter, jsonBytes / (double) ITERATIONS,
+                binary, binaryBytes / (double) ITERATIONS, sink % 10);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static com.example.demo.storage.exception.StorageExceptions.BlobNotFoundException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 서명 URL 제공 테스트 - 퍼센트 인코딩된 key, 없는 객체(404)
+ */
+class LocalBlobControllerTest {
+
+    @TempDir
+    Path dir;
+
+    private LocalBlobStore store;
+    private LocalBlobController controller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new LocalBlobStore();
+        ReflectionTestUtils.setField(store, "localDir", dir.toString());
+        ReflectionTestUtils.setField(store, "signingKey", "test-key");
+        store.init();
+        controller = new LocalBlobController(store);
+    }
+
+    @Test
+    void servesKeyThatNeedsPercentEncoding() throws Exception {
+        String url = store.put("tts/voice clip 100%.mp3", "mp3-bytes".getBytes(StandardCharsets.UTF_8), "audio/mpeg");
+        String signed = store.signedUrl(url, Duration.ofMinutes(5));
+        assertThat(signed).startsWith(LocalBlobStore.SIGNED_PATH + "tts/voice%20clip%20100%25.mp3?");
+
+        ResponseEntity<StreamingResponseBody> response = download(signed);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("mp3-bytes");
+    }
+
+    @Test
+    void missingObjectIsNotFound() throws Exception {
+        String url = store.put("tts/gone.mp3", new byte[]{1}, "audio/mpeg");
+        String signed = store.signedUrl(url, Duration.ofMinutes(5));
+        Files.delete(dir.resolve("tts/gone.mp3"));
+
+        assertThatThrownBy(() -> download(signed)).isInstanceOf(BlobNotFoundException.class);
+    }
+
+    @Test
+    void rejectsWrongSignature() {
+        String url = store.put("tts/abc.mp3", new byte[]{1}, "audio/mpeg");
+        String signed = store.signedUrl(url, Duration.ofMinutes(5));
+
+        assertThat(download(signed.replace("signature=", "signature=0")).getStatusCode())
+                .isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    private ResponseEntity<StreamingResponseBody> download(String signedUrl) {
+        String query = signedUrl.substring(signedUrl.indexOf('?') + 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", signedUrl.substring(0, signedUrl.indexOf('?')));
+        long expires = Long.parseLong(query.split("&")[0].substring("expires=".length()));
+        String signature = query.substring(query.indexOf("signature=") + "signature=".length());
+        return controller.download(request, expires, signature);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 저장소 서명 URL 테스트 (GCS 서명 URL 대용)
+ */
+class LocalBlobStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private LocalBlobStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new LocalBlobStore();
+        ReflectionTestUtils.setField(store, "localDir", dir.toString());
+        ReflectionTestUtils.setField(store, "signingKey", "test-key");
+        store.init();
+    }
+
+    @Test
+    void signedUrlServesObject() throws Exception {
+        String url = store.put("tts/abc.mp3", "mp3-bytes".getBytes(StandardCharsets.UTF_8), "audio/mpeg");
+
+        String signed = store.signedUrl(url, Duration.ofMinutes(5));
+        assertThat(signed).startsWith(LocalBlobStore.SIGNED_PATH + "tts/abc.mp3?expires=");
+
+        BlobStore.BlobObject object = store.openSigned("tts/abc.mp3", expires(signed), signature(signed));
+        assertThat(object).isNotNull();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        object.copyRange(0, object.size() - 1, out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("mp3-bytes");
+    }
+
+    @Test
+    void rejectsTamperedOrExpiredSignature() {
+        String url = store.put("tts/abc.mp3", new byte[]{1, 2, 3}, "audio/mpeg");
+        String signed = store.signedUrl(url, Duration.ofMinutes(5));
+
+        // 다른 객체에 서명 재사용
+        store.put("tts/other.mp3", new byte[]{4}, "audio/mpeg");
+        assertThat(store.openSigned("tts/other.mp3", expires(signed), signature(signed))).isNull();
+        // 만료 시간 변조
+        assertThat(store.openSigned("tts/abc.mp3", expires(signed) + 3600, signature(signed))).isNull();
+        // 만료된 URL
+        String expired = store.signedUrl(url, Duration.ofSeconds(-1));
+        assertThat(store.openSigned("tts/abc.mp3", expires(expired), signature(expired))).isNull();
+    }
+
+    @Test
+    void readingMissingObjectDoesNotCreateDirectories() {
+        assertThatThrownBy(() -> store.get("local://missing/dir/abc.mp3")).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> store.open("local://missing/dir/abc.mp3")).isInstanceOf(RuntimeException.class);
+        assertThat(dir.resolve("missing")).doesNotExist();
+
+        store.put("nested/dir/abc.mp3", new byte[]{1}, "audio/mpeg");
+        assertThat(dir.resolve("nested/dir/abc.mp3")).exists();
+    }
+
+    private static long expires(String signedUrl) {
+        String query = signedUrl.substring(signedUrl.indexOf('?') + 1);
+        return Long.parseLong(query.split("&")[0].substring("expires=".length()));
+    }
+
+    private static String signature(String signedUrl) {
+        return signedUrl.substring(signedUrl.indexOf("signature=") + "signature=".length());
+    }
+}
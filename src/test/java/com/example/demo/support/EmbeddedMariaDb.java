@@ -0,0 +1,64 @@
+package com.example.demo.support;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * 테스트용 임베디드 MariaDB (운영과 같은 행 잠금 / ON DUPLICATE KEY 동작)
+ * 기본 테이블(stress/schema.sql)을 만든 뒤 src/main/resources/db 의 변경 스크립트를 운영과 같은 순서로 적용한다
+ */
+public final class EmbeddedMariaDb {
+
+    // 운영 DB에 적용한 순서 그대로
+    public static final String[] MIGRATIONS = {
+            "db/plants_version.sql", "db/point_rollup.sql", "db/leaderboard_snapshot.sql",
+            "db/plant_ledger.sql", "db/plant_rules.sql", "db/point_activities_daily_unique.sql"
+    };
+
+    private EmbeddedMariaDb() {
+    }
+
+    public static DB start(String dbName) throws ManagedProcessException {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0); // 빈 포트 자동 선택
+        // 컨테이너 / CI 처럼 root 로 실행하면 mariadbd 는 --user 없이는 기동을 거부한다
+        if ("root".equals(System.getProperty("user.name"))) {
+            config.addArg("--user=root");
+        }
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+
+        // 스키마는 JDBC 로 적용 (번들된 mariadb 클라이언트는 libncurses5 가 없는 환경에서 실행되지 않는다)
+        try (Connection connection = DriverManager.getConnection(url(db, ""), "root", "")) {
+            connection.createStatement().execute("CREATE DATABASE IF NOT EXISTS `" + dbName + "` CHARACTER SET utf8mb4");
+            connection.setCatalog(dbName);
+            ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("stress/schema.sql"));
+            for (String migration : MIGRATIONS) {
+                populator.addScript(new ClassPathResource(migration));
+            }
+            populator.populate(connection);
+        } catch (SQLException e) {
+            db.stop();
+            throw new IllegalStateException("임베디드 MariaDB 스키마 적용 실패", e);
+        }
+        return db;
+    }
+
+    public static void register(DynamicPropertyRegistry registry, DB db, String dbName) {
+        registry.add("spring.datasource.url", () -> url(db, dbName));
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    private static String url(DB db, String dbName) {
+        return "jdbc:mariadb://localhost:" + db.getConfiguration().getPort() + "/" + dbName;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.transaction;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트랜잭션 콜백 테스트 - 커밋 / 롤백 결과에 따라서만 실행되는지
+ */
+class TransactionCallbacksTest {
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    void runsImmediatelyOutsideTransaction() {
+        TransactionCallbacks.afterCommit(() -> calls.add("commit"));
+        TransactionCallbacks.onRollback(() -> calls.add("rollback"));
+
+        assertThat(calls).containsExactly("commit");
+    }
+
+    @Test
+    void afterCommitWaitsForCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            TransactionCallbacks.afterCommit(() -> calls.add("commit"));
+            TransactionCallbacks.onRollback(() -> calls.add("rollback"));
+            assertThat(calls).isEmpty();
+        });
+
+        assertThat(calls).containsExactly("commit");
+    }
+
+    @Test
+    void onRollbackRunsOnlyOnRollback() {
+        transactionTemplate.executeWithoutResult(status -> {
+            TransactionCallbacks.afterCommit(() -> calls.add("commit"));
+            TransactionCallbacks.onRollback(() -> calls.add("rollback"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(calls).containsExactly("rollback");
+    }
+
+    // 실제 자원 없이 동기화 콜백만 실행하는 트랜잭션 관리자
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
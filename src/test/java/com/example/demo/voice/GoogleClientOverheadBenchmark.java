@@ -0,0 +1,67 @@
+package com.example.demo.voice;
+
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import com.google.cloud.texttospeech.v1.TextToSpeechSettings;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출마다 클라이언트를 생성하던 방식(이전)과 공유 클라이언트(이후)의 호출당 준비 비용 비교
+ * 원격 호출 없이 클라이언트/채널 생성 및 종료 비용만 측정하므로
+ * 실제 환경에서는 여기에 자격 증명 파일 읽기와 TLS 핸드셰이크 비용이 더해진다
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class GoogleClientOverheadBenchmark {
+
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+
+    private TextToSpeechSettings settings() throws Exception {
+        return TextToSpeechSettings.newBuilder()
+                .setCredentialsProvider(NoCredentialsProvider.create())
+                .setEndpoint("localhost:1") // 연결하지 않는 더미 엔드포인트
+                .build();
+    }
+
+    @Test
+    void perCallClientVersusSharedClient() throws Exception {
+        TextToSpeechSettings settings = settings();
+
+        // 이전: 호출마다 생성 후 종료
+        for (int i = 0; i < WARMUP; i++) {
+            createAndClose(settings);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            createAndClose(settings);
+        }
+        double perCallMicros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+
+        // 이후: 한 번 생성한 클라이언트를 재사용
+        long sharedStart = System.nanoTime();
+        try (TextToSpeechClient shared = TextToSpeechClient.create(settings)) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                if (shared.isShutdown()) {
+                    throw new IllegalStateException("공유 클라이언트가 종료됨");
+                }
+            }
+            shared.shutdown();
+            shared.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        double sharedMicros = (System.nanoTime() - sharedStart) / 1_000.0 / ITERATIONS;
+
+        System.out.printf("[benchmark] 호출당 클라이언트 생성: %.1f µs/call, 공유 클라이언트(생성 비용 분산): %.1f µs/call%n",
+                perCallMicros, sharedMicros);
+    }
+
+    private void createAndClose(TextToSpeechSettings settings) throws Exception {
+        TextToSpeechClient client = TextToSpeechClient.create(settings);
+        client.shutdown();
+        client.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.voice.cache;
+
+import com.example.demo.voice.service.TtsAudioSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 디스크 캐시 저장 (중복 저장 시 용량 계산) 과 열린 채널 스트리밍 테스트
+ */
+class TtsAudioCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private TtsAudioCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TtsAudioCache();
+        ReflectionTestUtils.setField(cache, "memoryMaxBytes", 0L);
+        ReflectionTestUtils.setField(cache, "memoryMaxEntryBytes", 0L);
+        ReflectionTestUtils.setField(cache, "diskDir", dir.toString());
+        ReflectionTestUtils.setField(cache, "diskMaxBytes", 1L << 20);
+        cache.init();
+    }
+
+    @Test
+    void concurrentPutsOfSameHashCountDiskBytesOnce() throws Exception {
+        byte[] audio = audio(4096);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    cache.put("same", audio);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(diskBytes()).isEqualTo(audio.length);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.map(p -> p.getFileName().toString())).containsExactly("same.mp3");
+        }
+    }
+
+    @Test
+    void openedSourceStreamsFullBodyAfterEviction() throws IOException {
+        byte[] audio = audio(10_000);
+        cache.put("evicted", audio);
+
+        FileChannel channel = cache.openDiskFile("evicted");
+        assertThat(channel).isNotNull();
+        try (TtsAudioSource source = TtsAudioSource.ofFile(channel, "evicted")) {
+            // 헤더를 보낸 뒤 캐시 정리로 파일이 지워진 상황
+            Files.delete(dir.resolve("evicted.mp3"));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            source.copyRange(0, source.contentLength() - 1, out);
+            assertThat(out.toByteArray()).isEqualTo(audio);
+        }
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    void shortCopyFailsInsteadOfTruncating() throws IOException {
+        cache.put("short", audio(1000));
+
+        try (TtsAudioSource source = TtsAudioSource.ofFile(cache.openDiskFile("short"), "short")) {
+            try (FileChannel writer = FileChannel.open(dir.resolve("short.mp3"), StandardOpenOption.WRITE)) {
+                writer.truncate(500);
+            }
+            assertThatThrownBy(() -> source.copyRange(0, source.contentLength() - 1, new ByteArrayOutputStream()))
+                    .isInstanceOf(EOFException.class);
+        }
+    }
+
+    @Test
+    void missingDiskFileIsCacheMiss() {
+        assertThat(cache.openDiskFile("absent")).isNull();
+    }
+
+    private long diskBytes() {
+        return ((AtomicLong) ReflectionTestUtils.getField(cache, "diskBytes")).get();
+    }
+
+    private static byte[] audio(int size) {
+        byte[] audio = new byte[size];
+        for (int i = 0; i < size; i++) {
+            audio[i] = (byte) i;
+        }
+        return audio;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.voice.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * If-None-Match 비교 테스트 - 목록, 약한 태그, * 처리
+ */
+class VoiceControllerEtagTest {
+
+    private static final String ETAG = "\"abc123\"";
+
+    @Test
+    void matchesSingleListAndWeakTags() {
+        assertThat(VoiceController.matchesIfNoneMatch("\"abc123\"", ETAG)).isTrue();
+        assertThat(VoiceController.matchesIfNoneMatch("\"old\", \"abc123\"", ETAG)).isTrue();
+        assertThat(VoiceController.matchesIfNoneMatch("W/\"abc123\"", ETAG)).isTrue();
+        assertThat(VoiceController.matchesIfNoneMatch("*", ETAG)).isTrue();
+    }
+
+    @Test
+    void rejectsMissingOrDifferentTags() {
+        assertThat(VoiceController.matchesIfNoneMatch(null, ETAG)).isFalse();
+        assertThat(VoiceController.matchesIfNoneMatch("", ETAG)).isFalse();
+        assertThat(VoiceController.matchesIfNoneMatch("\"other\", W/\"abc\"", ETAG)).isFalse();
+        assertThat(VoiceController.matchesIfNoneMatch("abc123", ETAG)).isFalse();
+    }
+}
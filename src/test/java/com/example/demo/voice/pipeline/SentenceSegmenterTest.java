@@ -0,0 +1,59 @@
+package com.example.demo.voice.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문장 분할 테스트 - 경계, 짧은 조각 합치기, 긴 문장 강제 분할, 마크다운 제거
+ */
+class SentenceSegmenterTest {
+
+    @Test
+    void splitsOnTerminatorFollowedByWhitespace() {
+        SentenceSegmenter segmenter = new SentenceSegmenter(2, 200);
+
+        assertThat(segmenter.append("안녕하세요. 반가워요")).containsExactly("안녕하세요.");
+        // 문장 끝 기호 뒤 공백이 아직 오지 않았으면 기다린다 (3.14 같은 숫자도 자르지 않음)
+        assertThat(segmenter.append("! 원주율은 3.14")).containsExactly("반가워요!");
+        assertThat(segmenter.append(" 입니다.")).isEmpty();
+        assertThat(segmenter.flush()).isEqualTo("원주율은 3.14 입니다.");
+        assertThat(segmenter.flush()).isNull();
+    }
+
+    @Test
+    void newlineOnlyDeltaEndsSentence() {
+        SentenceSegmenter segmenter = new SentenceSegmenter(2, 200);
+
+        assertThat(segmenter.append("오늘도 물을 주셨네요")).isEmpty();
+        assertThat(segmenter.append("\n")).containsExactly("오늘도 물을 주셨네요");
+        assertThat(segmenter.append("\n")).isEmpty();
+        assertThat(segmenter.append("잘했어요.")).isEmpty();
+        assertThat(segmenter.append("\n")).containsExactly("잘했어요.");
+    }
+
+    @Test
+    void mergesFragmentsShorterThanMinChars() {
+        SentenceSegmenter segmenter = new SentenceSegmenter(5, 200);
+
+        assertThat(segmenter.append("네. ")).isEmpty();
+        assertThat(segmenter.append("좋아요. 같이 해 봐요.\n")).containsExactly("네. 좋아요.", "같이 해 봐요.");
+    }
+
+    @Test
+    void forcesSplitAtWhitespaceAfterMaxChars() {
+        SentenceSegmenter segmenter = new SentenceSegmenter(2, 10);
+
+        assertThat(segmenter.append("가나다 라마바 사아자 차카타 ")).containsExactly("가나다 라마바 사아자");
+        assertThat(segmenter.flush()).isEqualTo("차카타");
+    }
+
+    @Test
+    void stripsMarkdown() {
+        assertThat(SentenceSegmenter.clean("## 제목\n- **굵게** 항목\n> 인용 `코드`\n1. 첫째"))
+                .isEqualTo("제목 굵게 항목 인용 코드 첫째");
+
+        SentenceSegmenter segmenter = new SentenceSegmenter(2, 200);
+        assertThat(segmenter.append("**물 주기** 완료!\n")).containsExactly("물 주기 완료!");
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.voice.pipeline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문장 TTS 파이프라인 테스트 - 병렬 합성이어도 순서대로 전달, 동시 실행 수 제한, 실패 전달
+ */
+class SentenceTtsPipelineTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void emitsInSubmissionOrderWithinConcurrencyLimit() throws InterruptedException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        RecordingSink sink = new RecordingSink();
+        SentenceTtsPipeline pipeline = new SentenceTtsPipeline(executor, 2, sentence -> {
+            int now = active.incrementAndGet();
+            maxActive.accumulateAndGet(now, Math::max);
+            try {
+                // 앞 문장일수록 늦게 끝나도록
+                Thread.sleep(60 - 10L * Integer.parseInt(sentence));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+            return sentence.getBytes(StandardCharsets.UTF_8);
+        }, sink);
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.submit(String.valueOf(i));
+        }
+        pipeline.close();
+
+        assertThat(sink.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sink.events).containsExactly("0:0", "1:1", "2:2", "3:3", "4:4");
+        assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void failedSentenceIsReportedInOrder() throws InterruptedException {
+        RecordingSink sink = new RecordingSink();
+        SentenceTtsPipeline pipeline = new SentenceTtsPipeline(executor, 3, sentence -> {
+            if (sentence.equals("bad")) {
+                throw new IllegalStateException("합성 실패");
+            }
+            return sentence.getBytes(StandardCharsets.UTF_8);
+        }, sink);
+
+        pipeline.submit("a");
+        pipeline.submit("bad");
+        pipeline.submit("c");
+        pipeline.close();
+
+        assertThat(sink.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sink.events).containsExactly("0:a", "1:error", "2:c");
+    }
+
+    @Test
+    void completesOnlyAfterClose() throws InterruptedException {
+        RecordingSink sink = new RecordingSink();
+        SentenceTtsPipeline pipeline = new SentenceTtsPipeline(Runnable::run, 1,
+                sentence -> sentence.getBytes(StandardCharsets.UTF_8), sink);
+
+        pipeline.submit("a");
+        assertThat(sink.completed.getCount()).isEqualTo(1);
+
+        pipeline.close();
+        assertThat(sink.completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(sink.events).containsExactly("0:a");
+    }
+
+    private static final class RecordingSink implements SentenceTtsPipeline.Sink {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onAudio(int seq, String sentence, byte[] audio) {
+            events.add(seq + ":" + new String(audio, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void onError(int seq, String sentence, Exception e) {
+            events.add(seq + ":error");
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
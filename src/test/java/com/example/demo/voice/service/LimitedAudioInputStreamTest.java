@@ -0,0 +1,117 @@
+package com.example.demo.voice.service;
+
+import com.example.demo.voice.stt.AudioSniffer;
+import com.example.demo.voice.stt.TranscriptionListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.example.demo.voice.exception.VoiceExceptions.AudioTooLargeException;
+import static com.example.demo.voice.exception.VoiceExceptions.UnsupportedAudioException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 업로드 크기 제한 스트림과 스트리밍 업로드의 413 / 415 경로 테스트
+ */
+class LimitedAudioInputStreamTest {
+
+    private static final byte[] WAV_HEAD = "RIFF\0\0\0\0WAVEfmt ".getBytes(StandardCharsets.ISO_8859_1);
+
+    @Test
+    void readsUpToLimit() throws IOException {
+        InputStream in = new LimitedAudioInputStream(new ByteArrayInputStream(new byte[100]), 100);
+        assertThat(in.readAllBytes()).hasSize(100);
+    }
+
+    @Test
+    void throwsOnceLimitIsExceeded() {
+        InputStream in = new LimitedAudioInputStream(new ByteArrayInputStream(new byte[101]), 100);
+        assertThatThrownBy(in::readAllBytes).isInstanceOf(AudioTooLargeException.class);
+    }
+
+    @Test
+    void singleByteReadsAndSkipsCountTowardLimit() throws IOException {
+        InputStream in = new LimitedAudioInputStream(new ByteArrayInputStream(new byte[10]), 5);
+        assertThat(in.skip(5)).isEqualTo(5);
+        assertThatThrownBy(in::read).isInstanceOf(AudioTooLargeException.class);
+    }
+
+    @Test
+    void declaredContentLengthOverLimitIsRejectedBeforeReading() {
+        VoiceServiceImpl service = service(new RecordingSttService(), 100);
+        assertThatThrownBy(() -> service.handleStreamingUpload(new ByteArrayInputStream(WAV_HEAD), 101, "s1"))
+                .isInstanceOf(AudioTooLargeException.class);
+    }
+
+    @Test
+    void chunkedUploadOverLimitIsRejectedWhileStreaming() {
+        byte[] body = new byte[200];
+        System.arraycopy(WAV_HEAD, 0, body, 0, WAV_HEAD.length);
+        VoiceServiceImpl service = service(new RecordingSttService(), 100);
+
+        // Content-Length 없음(-1) → 읽는 도중 한도 초과
+        assertThatThrownBy(() -> service.handleStreamingUpload(new ByteArrayInputStream(body), -1, "s1"))
+                .isInstanceOf(AudioTooLargeException.class);
+    }
+
+    @Test
+    void unknownFormatIsRejectedAsUnsupported() {
+        RecordingSttService stt = new RecordingSttService();
+        VoiceServiceImpl service = service(stt, 100);
+        byte[] body = "<html><body></body></html>".getBytes(StandardCharsets.US_ASCII);
+
+        assertThatThrownBy(() -> service.handleStreamingUpload(new ByteArrayInputStream(body), body.length, "s1"))
+                .isInstanceOf(UnsupportedAudioException.class);
+        assertThat(stt.container.get()).isNull();
+    }
+
+    @Test
+    void sniffedHeadIsReplayedToTranscriber() throws IOException {
+        RecordingSttService stt = new RecordingSttService();
+        VoiceServiceImpl service = service(stt, 100);
+
+        assertThat(service.handleStreamingUpload(new ByteArrayInputStream(WAV_HEAD), WAV_HEAD.length, "s1")
+                .getData().getTranscribedText()).isEqualTo("ok");
+        assertThat(stt.container.get()).isEqualTo(AudioSniffer.Container.WAV);
+        assertThat(stt.body.get()).isEqualTo(WAV_HEAD);
+    }
+
+    private static VoiceServiceImpl service(GoogleSttService stt, long maxBytes) {
+        VoiceServiceImpl service = new VoiceServiceImpl(null, null, null, stt, null, null, null, null,
+                new VoiceSessionRegistry(), null);
+        ReflectionTestUtils.setField(service, "maxUploadBytes", maxBytes);
+        return service;
+    }
+
+    // 실제 변환 대신 전달받은 스트림을 끝까지 읽는 가짜 STT
+    private static class RecordingSttService implements GoogleSttService {
+        private final AtomicReference<AudioSniffer.Container> container = new AtomicReference<>();
+        private final AtomicReference<byte[]> body = new AtomicReference<>();
+
+        @Override
+        public String transcribe(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String transcribe(File audioFile, TranscriptionListener listener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String transcribe(InputStream audio, AudioSniffer.Container container,
+                                 TranscriptionListener listener) throws IOException {
+            this.container.set(container);
+            body.set(audio.readAllBytes());
+            return "ok";
+        }
+    }
+}
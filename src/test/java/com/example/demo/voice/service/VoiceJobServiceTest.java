@@ -0,0 +1,142 @@
+package com.example.demo.voice.service;
+
+import com.example.demo.voice.dto.VoiceJobResponse;
+import com.example.demo.voice.stt.AudioSniffer;
+import com.example.demo.voice.stt.TranscriptionListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.demo.voice.exception.VoiceExceptions.VoiceJobNotFoundException;
+import static com.example.demo.voice.exception.VoiceExceptions.VoiceJobRejectedException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비동기 음성 작업 테스트 - 제출 / 상태 조회 / 취소 / 대기열 초과 / 끝난 작업 정리
+ * 인식은 가짜 구현: release 가 열릴 때까지 (또는 인터럽트될 때까지) 기다린 뒤 "안녕하세요" 반환
+ */
+class VoiceJobServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+    private VoiceJobService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void submitThenPollUntilCompleted() throws Exception {
+        service = service(2, 5, 600);
+
+        VoiceJobResponse submitted = service.submit(upload(), "s1", 1L);
+        assertThat(submitted.getStatus()).isIn("QUEUED", "TRANSCODING", "RECOGNIZING");
+
+        release.countDown();
+        VoiceJobResponse done = awaitStatus(submitted.getJobId(), 1L, "COMPLETED");
+        assertThat(done.getTranscribedText()).isEqualTo("안녕하세요");
+        assertThat(done.getProgress()).isEqualTo(100);
+
+        // 다른 사용자는 조회할 수 없다
+        assertThatThrownBy(() -> service.get(submitted.getJobId(), 2L))
+                .isInstanceOf(VoiceJobNotFoundException.class);
+    }
+
+    @Test
+    void cancelInterruptsRunningRecognition() throws Exception {
+        service = service(1, 5, 600);
+
+        VoiceJobResponse submitted = service.submit(upload(), "s1", 1L);
+        awaitStatus(submitted.getJobId(), 1L, "RECOGNIZING");
+
+        assertThat(service.cancel(submitted.getJobId(), 1L).getStatus()).isEqualTo("CANCELLED");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.get(submitted.getJobId(), 1L).getStatus()).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        service = service(1, 1, 600);
+
+        VoiceJobResponse running = service.submit(upload(), "s1", 1L);
+        awaitStatus(running.getJobId(), 1L, "RECOGNIZING");
+        service.submit(upload(), "s1", 1L); // 대기열 1칸
+
+        assertThatThrownBy(() -> service.submit(upload(), "s1", 1L))
+                .isInstanceOf(VoiceJobRejectedException.class);
+    }
+
+    @Test
+    void purgesFinishedJobsAfterTtl() throws Exception {
+        service = service(1, 5, 0);
+
+        VoiceJobResponse submitted = service.submit(upload(), "s1", 1L);
+        release.countDown();
+        awaitStatus(submitted.getJobId(), 1L, "COMPLETED");
+
+        Thread.sleep(5);
+        service.purgeExpired();
+        assertThatThrownBy(() -> service.get(submitted.getJobId(), 1L))
+                .isInstanceOf(VoiceJobNotFoundException.class);
+    }
+
+    private VoiceJobService service(int threads, int queueCapacity, long ttlSeconds) {
+        VoiceJobService jobService = new VoiceJobService(new FakeSttService(), new VoiceSessionRegistry());
+        ReflectionTestUtils.setField(jobService, "threads", threads);
+        ReflectionTestUtils.setField(jobService, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(jobService, "maxJobs", 100);
+        ReflectionTestUtils.setField(jobService, "ttlSeconds", ttlSeconds);
+        jobService.init();
+        return jobService;
+    }
+
+    private VoiceJobResponse awaitStatus(String jobId, Long uid, String status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        VoiceJobResponse response = service.get(jobId, uid);
+        while (!response.getStatus().equals(status) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            response = service.get(jobId, uid);
+        }
+        assertThat(response.getStatus()).isEqualTo(status);
+        return response;
+    }
+
+    private static MultipartFile upload() {
+        return new MockMultipartFile("file", "voice.m4a", "audio/mp4", new byte[]{1, 2, 3});
+    }
+
+    private class FakeSttService implements GoogleSttService {
+        @Override
+        public String transcribe(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String transcribe(File audioFile, TranscriptionListener listener) {
+            listener.onTranscoded(3.0);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("음성 인식이 취소되었습니다.", e);
+            }
+            return "안녕하세요";
+        }
+
+        @Override
+        public String transcribe(InputStream audio, AudioSniffer.Container container, TranscriptionListener listener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
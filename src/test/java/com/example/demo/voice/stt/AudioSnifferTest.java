@@ -0,0 +1,66 @@
+package com.example.demo.voice.stt;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매직 넘버 기반 컨테이너 판별 테스트
+ */
+class AudioSnifferTest {
+
+    @Test
+    void detectsContainersByMagicNumber() {
+        assertThat(detect(ascii("RIFF\0\0\0\0WAVE"))).isEqualTo(AudioSniffer.Container.WAV);
+        assertThat(detect(ascii("OggS\0\2"))).isEqualTo(AudioSniffer.Container.OGG);
+        assertThat(detect(ascii("fLaC\0\0"))).isEqualTo(AudioSniffer.Container.FLAC);
+        assertThat(detect(ascii("#!AMR\n"))).isEqualTo(AudioSniffer.Container.AMR);
+        assertThat(detect(bytes(0x1A, 0x45, 0xDF, 0xA3, 0x01))).isEqualTo(AudioSniffer.Container.WEBM);
+        assertThat(detect(ascii("\0\0\0 ftypM4A "))).isEqualTo(AudioSniffer.Container.MP4);
+        assertThat(detect(ascii("ID3\4\0"))).isEqualTo(AudioSniffer.Container.MP3);
+    }
+
+    @Test
+    void distinguishesAdtsFromMpegFrameSync() {
+        // ADTS: layer 00
+        assertThat(detect(bytes(0xFF, 0xF1, 0x50, 0x80))).isEqualTo(AudioSniffer.Container.AAC);
+        // MPEG-1 Layer III
+        assertThat(detect(bytes(0xFF, 0xFB, 0x90, 0x64))).isEqualTo(AudioSniffer.Container.MP3);
+        // 동기 비트는 맞지만 layer 가 예약값(00)이 아니고 ADTS 도 아님
+        assertThat(detect(bytes(0xFF, 0x00))).isNull();
+    }
+
+    @Test
+    void unknownOrTruncatedHeadIsRejected() {
+        assertThat(detect(ascii("<html><body>"))).isNull();
+        assertThat(detect(new byte[0])).isNull();
+        // RIFF 이지만 WAVE 표식까지 오지 않은 짧은 입력
+        assertThat(detect(ascii("RIFF\0\0"))).isNull();
+    }
+
+    @Test
+    void mp4IsNotPipeable() {
+        assertThat(AudioSniffer.Container.MP4.isPipeable()).isFalse();
+        assertThat(AudioSniffer.Container.WAV.isPipeable()).isTrue();
+    }
+
+    private static AudioSniffer.Container detect(byte[] head) {
+        byte[] padded = new byte[AudioSniffer.HEAD_BYTES];
+        System.arraycopy(head, 0, padded, 0, Math.min(head.length, padded.length));
+        return AudioSniffer.detect(padded, Math.min(head.length, padded.length));
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] b = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            b[i] = (byte) values[i];
+        }
+        return b;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.voice.stt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STT 전처리 테스트 - 앞뒤 무음 제거, 긴 무음 압축, 게인 상한
+ * 16kHz 기준 한 프레임(30ms) = 480 샘플, 발화는 진폭이 일정한 사각파
+ */
+class PcmPreprocessorTest {
+
+    private static final int SAMPLE_RATE = 16000;
+    private static final int FRAME = 480;
+
+    @Test
+    void emptyAndSubFrameAudioDoNotFail() {
+        PcmPreprocessor preprocessor = preprocessor(true);
+
+        assertThat(preprocessor.process(audio()).sampleCount()).isZero();
+        assertThat(preprocessor.process(audio(tone(100, 5000))).sampleCount()).isEqualTo(100);
+    }
+
+    @Test
+    void trimsLeadingAndTrailingSilenceKeepingPadding() {
+        // 무음 20프레임 + 발화 10프레임 + 무음 20프레임, 여유 200ms = 6프레임
+        PcmAudio processed = preprocessor(false).process(audio(
+                silence(20 * FRAME), tone(10 * FRAME, 10000), silence(20 * FRAME)));
+
+        assertThat(processed.sampleCount()).isEqualTo((6 + 10 + 6) * FRAME);
+        assertThat(processed.sample(0)).isZero();
+        assertThat(Math.abs(processed.sample(6 * FRAME))).isGreaterThan(10000);
+    }
+
+    @Test
+    void compressesLongPausesOnlyWhenEnabled() {
+        // 발화 10프레임 + 무음 60프레임(1.8초) + 발화 10프레임, 최대 무음 700ms = 23프레임
+        short[][] parts = {tone(10 * FRAME, 10000), silence(60 * FRAME), tone(10 * FRAME, 10000)};
+
+        assertThat(preprocessor(true).process(audio(parts)).sampleCount()).isEqualTo((10 + 23 + 10) * FRAME);
+        assertThat(preprocessor(false).process(audio(parts)).sampleCount()).isEqualTo((10 + 60 + 10) * FRAME);
+    }
+
+    @Test
+    void normalizesGainUpToCap() {
+        int target = (int) Math.round(0.7 * Short.MAX_VALUE);
+
+        // 큰 소리는 목표 진폭으로 줄인다
+        assertThat(peak(preprocessor(false).process(audio(tone(10 * FRAME, 30000))))).isBetween(target - 1, target + 1);
+        // 작은 소리는 최대 8배까지만 키운다 (1000 → 8000, 목표 22937 까지 가지 않음)
+        assertThat(peak(preprocessor(false).process(audio(tone(10 * FRAME, 1000))))).isEqualTo(8000);
+    }
+
+    private static PcmPreprocessor preprocessor(boolean compressPauses) {
+        return new PcmPreprocessor(new SimpleMeterRegistry(), compressPauses, 700, 200, 0.7, 8);
+    }
+
+    private static short[] silence(int samples) {
+        return new short[samples];
+    }
+
+    private static short[] tone(int samples, int amplitude) {
+        short[] tone = new short[samples];
+        for (int i = 0; i < samples; i++) {
+            tone[i] = (short) (i % 2 == 0 ? amplitude : -amplitude);
+        }
+        return tone;
+    }
+
+    private static PcmAudio audio(short[]... parts) {
+        int total = 0;
+        for (short[] part : parts) {
+            total += part.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (short[] part : parts) {
+            for (short s : part) {
+                buffer.putShort(s);
+            }
+        }
+        buffer.flip();
+        return new PcmAudio(buffer, SAMPLE_RATE);
+    }
+
+    private static int peak(PcmAudio audio) {
+        int peak = 0;
+        for (int i = 0; i < audio.sampleCount(); i++) {
+            peak = Math.max(peak, Math.abs((int) audio.sample(i)));
+        }
+        return peak;
+    }
+}
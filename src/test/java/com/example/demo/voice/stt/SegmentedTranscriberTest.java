@@ -0,0 +1,203 @@
+package com.example.demo.voice.stt;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.StringJoiner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * 무음 분할 + 병렬 인식 테스트 (Google STT 대신 로컬 가짜 인식기 사용)
+ */
+class SegmentedTranscriberTest {
+
+    private static final int SAMPLE_RATE = 16000;
+    private static final long MILLIS_PER_AUDIO_SECOND = 20; // 가짜 인식기: 음성 1초당 20ms 소요
+
+    /**
+     * 가짜 인식기 - 구간 안의 발화(톤) 크기로 단어 번호를 복원하고, 구간 길이에 비례해 대기한다
+     * 발화 i 는 진폭 1000 + i * 500 의 사인파로 만들어진다
+     */
+    static class FakeSpeechRecognizer implements SpeechRecognizer {
+        @Override
+        public String recognize(PcmAudio audio, SilenceSegmenter.Segment segment) {
+            sleep((long) (segment.length() * MILLIS_PER_AUDIO_SECOND / (double) audio.sampleRate()));
+
+            StringJoiner words = new StringJoiner(" ");
+            int peak = 0;
+            int quiet = 0;
+            for (int i = segment.startSample(); i < segment.endSample(); i++) {
+                int s = Math.abs(audio.sample(i));
+                if (s > 100) {
+                    peak = Math.max(peak, s);
+                    quiet = 0;
+                } else if (++quiet > SAMPLE_RATE / 10 && peak > 0) {
+                    words.add("w" + Math.round((peak - 1000) / 500.0));
+                    peak = 0;
+                }
+            }
+            if (peak > 0) {
+                words.add("w" + Math.round((peak - 1000) / 500.0));
+            }
+            return words.toString();
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 약 2분: 발화(2~5초) + 무음(0.6초) 반복
+    private static PcmAudio twoMinuteClip(int words) {
+        int[] speechMillis = new int[words];
+        int totalSamples = 0;
+        for (int i = 0; i < words; i++) {
+            speechMillis[i] = 2000 + (i * 700) % 3000;
+            totalSamples += (speechMillis[i] + 600) * SAMPLE_RATE / 1000;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(totalSamples * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < words; i++) {
+            int amplitude = 1000 + i * 500;
+            int speech = speechMillis[i] * SAMPLE_RATE / 1000;
+            for (int n = 0; n < speech; n++) {
+                buffer.putShort((short) (amplitude * Math.sin(2 * Math.PI * 220 * n / SAMPLE_RATE)));
+            }
+            for (int n = 0; n < 600 * SAMPLE_RATE / 1000; n++) {
+                buffer.putShort((short) 0);
+            }
+        }
+        buffer.flip();
+        return new PcmAudio(buffer, SAMPLE_RATE);
+    }
+
+    @Test
+    void splitsOnSilenceAndStitchesInOrder() {
+        PcmAudio audio = twoMinuteClip(30);
+        assertThat(audio.durationSeconds()).isBetween(100.0, 140.0);
+
+        SegmentedTranscriber transcriber = new SegmentedTranscriber(new FakeSpeechRecognizer(), 8, 64, 15, 55, 400);
+        try {
+            StringJoiner expected = new StringJoiner(" ");
+            for (int i = 0; i < 30; i++) {
+                expected.add("w" + i);
+            }
+            assertThat(transcriber.transcribe(audio)).isEqualTo(expected.toString());
+        } finally {
+            transcriber.shutdown();
+        }
+    }
+
+    @Test
+    void failureWaitsForRunningSegmentsBeforeThrowing() {
+        PcmAudio audio = twoMinuteClip(30);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+        // 첫 호출은 바로 실패, 나머지는 인터럽트를 무시하고 잠시 버퍼를 읽는다
+        SpeechRecognizer recognizer = (pcm, segment) -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalStateException("인식 실패");
+            }
+            active.incrementAndGet();
+            try {
+                long until = System.nanoTime() + 100_000_000L;
+                while (System.nanoTime() < until) {
+                    pcm.sample(segment.startSample());
+                }
+                return "";
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+
+        SegmentedTranscriber transcriber = new SegmentedTranscriber(recognizer, 4, 64, 15, 55, 400);
+        try {
+            assertThatThrownBy(() -> transcriber.transcribe(audio))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("구간 음성 인식 실패");
+            // 반환 시점에 버퍼를 읽고 있는 구간이 없어야 한다 (호출자가 곧바로 버퍼를 풀에 돌려줌)
+            assertThat(active.get()).isZero();
+            // 시작 전에 취소된 구간은 실행되지 않는다
+            int segments = new SilenceSegmenter(30, 400, 15, 55, 300).split(audio).size();
+            assertThat(calls.get()).isLessThan(segments);
+        } finally {
+            transcriber.shutdown();
+        }
+    }
+
+    @Test
+    void shutdownFailsInFlightTranscription() throws Exception {
+        PcmAudio audio = twoMinuteClip(30);
+        CountDownLatch started = new CountDownLatch(1);
+        // 한 구간씩만 실행 → 나머지는 대기열에 남는다
+        SpeechRecognizer recognizer = (pcm, segment) -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "";
+        };
+
+        SegmentedTranscriber transcriber = new SegmentedTranscriber(recognizer, 1, 64, 15, 55, 400);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = caller.submit(() -> transcriber.transcribe(audio));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            transcriber.shutdown();
+
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void transcribeAfterShutdownFailsInsteadOfHanging() {
+        SegmentedTranscriber transcriber = new SegmentedTranscriber(new FakeSpeechRecognizer(), 4, 64, 15, 55, 400);
+        transcriber.shutdown();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThatThrownBy(() -> transcriber.transcribe(twoMinuteClip(30)))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasRootCauseInstanceOf(RejectedExecutionException.class));
+    }
+
+    @Test
+    void parallelRecognitionBeatsSequential() {
+        PcmAudio audio = twoMinuteClip(30);
+
+        SegmentedTranscriber transcriber = new SegmentedTranscriber(new FakeSpeechRecognizer(), 8, 64, 15, 55, 400);
+        try {
+            long start = System.nanoTime();
+            transcriber.transcribe(audio);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            long sequentialMillis = (long) (audio.durationSeconds() * MILLIS_PER_AUDIO_SECOND);
+            assertThat(elapsedMillis).isLessThan(sequentialMillis / 2);
+        } finally {
+            transcriber.shutdown();
+        }
+    }
+}
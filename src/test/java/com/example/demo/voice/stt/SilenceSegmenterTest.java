@@ -0,0 +1,32 @@
+package com.example.demo.voice.stt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발화 / 무음 프레임 판정 테스트
+ */
+class SilenceSegmenterTest {
+
+    @Test
+    void separatesSpeechFromNoiseFloor() {
+        double[] rms = {50, 60, 5000, 4000, 55, 50, 3000, 60, 50, 40};
+
+        assertThat(SilenceSegmenter.classify(rms, 300))
+                .containsExactly(false, false, true, true, false, false, true, false, false, false);
+    }
+
+    @Test
+    void speechWithoutSilenceIsStillVoiced() {
+        // 잡음 바닥이 발화 크기와 같아도 전체를 무음으로 보지 않는다
+        assertThat(SilenceSegmenter.classify(new double[]{5000, 5000, 5000}, 300)).containsOnly(true);
+        assertThat(SilenceSegmenter.classify(new double[]{5000}, 300)).containsExactly(true);
+    }
+
+    @Test
+    void quietAudioStaysBelowMinimumThreshold() {
+        assertThat(SilenceSegmenter.classify(new double[]{100, 120, 90}, 300)).containsOnly(false);
+        assertThat(SilenceSegmenter.classify(new double[0], 300)).isEmpty();
+    }
+}
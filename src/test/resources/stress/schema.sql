@@ -0,0 +1,70 @@
+-- 부하 테스트용 기본 테이블 (식물 / 포인트 경로에서 쓰는 컬럼만)
+-- 이후 src/main/resources/db 의 변경 스크립트를 운영과 같은 순서로 적용한다
+CREATE TABLE Family_space (
+    fid         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name        VARCHAR(50),
+    invite_code VARCHAR(20),
+    combi_type  VARCHAR(20),
+    nutrial     INT      NOT NULL DEFAULT 0,
+    created_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE Users (
+    uid           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email         VARCHAR(100),
+    name          VARCHAR(50),
+    profile_image VARCHAR(255),
+    fid           BIGINT,
+    KEY idx_users_fid (fid)
+);
+
+CREATE TABLE Plant_kind (
+    kid  INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(20) NOT NULL
+);
+
+CREATE TABLE Plants (
+    pid              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    fid              BIGINT      NOT NULL,
+    kid              INT         NOT NULL,
+    level            INT         NOT NULL DEFAULT 1,
+    experience_point INT         NOT NULL DEFAULT 0,
+    is_completed     BOOLEAN     NOT NULL DEFAULT false,
+    created_at       DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    KEY idx_plants_fid (fid, created_at)
+);
+
+CREATE TABLE Point_activities (
+    paid          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    uid           BIGINT      NOT NULL,
+    fid           BIGINT      NOT NULL,
+    pid           BIGINT      NOT NULL,
+    activity_type VARCHAR(20) NOT NULL,
+    points_earned INT         NOT NULL,
+    activity_date DATE        NOT NULL,
+    description   VARCHAR(100),
+    created_at    DATETIME    NOT NULL,
+    KEY idx_point_activities_uid (uid, activity_type, activity_date),
+    KEY idx_point_activities_fid (fid, activity_type, activity_date)
+);
+
+CREATE TABLE rewards (
+    reward_id   INT PRIMARY KEY,
+    reward_name VARCHAR(50) NOT NULL,
+    description VARCHAR(255)
+);
+
+CREATE TABLE reward_log (
+    rid         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    uid         BIGINT   NOT NULL,
+    fid         BIGINT   NOT NULL,
+    pid         BIGINT   NOT NULL,
+    reward_id   INT      NOT NULL,
+    received_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    isUsed      TINYINT  NOT NULL DEFAULT 0,
+    KEY idx_reward_log_uid_pid (uid, pid)
+);
+
+INSERT INTO Plant_kind (name) VALUES ('sprout');
+INSERT INTO rewards (reward_id, reward_name, description) VALUES
+    (1, 'reward-1', 'stress'), (2, 'reward-2', 'stress'), (3, 'reward-3', 'stress'), (4, 'reward-4', 'stress');